@@ -0,0 +1,165 @@
+package io.github.etuzon.java.csv.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*************************************************
+ * Benchmark CSV data generator.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public final class CsvBenchmarkData {
+    private static final long KB = 1024;
+    private static final long MB = KB * 1024;
+    private static final long GB = MB * 1024;
+
+    private CsvBenchmarkData() {
+    }
+
+    /*********************************
+     * Parse size text as bytes amount.
+     *
+     * @param size Size text, for example 64KB, 16MB or 1GB.
+     * @return Bytes amount.
+     */
+    public static long parseSize(String size) {
+        String unit = size.substring(size.length() - 2);
+        long value = Long.parseLong(size.substring(0, size.length() - 2));
+
+        switch (unit) {
+            case "KB":
+                return value * KB;
+            case "MB":
+                return value * MB;
+            case "GB":
+                return value * GB;
+            default:
+                throw new IllegalArgumentException("Size [" + size + "] unit should be KB, MB or GB");
+        }
+    }
+
+    /*********************************
+     * Create headers of scenario.
+     *
+     * @param scenario CSV scenario.
+     * @return Header list.
+     */
+    public static List<String> createHeaders(CsvScenarioEnum scenario) {
+        List<String> headers = new ArrayList<>(scenario.getColumnsAmount());
+
+        for (int i = 0; i < scenario.getColumnsAmount(); i++) {
+            headers.add("header" + i);
+        }
+
+        return headers;
+    }
+
+    /*********************************
+     * Create row of scenario.
+     *
+     * @param scenario CSV scenario.
+     * @param cellsSplitter Cells splitter char.
+     * @param rowIndex Row index.
+     * @return Row cells.
+     */
+    public static List<String> createRow(CsvScenarioEnum scenario, char cellsSplitter, long rowIndex) {
+        List<String> row = new ArrayList<>(scenario.getColumnsAmount());
+
+        for (int i = 0; i < scenario.getColumnsAmount(); i++) {
+            row.add(createCell(scenario, cellsSplitter, rowIndex, i));
+        }
+
+        return row;
+    }
+
+    /*********************************
+     * Create rows of scenario.
+     *
+     * @param scenario CSV scenario.
+     * @param cellsSplitter Cells splitter char.
+     * @param rowsAmount Rows amount.
+     * @return Rows.
+     */
+    public static List<List<String>> createRows(
+            CsvScenarioEnum scenario, char cellsSplitter, int rowsAmount) {
+
+        List<List<String>> rows = new ArrayList<>(rowsAmount);
+
+        for (int i = 0; i < rowsAmount; i++) {
+            rows.add(createRow(scenario, cellsSplitter, i));
+        }
+
+        return rows;
+    }
+
+    /*********************************
+     * Write CSV file of scenario with headers row.
+     *
+     * @param file CSV file.
+     * @param scenario CSV scenario.
+     * @param cellsSplitter Cells splitter char.
+     * @param fileSize Minimum file size in bytes.
+     * @throws IOException in case fail write the file.
+     */
+    public static void writeCsvFile(
+            File file,
+            CsvScenarioEnum scenario,
+            char cellsSplitter,
+            long fileSize) throws IOException {
+
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+
+            writeRow(writer, createHeaders(scenario), cellsSplitter);
+
+            for (long i = 0; file.length() < fileSize; i++) {
+                writeRow(writer, createRow(scenario, cellsSplitter, i), cellsSplitter);
+
+                if (i % 1024 == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    private static String createCell(
+            CsvScenarioEnum scenario, char cellsSplitter, long rowIndex, int columnIndex) {
+
+        switch (scenario) {
+            case QUOTED:
+                return "cell" + cellsSplitter + rowIndex + " \"" + columnIndex + "\"";
+            case MULTILINE:
+                return "line " + rowIndex + "\nline " + columnIndex + "\nend";
+            default:
+                return "cell" + rowIndex + "_" + columnIndex;
+        }
+    }
+
+    private static void writeRow(Writer writer, List<String> row, char cellsSplitter) throws IOException {
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0) {
+                writer.write(cellsSplitter);
+            }
+
+            String cell = row.get(i);
+
+            if ((cell.indexOf('"') >= 0) || (cell.indexOf('\n') >= 0) || (cell.indexOf(cellsSplitter) >= 0)) {
+                writer.write('"');
+                writer.write(cell.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(cell);
+            }
+        }
+
+        writer.write('\n');
+    }
+}
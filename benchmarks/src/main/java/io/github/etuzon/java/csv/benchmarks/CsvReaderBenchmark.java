@@ -0,0 +1,158 @@
+package io.github.etuzon.java.csv.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.etuzon.java.csv.api.CsvReaderApi;
+import io.github.etuzon.java.csv.api.CsvReaderConfig;
+import io.github.etuzon.java.csv.api.CsvStreamReaderApi;
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.FileInputEnum;
+import io.github.etuzon.java.csv.enums.RowsStorageEnum;
+
+/*************************************************
+ * CSV reader benchmark.
+ * <p>
+ * Measure parsing of generated CSV file per scenario, cells splitter and file size.
+ * Run with "-prof gc" to report allocation rate.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class CsvReaderBenchmark {
+    @Param({ "NARROW", "WIDE", "QUOTED", "MULTILINE" })
+    public CsvScenarioEnum scenario;
+
+    @Param({ "COMMA", "TAB", "SPACE" })
+    public CellsSplitterEnum cellsSplitter;
+
+    @Param({ "64KB", "16MB" })
+    public String fileSize;
+
+    private File csvFile;
+    private CsvReaderApi rowsCsv;
+    private CsvReaderApi columnarCsv;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        csvFile = File.createTempFile("csv-reader-benchmark", ".csv");
+        CsvBenchmarkData.writeCsvFile(
+                csvFile, scenario, cellsSplitter.getChar(), CsvBenchmarkData.parseSize(fileSize));
+
+        rowsCsv = readCsv(RowsStorageEnum.ROWS);
+        columnarCsv = readCsv(RowsStorageEnum.COLUMNAR);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsv() throws IOException {
+        return new CsvReaderApi(csvFile.getPath(), cellsSplitter).getRows();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsvMemoryMapped() throws Exception {
+        return new CsvReaderApi(
+                csvFile.getPath(),
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setFileInput(FileInputEnum.MEMORY_MAPPED)).getRows();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsvParallel() throws Exception {
+        return new CsvReaderApi(
+                csvFile.getPath(),
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setParallelism(Runtime.getRuntime().availableProcessors())).getRows();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsvColumnar() throws Exception {
+        return readCsv(RowsStorageEnum.COLUMNAR).getRows();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsvLazy() throws Exception {
+        return readCsv(RowsStorageEnum.LAZY).getRows();
+    }
+
+    @Benchmark
+    public List<List<String>> readCsvProjection() throws Exception {
+        return new CsvReaderApi(
+                csvFile.getPath(),
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setProjectionColumns(0)).getRows();
+    }
+
+    // Predicate reject all rows, so only the scan cost is measured
+    @Benchmark
+    public List<List<String>> readCsvColumnPredicate() throws Exception {
+        return new CsvReaderApi(
+                csvFile.getPath(),
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .addColumnPredicate(0, cell -> cell.length() == 0)).getRows();
+    }
+
+    @Benchmark
+    public void getAllColumns(Blackhole blackhole) {
+        getAllColumns(blackhole, rowsCsv);
+    }
+
+    @Benchmark
+    public void getAllColumnsColumnar(Blackhole blackhole) {
+        getAllColumns(blackhole, columnarCsv);
+    }
+
+    @Benchmark
+    public void streamCsv(Blackhole blackhole) throws IOException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(csvFile.getPath(), cellsSplitter)) {
+            while (csv.hasNext()) {
+                blackhole.consume(csv.next());
+            }
+        }
+    }
+
+    private CsvReaderApi readCsv(RowsStorageEnum rowsStorage) throws Exception {
+        return new CsvReaderApi(
+                csvFile.getPath(),
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setRowsStorage(rowsStorage));
+    }
+
+    private void getAllColumns(Blackhole blackhole, CsvReaderApi csv) {
+        for (String headerName : csv.getHeaderList()) {
+            blackhole.consume(csv.getColumn(headerName));
+        }
+    }
+}
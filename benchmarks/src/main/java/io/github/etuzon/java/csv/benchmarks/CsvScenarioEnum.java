@@ -0,0 +1,36 @@
+package io.github.etuzon.java.csv.benchmarks;
+
+/*********************************
+ * Benchmark CSV content scenario enum.
+ * <p>
+ * NARROW rows of few short cells.
+ * WIDE rows of many short cells.
+ * QUOTED cells that contain cells splitter and inverted commas.
+ * MULTILINE cells that contain line feeds.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum CsvScenarioEnum {
+    NARROW(5), WIDE(80), QUOTED(8), MULTILINE(8);
+
+    private final int columnsAmount;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param columnsAmount Columns amount of the scenario rows.
+     */
+    private CsvScenarioEnum(int columnsAmount) {
+        this.columnsAmount = columnsAmount;
+    }
+
+    /*********************************
+     * Get columns amount of the scenario rows.
+     *
+     * @return Columns amount.
+     */
+    public int getColumnsAmount() {
+        return columnsAmount;
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.etuzon.java.csv.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.etuzon.java.csv.api.CsvAsyncWriterApi;
+import io.github.etuzon.java.csv.api.CsvStreamWriterApi;
+import io.github.etuzon.java.csv.api.CsvWriterApi;
+import io.github.etuzon.java.csv.api.CsvWriterConfig;
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.FileOutputEnum;
+
+/*************************************************
+ * CSV writer benchmark.
+ * <p>
+ * Measure {@link CsvWriterApi#save()} of generated rows per scenario, cells splitter and rows amount.
+ * Run with "-prof gc" to report allocation rate.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvWriterBenchmark {
+    @Param({ "NARROW", "WIDE", "QUOTED", "MULTILINE" })
+    public CsvScenarioEnum scenario;
+
+    @Param({ "COMMA", "TAB", "SPACE" })
+    public CellsSplitterEnum cellsSplitter;
+
+    @Param({ "1000", "100000" })
+    public int rowsAmount;
+
+    private File csvFile;
+    private List<String> headers;
+    private List<List<String>> rows;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        csvFile = File.createTempFile("csv-writer-benchmark", ".csv");
+        headers = CsvBenchmarkData.createHeaders(scenario);
+        rows = CsvBenchmarkData.createRows(scenario, cellsSplitter.getChar(), rowsAmount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Benchmark
+    public File saveCsv() throws Exception {
+        CsvWriterApi csv = new CsvWriterApi(csvFile.getPath(), cellsSplitter);
+        csv.setHeaders(headers);
+        csv.addRows(rows);
+        csv.save();
+
+        return csvFile;
+    }
+
+    @Benchmark
+    public File saveCsvFileChannel() throws Exception {
+        return saveCsv(FileOutputEnum.CHANNEL);
+    }
+
+    @Benchmark
+    public File saveCsvMemoryMapped() throws Exception {
+        return saveCsv(FileOutputEnum.MEMORY_MAPPED);
+    }
+
+    @Benchmark
+    public File writeCsvStream() throws Exception {
+        try (CsvStreamWriterApi csv = new CsvStreamWriterApi(csvFile.getPath(), cellsSplitter)) {
+            csv.setHeaders(headers);
+            csv.addRows(rows);
+        }
+
+        return csvFile;
+    }
+
+    @Benchmark
+    public File writeCsvAsync() throws Exception {
+        try (CsvAsyncWriterApi csv = new CsvAsyncWriterApi(csvFile.getPath(), cellsSplitter)) {
+            csv.setHeaders(headers);
+            csv.addRows(rows);
+        }
+
+        return csvFile;
+    }
+
+    private File saveCsv(FileOutputEnum fileOutput) throws Exception {
+        CsvWriterApi csv = new CsvWriterApi(
+                csvFile.getPath(),
+                new CsvWriterConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setFileOutput(fileOutput));
+        csv.setHeaders(headers);
+        csv.addRows(rows);
+        csv.save();
+
+        return csvFile;
+    }
+}
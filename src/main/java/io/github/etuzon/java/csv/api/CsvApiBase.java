@@ -1,9 +1,12 @@
 package io.github.etuzon.java.csv.api;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.parser.CellValueParser;
 import io.github.etuzon.projects.core.base.ObjectBase;
 
 /***********************************************
@@ -16,10 +19,12 @@ public abstract class CsvApiBase extends ObjectBase {
 
     protected final String filePath;
     protected List<String> headerList = new ArrayList<>();
-    protected final List<List<String>> csvRows = new ArrayList<>();
+    protected List<List<String>> csvRows = new ArrayList<>();
     
     protected final char cellsSplitter;
-    
+
+    private final Map<String, Integer> headerIndexMap = new HashMap<>();
+
     /***********************************************
      * Constructor.
      * 
@@ -30,4 +35,146 @@ public abstract class CsvApiBase extends ObjectBase {
         this.filePath = filePath;
         this.cellsSplitter = cellsSplitter;
     }
-}
\ No newline at end of file
+
+    /***********************************************
+     * Update header index map from header list.
+     * Should be called after header list is set.
+     * <p>
+     * In case of duplicate headers, the first header index is kept.
+     */
+    protected void updateHeaderIndexMap() {
+        headerIndexMap.clear();
+
+        for (int i = 0; i < headerList.size(); i++) {
+            headerIndexMap.putIfAbsent(headerList.get(i), i);
+        }
+    }
+
+    /***********************************************
+     * Get column index that it's header is 'headerName' from header index map.
+     *
+     * @param headerName Header name.
+     * @return Column index. Return -1 in case header not exist.
+     */
+    protected int getHeaderIndex(String headerName) {
+        Integer index = headerIndexMap.get(headerName);
+
+        return index == null ? -1 : index;
+    }
+
+    /***********************************************
+     * Get column index that it's header is 'headerName'.
+     *
+     * @param headerName Header name.
+     * @return Column index.
+     * @throws IndexOutOfBoundsException in case header not exist.
+     */
+    protected int getExistHeaderIndex(String headerName) throws IndexOutOfBoundsException {
+        int index = getHeaderIndex(headerName);
+
+        if (index == -1) {
+            throw new IndexOutOfBoundsException(
+                    "Column [" + headerName + "] not exist in CSV [" + filePath + "]");
+        }
+
+        return index;
+    }
+
+    /***********************************************
+     * Validate that empty cell is allowed.
+     *
+     * @param isEmptyAllowed true in case empty cell is allowed.
+     * @param headerName Cell header name.
+     * @param rowIndex Cell row index.
+     * @throws NumberFormatException in case empty cell is not allowed.
+     */
+    protected void validateEmptyCellAllowed(
+            boolean isEmptyAllowed, String headerName, long rowIndex) throws NumberFormatException {
+
+        if (!isEmptyAllowed) {
+            throw new NumberFormatException(
+                    "Cell in row index [" + rowIndex + "] of column [" + headerName
+                    + "] in CSV [" + filePath + "] is empty");
+        }
+    }
+
+    /***********************************************
+     * Parse int cell.
+     *
+     * @param cell Cell chars.
+     * @param headerName Cell header name.
+     * @param rowIndex Cell row index.
+     * @return Int value.
+     * @throws NumberFormatException in case cell is not a valid int.
+     */
+    protected int parseIntCell(CharSequence cell, String headerName, long rowIndex) throws NumberFormatException {
+        try {
+            return CellValueParser.parseInt(cell);
+        } catch (NumberFormatException e) {
+            throw createCellFormatException(e, headerName, rowIndex);
+        }
+    }
+
+    /***********************************************
+     * Parse long cell.
+     *
+     * @param cell Cell chars.
+     * @param headerName Cell header name.
+     * @param rowIndex Cell row index.
+     * @return Long value.
+     * @throws NumberFormatException in case cell is not a valid long.
+     */
+    protected long parseLongCell(CharSequence cell, String headerName, long rowIndex) throws NumberFormatException {
+        try {
+            return CellValueParser.parseLong(cell);
+        } catch (NumberFormatException e) {
+            throw createCellFormatException(e, headerName, rowIndex);
+        }
+    }
+
+    /***********************************************
+     * Parse double cell.
+     *
+     * @param cell Cell chars.
+     * @param headerName Cell header name.
+     * @param rowIndex Cell row index.
+     * @return Double value.
+     * @throws NumberFormatException in case cell is not a valid double.
+     */
+    protected double parseDoubleCell(
+            CharSequence cell, String headerName, long rowIndex) throws NumberFormatException {
+
+        try {
+            return CellValueParser.parseDouble(cell);
+        } catch (NumberFormatException e) {
+            throw createCellFormatException(e, headerName, rowIndex);
+        }
+    }
+
+    /***********************************************
+     * Parse boolean cell.
+     *
+     * @param cell Cell chars.
+     * @param headerName Cell header name.
+     * @param rowIndex Cell row index.
+     * @return Boolean value.
+     * @throws NumberFormatException in case cell is not "true" or "false".
+     */
+    protected boolean parseBooleanCell(
+            CharSequence cell, String headerName, long rowIndex) throws NumberFormatException {
+
+        try {
+            return CellValueParser.parseBoolean(cell);
+        } catch (NumberFormatException e) {
+            throw createCellFormatException(e, headerName, rowIndex);
+        }
+    }
+
+    private NumberFormatException createCellFormatException(
+            NumberFormatException e, String headerName, long rowIndex) {
+
+        return new NumberFormatException(
+                "Cell in row index [" + rowIndex + "] of column [" + headerName
+                + "] in CSV [" + filePath + "] is invalid. " + e.getMessage());
+    }
+}
@@ -0,0 +1,489 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.jfr.CsvSaveEvent;
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*********************************************
+ * CSV asynchronous writer API.
+ * <p>
+ * Create CSV file and write headers and rows to the file in background threads,
+ * so producers are not blocked by encoding and file writes.
+ * In case the file already exists than the file will be overwritten.
+ * <p>
+ * Rows are written in a pipeline:
+ * producers add rows to a bounded queue, encoder thread encode the rows into chars buffers,
+ * and writer thread write the full buffers to the file.
+ * Encoder and writer use two buffers, so encoding of one buffer overlap writing of the other.
+ * File output and metrics listener of {@link CsvWriterConfig} are used by the writer thread,
+ * and {@link #close()} commit {@link CsvSaveEvent} when all rows were written.
+ * <p>
+ * Producers are blocked when the rows queue is full.
+ * Rows of multiple producer threads are written in the order they were added to the queue.
+ * Failure of the encoder or writer thread fail the next {@link #addRow(List)} and {@link #close()},
+ * and complete {@link #getCompletion()} exceptionally.
+ *
+ * @author Eyal Tuzon
+ */
+public class CsvAsyncWriterApi extends CsvWriterBase implements Closeable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_BUFFER_SIZE = CsvRowEncoder.DEFAULT_BUFFER_SIZE;
+
+    private static final int BUFFERS_AMOUNT = 2;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final List<String> END_OF_ROWS = new ArrayList<>();
+    private static final Chunk END_OF_CHUNKS = new Chunk(new char[0]);
+
+    private final BlockingQueue<List<String>> rows;
+    private final BlockingQueue<Chunk> freeChunks = new ArrayBlockingQueue<>(BUFFERS_AMOUNT);
+    private final BlockingQueue<Chunk> fullChunks = new ArrayBlockingQueue<>(BUFFERS_AMOUNT + 1);
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private final CountDownLatch fileClosed = new CountDownLatch(1);
+    private final CsvRowEncoder encoder;
+    private Writer fileWriter;
+
+    private long rowsAmount = 0;
+    private boolean isSetHeaders = false;
+    private boolean isClosed = false;
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvAsyncWriterApi(String filePath) throws IOException {
+        this(filePath, CELLS_DEFAULT_SPLITTER);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter enum.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvAsyncWriterApi(String filePath, CellsSplitterEnum cellsSplitter) throws IOException {
+        this(filePath, cellsSplitter.getChar());
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvAsyncWriterApi(String filePath, char cellsSplitter) throws IOException {
+        this(filePath,
+                new CsvWriterConfig().setCellsSplitter(cellsSplitter),
+                DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_BUFFER_SIZE);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @param queueCapacity Maximum amount of rows that wait to be encoded.
+     * @param bufferSize Size in chars of each encoded rows buffer.
+     * @throws IOException in case fail to create CSV file.
+     * @throws InvalidValueException in case queue capacity or buffer size is not positive.
+     */
+    public CsvAsyncWriterApi(
+            String filePath,
+            char cellsSplitter,
+            int queueCapacity,
+            int bufferSize) throws IOException, InvalidValueException {
+
+        // Values are validated before CSV file is created
+        this(filePath,
+                new CsvWriterConfig().setCellsSplitter(cellsSplitter),
+                validatePositive(queueCapacity),
+                validatePositive(bufferSize));
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV writer configuration. Buffer size is the size in chars of each encoded rows buffer.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvAsyncWriterApi(String filePath, CsvWriterConfig config) throws IOException {
+        this(filePath, config, DEFAULT_QUEUE_CAPACITY, config.getBufferSize());
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV writer configuration. Buffer size is the size in chars of each encoded rows buffer.
+     * @param queueCapacity Maximum amount of rows that wait to be encoded.
+     * @throws IOException in case fail to create CSV file.
+     * @throws InvalidValueException in case queue capacity is not positive.
+     */
+    public CsvAsyncWriterApi(
+            String filePath,
+            CsvWriterConfig config,
+            int queueCapacity) throws IOException, InvalidValueException {
+
+        this(filePath, config, validatePositive(queueCapacity), config.getBufferSize());
+    }
+
+    private CsvAsyncWriterApi(
+            String filePath, CsvWriterConfig config, int queueCapacity, int bufferSize) throws IOException {
+
+        super(filePath, config.getCellsSplitter());
+
+        rows = new ArrayBlockingQueue<>(queueCapacity);
+        encoder = config.openEncoder(filePath, writer -> {
+            fileWriter = writer;
+            return new ChunkWriter();
+        });
+
+        for (int i = 0; i < BUFFERS_AMOUNT; i++) {
+            freeChunks.add(new Chunk(new char[bufferSize]));
+        }
+
+        startThread(this::encodeRows, "csv-async-encoder");
+        startThread(this::writeChunks, "csv-async-writer");
+    }
+
+    /*********************************************
+     * Set CSV headers and add them to the file.
+     * Headers can be set only one time, before adding rows.
+     *
+     * @param headerList Header list.
+     * @throws CsvOperationException in case headers already set, rows already added, or CSV file is closed.
+     * @throws InvalidValueException in case header list is null.
+     * @throws IOException in case writing CSV file failed.
+     */
+    public synchronized void setHeaders(
+            final List<String> headerList) throws CsvOperationException, InvalidValueException, IOException {
+
+        if (isSetHeaders) {
+            throw new CsvOperationException("Headers already set and cannot set multiple times");
+        }
+
+        if (rowsAmount > 0) {
+            throw new CsvOperationException("Headers cannot be set after rows were added");
+        }
+
+        validateNotClosed();
+        validateNotNull(headerList);
+
+        isSetHeaders = true;
+
+        super.headerList = headerList;
+
+        updateRowSizeAfterUpdateHeaderList();
+        enqueue(headerList);
+    }
+
+    /*********************************************
+     * Add a row to CSV body.
+     * <p>
+     * Row is written in background, and it should not be changed after it was added.
+     * Method block while the rows queue is full.
+     *
+     * @param row A row of cells.
+     * @throws InvalidValueException in case row is null or row size is different
+     *         from previous headers amount or rows size.
+     * @throws CsvOperationException in case CSV file is closed.
+     * @throws IOException in case writing CSV file failed.
+     */
+    public synchronized void addRow(
+            List<String> row) throws InvalidValueException, CsvOperationException, IOException {
+
+        validateNotClosed();
+        validateNotNull(row);
+        updateRowSizeBeforeUpdateRow(row);
+        enqueue(row);
+        rowsAmount++;
+    }
+
+    /*********************************************
+     * Add rows to CSV body.
+     *
+     * @param rowList List of rows.
+     * @throws InvalidValueException in case rowList is null.
+     * @throws CsvOperationException in case CSV file is closed.
+     * @throws IOException in case writing CSV file failed.
+     */
+    public void addRows(
+            List<List<String>> rowList) throws InvalidValueException, CsvOperationException, IOException {
+
+        validateNotNull(rowList);
+
+        for (List<String> row : rowList) {
+            addRow(row);
+        }
+    }
+
+    /*********************************************
+     * Get amount of rows that were added. Not include headers row.
+     *
+     * @return Rows amount.
+     */
+    public synchronized long getRowsAmount() {
+        return rowsAmount;
+    }
+
+    /*********************************************
+     * Is CSV file closed.
+     *
+     * @return true in case CSV file was closed, else return false.
+     */
+    public synchronized boolean isClosed() {
+        return isClosed;
+    }
+
+    /*********************************************
+     * Get future that is completed when all rows were written and CSV file was closed.
+     * <p>
+     * Future is completed after {@link #close()}, with the amount of written rows.
+     * In case writing failed, future is completed exceptionally.
+     *
+     * @return Completion future.
+     */
+    public CompletableFuture<Long> getCompletion() {
+        return completion;
+    }
+
+    /*********************************************
+     * Close CSV file.
+     * <p>
+     * Method wait until all added rows were written and CSV file was closed.
+     *
+     * @throws IOException in case writing CSV file failed.
+     */
+    @Override
+    public void close() throws IOException {
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        boolean isClosing = false;
+
+        synchronized (this) {
+            if (!isClosed) {
+                isClosed = true;
+                isClosing = true;
+                enqueue(END_OF_ROWS);
+            }
+        }
+
+        try {
+            long writtenRowsAmount = completion.get();
+
+            if (isClosing) {
+                event.commit(filePath, encoder.getBytesAmount(), writtenRowsAmount, false);
+            }
+        } catch (ExecutionException e) {
+            throw createWriteException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Closing CSV file [" + filePath + "] was interrupted");
+        }
+    }
+
+    private void encodeRows() {
+        try {
+            List<String> row = take(rows);
+
+            while (row != END_OF_ROWS) {
+                encoder.writeRow(row);
+                row = take(rows);
+            }
+
+            // Encoder is closed only on success, so writer thread does not complete a failed file
+            encoder.close();
+        } catch (Throwable e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+
+        completion.complete(getRowsAmount());
+    }
+
+    private void writeChunks() {
+        try (Writer writer = fileWriter) {
+            Chunk chunk = take(fullChunks);
+
+            while (chunk != END_OF_CHUNKS) {
+                writer.write(chunk.chars, 0, chunk.length);
+                chunk.length = 0;
+                put(freeChunks, chunk);
+                chunk = take(fullChunks);
+            }
+        } catch (Throwable e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+
+        fileClosed.countDown();
+    }
+
+    private void enqueue(List<String> row) throws IOException {
+        validateNotFailed();
+
+        try {
+            put(rows, row);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Adding row to CSV file [" + filePath + "] was interrupted");
+        }
+    }
+
+    private <T> void put(BlockingQueue<T> queue, T value) throws IOException, InterruptedException {
+        while (!queue.offer(value, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            validateNotFailed();
+        }
+    }
+
+    private <T> T take(BlockingQueue<T> queue) throws IOException, InterruptedException {
+        T value = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        while (value == null) {
+            validateNotFailed();
+            value = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        return value;
+    }
+
+    private void validateNotFailed() throws IOException {
+        if (completion.isCompletedExceptionally()) {
+            try {
+                completion.join();
+            } catch (RuntimeException e) {
+                throw createWriteException(e.getCause());
+            }
+        }
+    }
+
+    private IOException createWriteException(Throwable cause) {
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+
+        return new IOException("Fail write CSV file [" + filePath + "]", cause);
+    }
+
+    private void validateNotClosed() throws CsvOperationException {
+        if (isClosed) {
+            throw new CsvOperationException(
+                    "CSV file [" + filePath + "] already been closed");
+        }
+    }
+
+    private static int validatePositive(int value) throws InvalidValueException {
+        if (value < 1) {
+            throw new InvalidValueException(
+                    "Value [" + value + "] should be positive");
+        }
+
+        return value;
+    }
+
+    private static void startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /*********************************************
+     * Chars buffer of encoded rows.
+     */
+    private static class Chunk {
+        private final char[] chars;
+        private int length = 0;
+
+        private Chunk(char[] chars) {
+            this.chars = chars;
+        }
+    }
+
+    /*********************************************
+     * Writer that copy encoded chars to free chunks, and pass full chunks to the writer thread.
+     * <p>
+     * Writer is closed after the writer thread closed the file,
+     * so the encoder count all the bytes of the file.
+     */
+    private class ChunkWriter extends Writer {
+        private Chunk chunk = null;
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            try {
+                while (length > 0) {
+                    if (chunk == null) {
+                        chunk = take(freeChunks);
+                    }
+
+                    int amount = Math.min(length, chunk.chars.length - chunk.length);
+                    System.arraycopy(chars, offset, chunk.chars, chunk.length, amount);
+                    chunk.length += amount;
+                    offset += amount;
+                    length -= amount;
+
+                    if (chunk.length == chunk.chars.length) {
+                        flush();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Encoding CSV file [" + filePath + "] was interrupted");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if ((chunk != null) && (chunk.length > 0)) {
+                enqueueChunk(chunk);
+                chunk = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            enqueueChunk(END_OF_CHUNKS);
+
+            try {
+                while (!fileClosed.await(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    validateNotFailed();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Closing CSV file [" + filePath + "] was interrupted");
+            }
+        }
+
+        private void enqueueChunk(Chunk value) throws IOException {
+            try {
+                put(fullChunks, value);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Encoding CSV file [" + filePath + "] was interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.RowsOrderEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.jfr.CsvSaveEvent;
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*********************************************
+ * CSV concurrent writer API.
+ * <p>
+ * Create CSV file from rows that are added by multiple threads.
+ * In case the file already exists than the file will be overwritten.
+ * <p>
+ * Each thread add rows to its own buffer without locks, and the buffers are merged
+ * when CSV file is saved, so adding rows scale with the amount of threads.
+ * {@link RowsOrderEnum#ORDERED} give each row a sequence number, and rows are saved
+ * in the order they were added by all threads.
+ * {@link RowsOrderEnum#UNORDERED} save the rows of each thread together.
+ * <p>
+ * The file will be created only after execute {@link #save()} method, that can be executed only one time.
+ * Rows that are added while {@link #save()} is running are not saved.
+ *
+ * @author Eyal Tuzon
+ */
+public class CsvConcurrentWriterApi extends CsvWriterBase {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final CsvWriterConfig config;
+    private final RowsOrderEnum rowsOrder;
+    private final ThreadLocal<RowsBuffer> threadBuffer = new ThreadLocal<>();
+    private final Queue<RowsBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger rowSize = new AtomicInteger(-1);
+
+    private volatile boolean isCsvSaved = false;
+    private boolean isSetHeaders = false;
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param rowsOrder Order of the saved rows.
+     */
+    public CsvConcurrentWriterApi(String filePath, RowsOrderEnum rowsOrder) {
+        this(filePath, CELLS_DEFAULT_SPLITTER, rowsOrder);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter enum.
+     * @param rowsOrder Order of the saved rows.
+     */
+    public CsvConcurrentWriterApi(String filePath, CellsSplitterEnum cellsSplitter, RowsOrderEnum rowsOrder) {
+        this(filePath, cellsSplitter.getChar(), rowsOrder);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @param rowsOrder Order of the saved rows.
+     */
+    public CsvConcurrentWriterApi(String filePath, char cellsSplitter, RowsOrderEnum rowsOrder) {
+        this(filePath, new CsvWriterConfig().setCellsSplitter(cellsSplitter), rowsOrder);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV writer configuration.
+     * @param rowsOrder Order of the saved rows.
+     */
+    public CsvConcurrentWriterApi(String filePath, CsvWriterConfig config, RowsOrderEnum rowsOrder) {
+        super(filePath, config.getCellsSplitter());
+        this.config = config;
+        this.rowsOrder = rowsOrder;
+    }
+
+    /*********************************************
+     * Set CSV headers.
+     * Headers can be set only one time.
+     *
+     * @param headerList Header list.
+     * @throws CsvOperationException in case headers already set, or CSV file already been saved.
+     * @throws InvalidValueException in case header list is null or headers amount is different from row size.
+     */
+    public synchronized void setHeaders(
+            final List<String> headerList) throws CsvOperationException, InvalidValueException {
+
+        if (isSetHeaders) {
+            throw new CsvOperationException("Headers already set and cannot set multiple times");
+        }
+
+        if (isCsvSaved) {
+            throw new CsvOperationException("Headers cannot be set after save CSV file");
+        }
+
+        validateNotNull(headerList);
+
+        if ((!rowSize.compareAndSet(-1, headerList.size())) && (rowSize.get() != headerList.size())) {
+            throw new InvalidValueException(
+                    "Headers amount [" + headerList.size()
+                    + "] is different from CSV previous updated rows size [" + rowSize.get() + "]");
+        }
+
+        isSetHeaders = true;
+
+        super.headerList = headerList;
+    }
+
+    /*********************************************
+     * Add a row to CSV body.
+     * <p>
+     * Method can be called by multiple threads. Row should not be changed after it was added.
+     *
+     * @param row A row of cells.
+     * @throws InvalidValueException in case row is null or row size is different
+     *         from previous headers amount or rows size.
+     * @throws CsvOperationException in case CSV file already been saved.
+     */
+    public void addRow(List<String> row) throws InvalidValueException, CsvOperationException {
+        if (isCsvSaved) {
+            throw new CsvOperationException(
+                    "Row cannot be added because CSV file [" + filePath + "] already been saved");
+        }
+
+        validateNotNull(row);
+        validateRowSize(row);
+
+        RowsBuffer buffer = threadBuffer.get();
+
+        if (buffer == null) {
+            buffer = new RowsBuffer();
+            threadBuffer.set(buffer);
+            buffers.add(buffer);
+        }
+
+        long rowSequence = rowsOrder == RowsOrderEnum.ORDERED ? sequence.getAndIncrement() : 0;
+        buffer.add(row, rowSequence);
+    }
+
+    /*********************************************
+     * Add rows to CSV body.
+     *
+     * @param rowList List of rows.
+     * @throws InvalidValueException in case rowList is null.
+     * @throws CsvOperationException in case CSV file already been saved.
+     */
+    public void addRows(List<List<String>> rowList) throws InvalidValueException, CsvOperationException {
+        validateNotNull(rowList);
+
+        for (List<String> row : rowList) {
+            addRow(row);
+        }
+    }
+
+    /*********************************************
+     * Get amount of rows that were added. Not include headers row.
+     *
+     * @return Rows amount.
+     */
+    public long getRowsAmount() {
+        long rowsAmount = 0;
+
+        for (RowsBuffer buffer : buffers) {
+            rowsAmount += buffer.size();
+        }
+
+        return rowsAmount;
+    }
+
+    /*********************************************
+     * Get order of the saved rows.
+     *
+     * @return Rows order enum.
+     */
+    public RowsOrderEnum getRowsOrder() {
+        return rowsOrder;
+    }
+
+    /*********************************************
+     * Save CSV to file.
+     * The file will be overwritten in case it is already exists.
+     * <p>
+     * The file can be saved only one time, after all threads finished adding rows.
+     *
+     * @throws IOException in case fail to save CSV file.
+     * @throws CsvOperationException in case CSV file already been saved.
+     */
+    public synchronized void save() throws IOException, CsvOperationException {
+        if (isCsvSaved) {
+            throw new CsvOperationException("CSV file [" + filePath + "] already been saved");
+        }
+
+        isCsvSaved = true;
+
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        CsvRowEncoder encoder;
+        long rowsAmount = 0;
+
+        try {
+            encoder = config.openEncoder(filePath);
+
+            try (encoder) {
+                if (!headerList.isEmpty()) {
+                    encoder.writeRow(headerList);
+                }
+
+                for (List<String> row : mergeBuffers()) {
+                    encoder.writeRow(row);
+                    rowsAmount++;
+                }
+            }
+        } finally {
+            // Thread local entries of pooled threads keep their buffers, so the rows are released here
+            for (RowsBuffer buffer : buffers) {
+                buffer.clear();
+            }
+
+            threadBuffer.remove();
+            buffers.clear();
+        }
+
+        event.commit(filePath, encoder.getBytesAmount(), rowsAmount, false);
+    }
+
+    /*********************************************
+     * Is {@link #save()} was executed.
+     *
+     * @return true in case CSV file was saved, else return false.
+     */
+    public boolean isCsvSaved() {
+        return isCsvSaved;
+    }
+
+    private void validateRowSize(List<String> row) throws InvalidValueException {
+        int size = rowSize.get();
+
+        if ((size == -1) && (rowSize.compareAndSet(-1, row.size()))) {
+            return;
+        }
+
+        size = rowSize.get();
+
+        if (size != row.size()) {
+            throw new InvalidValueException("Current row size [" + row.size()
+                    + "] is different from CSV previous updated row size [" + size + "]");
+        }
+    }
+
+    private List<List<String>> mergeBuffers() {
+        if (rowsOrder == RowsOrderEnum.UNORDERED) {
+            List<List<String>> rows = new ArrayList<>();
+
+            for (RowsBuffer buffer : buffers) {
+                buffer.addRowsTo(rows);
+            }
+
+            return rows;
+        }
+
+        // Sequence numbers are unique and dense, so each row is placed in its sequence index
+        List<String>[] rows = createRowsArray((int) sequence.get());
+        int rowsAmount = 0;
+
+        for (RowsBuffer buffer : buffers) {
+            rowsAmount += buffer.placeRowsIn(rows);
+        }
+
+        return rowsAmount == rows.length
+                ? Arrays.asList(rows)
+                : Arrays.asList(Arrays.stream(rows).filter(row -> row != null).toArray(this::createRowsArray));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<String>[] createRowsArray(int size) {
+        return new List[size];
+    }
+
+    /*********************************************
+     * Rows that were added by one thread, with their sequence numbers.
+     */
+    private static class RowsBuffer {
+        private static final Object[] EMPTY_ROWS = new Object[0];
+        private static final long[] EMPTY_SEQUENCES = new long[0];
+
+        private Object[] rows = new Object[INITIAL_BUFFER_SIZE];
+        private long[] sequences = new long[INITIAL_BUFFER_SIZE];
+        private volatile int size = 0;
+
+        private void add(List<String> row, long sequence) {
+            int index = size;
+
+            if (index == rows.length) {
+                int length = Math.max(index * 2, INITIAL_BUFFER_SIZE);
+                rows = Arrays.copyOf(rows, length);
+                sequences = Arrays.copyOf(sequences, length);
+            }
+
+            rows[index] = row;
+            sequences[index] = sequence;
+            // Volatile write publish the row to the thread that save the file
+            size = index + 1;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void clear() {
+            size = 0;
+            rows = EMPTY_ROWS;
+            sequences = EMPTY_SEQUENCES;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addRowsTo(List<List<String>> target) {
+            int amount = size;
+
+            for (int i = 0; i < amount; i++) {
+                target.add((List<String>) rows[i]);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int placeRowsIn(List<String>[] target) {
+            int amount = size;
+            int placedAmount = 0;
+
+            for (int i = 0; i < amount; i++) {
+                // Rows that were added while saving are not saved
+                if (sequences[i] < target.length) {
+                    target[(int) sequences[i]] = (List<String>) rows[i];
+                    placedAmount++;
+                }
+            }
+
+            return placedAmount;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.etuzon.java.csv.index.CsvRowOffsetIndex;
+import io.github.etuzon.java.csv.parser.CsvParser;
+import io.github.etuzon.java.csv.parser.MappedFileReader;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * Read CSV file rows by index, without parsing the whole file.
+ * <p>
+ * Reader use {@link CsvRowOffsetIndex}, that is loaded from its sidecar file, or built and saved
+ * in case the sidecar file not exist or CSV file was changed.
+ * Each read map only the file region between the indexed records around the requested rows,
+ * and parse the records from the nearest indexed record, so a row is read in
+ * at most 'step' records parsing.
+ * <p>
+ * Cells splitter, headers, record and cell maximum size and projection are taken from the configuration.
+ * Predicates and dictionaries are not used.
+ * <p>
+ * CSV file should not be changed while it is read.
+ * CSV random access reader API is not thread safe, and should be closed after use.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvRandomAccessReaderApi extends CsvApiBase implements Closeable {
+    private final CsvReaderConfig config;
+    private final CsvRowOffsetIndex index;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+
+    private List<String> fileHeaderList = new ArrayList<>();
+    private final long firstRowRecordIndex;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvRandomAccessReaderApi(String filePath) throws IOException {
+        this(filePath, new CsvReaderConfig());
+    }
+
+    /*********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV reader configuration.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvRandomAccessReaderApi(String filePath, CsvReaderConfig config) throws IOException {
+        this(filePath, config, CsvRowOffsetIndex.DEFAULT_STEP);
+    }
+
+    /*********************************
+     * Constructor.
+     * <p>
+     * In case CSV contain headers, headers row is parsed in constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV reader configuration.
+     * @param indexStep Amount of records between indexed records. 1 index all records.
+     * @throws IOException in case fail read CSV file, or index step is not positive
+     *                     or cells splitter is not ASCII char.
+     */
+    public CsvRandomAccessReaderApi(String filePath, CsvReaderConfig config, int indexStep) throws IOException {
+        super(filePath, config.getCellsSplitter());
+
+        this.config = config;
+
+        try {
+            index = CsvRowOffsetIndex.open(filePath, cellsSplitter, indexStep);
+        } catch (InvalidValueException e) {
+            throw new IOException("Fail index CSV file [" + filePath + "]. " + e.getMessage(), e);
+        }
+
+        file = openFile();
+        channel = file.getChannel();
+
+        try {
+            if ((config.isCsvContainHeaders()) && (index.getRecordsAmount() > 0)) {
+                setHeaderList();
+                firstRowRecordIndex = 1;
+            } else {
+                firstRowRecordIndex = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /******************************
+     * Get header list.
+     *
+     * @return String list of CSV headers.
+     */
+    public List<String> getHeaderList() {
+        return headerList;
+    }
+
+    /******************************
+     * Get column index that it's header is 'headerName'. First index is 0.
+     *
+     * @param headerName Header name.
+     * @return Column index. Return -1 in case header not exist.
+     */
+    public int getColumnIndex(String headerName) {
+        return getHeaderIndex(headerName);
+    }
+
+    /******************************
+     * Get CSV rows amount. Not include headers line.
+     *
+     * @return CSV rows amount.
+     */
+    public long getRowsAmount() {
+        return index.getRecordsAmount() - firstRowRecordIndex;
+    }
+
+    /******************************
+     * Get CSV row offset index.
+     *
+     * @return Row offset index.
+     */
+    public CsvRowOffsetIndex getIndex() {
+        return index;
+    }
+
+    /******************************
+     * Get row by index. First index is 0.
+     *
+     * @param index Row index.
+     * @return Row cells.
+     * @throws IndexOutOfBoundsException Row index is out of bound.
+     * @throws IOException in case fail read CSV file.
+     */
+    public List<String> getRow(long index) throws IndexOutOfBoundsException, IOException {
+        return getRows(index, 1).get(0);
+    }
+
+    /******************************
+     * Get rows by index range.
+     *
+     * @param fromIndex First row index. First index is 0.
+     * @param amount Maximum rows amount. Less rows are returned in case CSV file end before.
+     * @return Rows cells.
+     * @throws IndexOutOfBoundsException First row index is out of bound.
+     * @throws IOException in case fail read CSV file.
+     */
+    public List<List<String>> getRows(long fromIndex, int amount) throws IndexOutOfBoundsException, IOException {
+        if ((fromIndex < 0) || (fromIndex >= getRowsAmount())) {
+            throw new IndexOutOfBoundsException(
+                    "Row index [" + fromIndex + "] is out of rows amount [" + getRowsAmount()
+                    + "] of CSV file [" + filePath + "]");
+        }
+
+        int rowsAmount = (int) Math.min(amount, getRowsAmount() - fromIndex);
+
+        if (rowsAmount < 1) {
+            return new ArrayList<>();
+        }
+
+        return readRecords(fromIndex + firstRowRecordIndex, rowsAmount);
+    }
+
+    /******************************
+     * Get cell value by row index and header name.
+     *
+     * @param rowIndex Row index.
+     * @param headerName Header name.
+     * @return Cell value.
+     * @throws IndexOutOfBoundsException Row index is out of bound, or header not exist.
+     * @throws IOException in case fail read CSV file.
+     */
+    public String getCell(long rowIndex, String headerName) throws IndexOutOfBoundsException, IOException {
+        int columnIndex = getExistHeaderIndex(headerName);
+        List<String> row = getRow(rowIndex);
+
+        if (columnIndex >= row.size()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index [" + columnIndex + "] exceed of row size [" + row.size()
+                    + "] in row index [" + rowIndex + "]");
+        }
+
+        return row.get(columnIndex);
+    }
+
+    /******************************
+     * Get CSV file path.
+     *
+     * @return CSV file path.
+     */
+    public String getPath() {
+        return filePath;
+    }
+
+    /******************************
+     * Close CSV file.
+     *
+     * @throws IOException in case fail close CSV file.
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private List<List<String>> readRecords(long recordIndex, int recordsAmount) throws IOException {
+        long lastRecordIndex = recordIndex + recordsAmount - 1;
+        long skippedAmount = recordIndex - index.getIndexedRecordIndex(recordIndex);
+        List<List<String>> rows = new ArrayList<>(recordsAmount);
+
+        try (CsvParser parser = createParser(
+                index.getIndexedOffset(recordIndex), index.getNextIndexedOffset(lastRecordIndex))) {
+
+            config.setParserProjection(parser, filePath, fileHeaderList);
+
+            for (long i = 0; i < skippedAmount; i++) {
+                parser.nextRecord();
+            }
+
+            List<String> row = parser.nextRow();
+
+            while (row != null) {
+                rows.add(row);
+                row = rows.size() < recordsAmount ? parser.nextRow() : null;
+            }
+        }
+
+        if (rows.size() < recordsAmount) {
+            throw new IOException(
+                    "CSV file [" + filePath + "] was changed after it was indexed");
+        }
+
+        return rows;
+    }
+
+    private void setHeaderList() throws IOException {
+        try (CsvParser parser = createParser(0, index.getNextIndexedOffset(0))) {
+            fileHeaderList = parser.nextRow();
+            headerList = config.setParserProjection(parser, filePath, fileHeaderList);
+            updateHeaderIndexMap();
+        }
+    }
+
+    private CsvParser createParser(long startPosition, long endPosition) {
+        CsvParser parser = new CsvParser(
+                new MappedFileReader(channel, startPosition, endPosition, MappedFileReader.DEFAULT_SEGMENT_SIZE, false),
+                cellsSplitter);
+
+        parser.setMaxRecordSize(config.getMaxRecordSize());
+        parser.setMaxCellSize(config.getMaxCellSize());
+
+        return parser;
+    }
+
+    private RandomAccessFile openFile() throws FileNotFoundException {
+        try {
+            return new RandomAccessFile(filePath, "r");
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(
+                    "CSV file [" + filePath + "] was not found");
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package io.github.etuzon.java.csv.api;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.RowsStorageEnum;
+import io.github.etuzon.java.csv.index.CsvColumnIndex;
+import io.github.etuzon.java.csv.jfr.CsvParseEvent;
+import io.github.etuzon.java.csv.parser.CsvParser;
+import io.github.etuzon.java.csv.parser.LazyRow;
+import io.github.etuzon.java.csv.storage.ColumnarRows;
 import io.github.etuzon.projects.core.expections.InvalidValueException;
-import io.github.etuzon.projects.core.utils.StringUtil;
 
 /*************************************************
  * Parse CSV file.
@@ -23,9 +27,7 @@ import io.github.etuzon.projects.core.utils.StringUtil;
 public class CsvReaderApi extends CsvApiBase {
     public static final boolean CSV_CONTAIN_HEADERS = true;
 
-    private String cell = "";
-    private List<String> cellsInLine = new ArrayList<>();
-    private boolean isCellInInvertedComma = false;
+    private final Map<Integer, CsvColumnIndex> columnIndexMap = new HashMap<>();
 
     /*********************************
      * Constructor.
@@ -83,13 +85,27 @@ public class CsvReaderApi extends CsvApiBase {
             char cellsSplitter,
             final boolean isCsvContainHeaders) throws IOException {
 
-        super(filePath, cellsSplitter);
+        this(filePath,
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setCsvContainHeaders(isCsvContainHeaders));
+    }
 
-        parseCsv(filePath);
+    /*******************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV reader configuration.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvReaderApi(String filePath, CsvReaderConfig config) throws IOException {
+        super(filePath, config.getCellsSplitter());
 
-        if (isCsvContainHeaders) {
-            setHeaderList();
+        if (config.getRowsStorage() == RowsStorageEnum.COLUMNAR) {
+            csvRows = new ColumnarRows();
         }
+
+        parseCsv(filePath, config);
     }
 
     /******************************
@@ -126,7 +142,35 @@ public class CsvReaderApi extends CsvApiBase {
      * @return Column index. Return -1 in case header not exist.
      */
     public int getColumnIndex(String headerName) {
-        return headerList.indexOf(headerName);
+        return getHeaderIndex(headerName);
+    }
+
+    /******************************
+     * Create hash index of column that it's header is 'headerName'.
+     * <p>
+     * Index is built one time, and then {@link #getRowIndex(String, String)}
+     * and {@link #getRowIndexes(String, String)} of the column are answered
+     * in constant time instead of scanning all rows.
+     *
+     * @param headerName Header name.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     */
+    public void createColumnIndex(String headerName) throws IndexOutOfBoundsException {
+        int columnIndex = getExistHeaderIndex(headerName);
+
+        if (!columnIndexMap.containsKey(columnIndex)) {
+            columnIndexMap.put(columnIndex, new CsvColumnIndex(csvRows, columnIndex));
+        }
+    }
+
+    /******************************
+     * Is column that it's header is 'headerName' has hash index.
+     *
+     * @param headerName Header name.
+     * @return true in case column has hash index, else return false.
+     */
+    public boolean isColumnIndexed(String headerName) {
+        return columnIndexMap.containsKey(getColumnIndex(headerName));
     }
 
     /******************************
@@ -144,6 +188,12 @@ public class CsvReaderApi extends CsvApiBase {
             return -1;
         }
 
+        CsvColumnIndex columnIndexData = columnIndexMap.get(columnIndex);
+
+        if (columnIndexData != null) {
+            return columnIndexData.getFirstRowIndex(value);
+        }
+
         for (int i = 0; i < csvRows.size(); i++) {
             List<String> row = csvRows.get(i);
 
@@ -161,6 +211,39 @@ public class CsvReaderApi extends CsvApiBase {
         return -1;
     }
 
+    /******************************
+     * Get indexes of all rows that their column header is 'headerName',
+     * and cell in that column is 'value'.
+     *
+     * @param headerName Header name.
+     * @param value Field value.
+     * @return Row indexes in ascending order. Return empty list in case column or cell not exist.
+     * @throws IndexOutOfBoundsException In case column index exceed row.
+     */
+    public List<Integer> getRowIndexes(String headerName, String value) throws IndexOutOfBoundsException {
+        int columnIndex = getColumnIndex(headerName);
+
+        if (columnIndex == -1) {
+            return Collections.emptyList();
+        }
+
+        CsvColumnIndex columnIndexData = columnIndexMap.get(columnIndex);
+
+        if (columnIndexData != null) {
+            return columnIndexData.getRowIndexes(value);
+        }
+
+        List<Integer> rowIndexes = new ArrayList<>();
+
+        for (int i = 0; i < csvRows.size(); i++) {
+            if (getCell(i, columnIndex).equals(value)) {
+                rowIndexes.add(i);
+            }
+        }
+
+        return rowIndexes;
+    }
+
     /******************************
      * Get column cells.
      *
@@ -176,6 +259,10 @@ public class CsvReaderApi extends CsvApiBase {
             return Collections.emptyList();
         }
 
+        if (csvRows instanceof ColumnarRows columnarRows) {
+            return columnarRows.getColumn(index);
+        }
+
         for (List<String> row : csvRows) {
             columnValues.add(row.get(index));
         }
@@ -183,15 +270,139 @@ public class CsvReaderApi extends CsvApiBase {
         return columnValues;
     }
 
+    /******************************
+     * Get column cells as int values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @return Column int values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid int.
+     */
+    public int[] getIntColumn(String headerName) throws IndexOutOfBoundsException, NumberFormatException {
+        return getIntColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Get column cells as int values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column int values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid int.
+     */
+    public int[] getIntColumn(
+            String headerName, int emptyValue) throws IndexOutOfBoundsException, NumberFormatException {
+
+        return getIntColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Get column cells as long values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @return Column long values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid long.
+     */
+    public long[] getLongColumn(String headerName) throws IndexOutOfBoundsException, NumberFormatException {
+        return getLongColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Get column cells as long values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column long values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid long.
+     */
+    public long[] getLongColumn(
+            String headerName, long emptyValue) throws IndexOutOfBoundsException, NumberFormatException {
+
+        return getLongColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Get column cells as double values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @return Column double values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid double.
+     */
+    public double[] getDoubleColumn(String headerName) throws IndexOutOfBoundsException, NumberFormatException {
+        return getDoubleColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Get column cells as double values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column double values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid double.
+     */
+    public double[] getDoubleColumn(
+            String headerName, double emptyValue) throws IndexOutOfBoundsException, NumberFormatException {
+
+        return getDoubleColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Get column cells as boolean values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @return Column boolean values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not "true" or "false".
+     */
+    public boolean[] getBooleanColumn(String headerName) throws IndexOutOfBoundsException, NumberFormatException {
+        return getBooleanColumn(headerName, false, false);
+    }
+
+    /******************************
+     * Get column cells as boolean values.
+     * <p>
+     * Cells are parsed straight from the cells chars, without boxing.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column boolean values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not "true" or "false".
+     */
+    public boolean[] getBooleanColumn(
+            String headerName, boolean emptyValue) throws IndexOutOfBoundsException, NumberFormatException {
+
+        return getBooleanColumn(headerName, true, emptyValue);
+    }
+
     /******************************
      * Get cell value.
      *
      * @param headerName Header name.
      * @param rowIndex Row index.
      * @return Field value in column that it's header is 'headerName', and the cell exist
-     *         in 'rowIndex'. Return null in case 'headerName' column not exist.
+     *         in 'rowIndex'.
      * @throws InvalidValueException Row index is negative number.
-     * @throws IndexOutOfBoundsException Row index exceed of column size.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or row index exceed of column size.
      */
     public String getFieldValue(String headerName, int rowIndex)
             throws InvalidValueException, IndexOutOfBoundsException {
@@ -201,21 +412,65 @@ public class CsvReaderApi extends CsvApiBase {
                     "Index value [" + rowIndex + "] should not be negative");
         }
 
-        List<String> columnFields = getColumn(headerName);
+        int columnIndex = getExistHeaderIndex(headerName);
 
-        if (columnFields.isEmpty()) {
+        if (rowIndex >= getRowsAmount()) {
             throw new IndexOutOfBoundsException(
-                    "Column [" + headerName + "] not exist in CSV [" + getPath() + "]");
+                    "Index [" + rowIndex + "] is out of bound. CSV [" + getPath()
+                    + "] cells amount for header [" + headerName
+                            + "] is [" + getRowsAmount() + "]");
         }
 
-        if (rowIndex >= columnFields.size()) {
+        return getCell(rowIndex, columnIndex);
+    }
+
+    /******************************
+     * Get cell value by row and column indexes, without header lookup.
+     *
+     * @param rowIndex Row index.
+     * @param columnIndex Column index.
+     * @return Cell value.
+     * @throws IndexOutOfBoundsException Row index or column index is out of bound.
+     */
+    public String getCell(int rowIndex, int columnIndex) throws IndexOutOfBoundsException {
+        if (csvRows instanceof ColumnarRows columnarRows) {
+            return columnarRows.getCell(rowIndex, columnIndex);
+        }
+
+        List<String> row = csvRows.get(rowIndex);
+
+        if ((columnIndex < 0) || (columnIndex >= row.size())) {
             throw new IndexOutOfBoundsException(
-                    "Index [" + rowIndex + "] is out of bound. CSV [" + getPath()
-                    + "] cells amount for header [" + columnFields
-                            + "] is [" + columnFields.size() + "]");
+                    "Column index [" + columnIndex + "] in CSV file [" + getPath()
+                    + "] exceed of row size [" + row.size() + "]");
         }
 
-        return columnFields.get(rowIndex);
+        return row.get(columnIndex);
+    }
+
+    /******************************
+     * Get cell chars by row and column indexes.
+     * <p>
+     * In {@link RowsStorageEnum#LAZY} rows storage, the cell chars are read
+     * from the row record chars, without creating a String.
+     *
+     * @param rowIndex Row index.
+     * @param columnIndex Column index.
+     * @return Cell chars.
+     * @throws IndexOutOfBoundsException Row index or column index is out of bound.
+     */
+    public CharSequence getCellChars(int rowIndex, int columnIndex) throws IndexOutOfBoundsException {
+        if (csvRows.get(rowIndex) instanceof LazyRow lazyRow) {
+            if ((columnIndex < 0) || (columnIndex >= lazyRow.size())) {
+                throw new IndexOutOfBoundsException(
+                        "Column index [" + columnIndex + "] in CSV file [" + getPath()
+                        + "] exceed of row size [" + lazyRow.size() + "]");
+            }
+
+            return lazyRow.getCellChars(columnIndex);
+        }
+
+        return getCell(rowIndex, columnIndex);
     }
 
     /******************************
@@ -265,174 +520,151 @@ public class CsvReaderApi extends CsvApiBase {
      * Parse CSV file.
      *
      * @param path CSV file path.
+     * @param config CSV reader configuration.
      * @throws IOException In case fail read CSV file.
      */
-    private void parseCsv(String path) throws IOException {
-
-        try (BufferedReader buff = new BufferedReader(
-                new InputStreamReader(
-                        new FileInputStream(path), StandardCharsets.UTF_8))) {
+    private void parseCsv(String path, CsvReaderConfig config) throws IOException {
+        CsvParseEvent event = new CsvParseEvent();
+        event.begin();
 
-            String row = "";
+        if (config.getParallelism() > 1) {
+            List<String> headerRow = config.isHeaderRowNeeded()
+                    ? readHeaderRow(path, config)
+                    : Collections.emptyList();
+            List<List<String>> rows = config.createParallelParser(path, headerRow).parse();
 
-            while (row != null) {
-                row = buff.readLine();
+            event.commit(path, new File(path).length(), rows.size(), config.getParallelism());
 
-                if (row != null) {
-                    parsePreFormattedRow(row);
-
-                    if (!isCellInInvertedComma) {
-                        csvRows.add(cellsInLine);
-                        cellsInLine = new ArrayList<>();
-                    }
-                }
+            if ((config.isCsvContainHeaders()) && (!rows.isEmpty())) {
+                setHeaderList(rows.get(0));
+                rows = rows.subList(1, rows.size());
             }
-        } catch (FileNotFoundException e) {
-            throw new FileNotFoundException(
-                    "CSV file [" + path + "] was not found");
+
+            csvRows.addAll(rows);
+            return;
         }
-    }
 
-    private void parsePreFormattedRow(String row) {
-        List<String> preFormattedCellList = StringUtil.split(row, cellsSplitter);
+        try (CsvParser parser = config.openParser(path)) {
+            List<String> headerRow = Collections.emptyList();
 
-        for (int i = 0; i < preFormattedCellList.size(); i++) {
-            String preFormattedCell = preFormattedCellList.get(i);
+            if (config.isCsvContainHeaders()) {
+                headerRow = parser.nextRow();
+                headerRow = headerRow == null ? Collections.<String>emptyList() : headerRow;
+            }
 
-            if (isCellInInvertedComma) {
-                parsePreCellWhenItIsInInvertedComma(i, preFormattedCell);
-            } else {
-                parsePreCellWhenItIsNotInInvertedComma(preFormattedCell);
+            config.setParserPredicates(parser, path, headerRow);
+            List<String> projectedHeaders = config.setParserProjection(parser, path, headerRow);
+
+            if (!projectedHeaders.isEmpty()) {
+                setHeaderList(projectedHeaders);
             }
-        }
-    }
 
-    private void parsePreCellWhenItIsInInvertedComma(
-            int preFormattedCellIndex, String preFormattedCellInRow) {
+            config.setParserDictionaries(parser, headerList);
 
-        // In case pre parsed cell already in inverted comma and this is first pre
-        // parsed cell in row
-        if (preFormattedCellIndex == 0) {
-            cell += "\n" + preFormattedCellInRow;
-        } else {
-            cell += cellsSplitter + preFormattedCellInRow;
-        }
+            boolean isLazyRows = config.getRowsStorage() == RowsStorageEnum.LAZY;
+            Predicate<List<String>> rowPredicate = config.getRowPredicate();
+            List<String> row = nextRow(parser, isLazyRows);
+
+            while (row != null) {
+                if ((rowPredicate == null) || (rowPredicate.test(row))) {
+                    csvRows.add(row);
+                }
 
-        boolean isOddInvertedCommas = isOddInvertedCommasFromEnd(preFormattedCellInRow);
+                row = nextRow(parser, isLazyRows);
+            }
 
-        if (isOddInvertedCommas) {
-            isCellInInvertedComma = false;
-            cell = removeCsvInvertedCommasInCell(cell);
-            cellsInLine.add(cell);
-            cell = "";
+            event.commit(path, parser.getBytesAmount(), parser.getRecordsAmount(), 1);
         }
     }
 
-    private void parsePreCellWhenItIsNotInInvertedComma(String preFormattedCell) {
-        if (preFormattedCell.isEmpty()) {
-            cellsInLine.add("");
-        } else {
-            if (preFormattedCell.startsWith("\"")) {
-                parseCellStartWithInvertedComma(preFormattedCell);
-            } else {
-                cellsInLine.add(preFormattedCell);
-            }
-        }
+    private List<String> nextRow(CsvParser parser, boolean isLazyRows) throws IOException {
+        return isLazyRows ? parser.nextLazyRow() : parser.nextRow();
     }
 
-    private void parseCellStartWithInvertedComma(String preFormattedCell) {
-        boolean isOddInvertedCommas = isOddInvertedCommasFromBegin(preFormattedCell);
+    private List<String> readHeaderRow(String path, CsvReaderConfig config) throws IOException {
+        try (CsvParser parser = config.openParser(path)) {
+            // Headers row is parsed again by the parallel parser, so it is not measured
+            parser.setMetricsListener(null);
+            List<String> headerRow = parser.nextRow();
 
-        if (isOddInvertedCommas) {
-            if ((isOddInvertedCommasFromEnd(preFormattedCell)) && (preFormattedCell.length() > 1)) {
-                cellsInLine.add(removeCsvInvertedCommasInCell(preFormattedCell));
-            } else {
-                isCellInInvertedComma = true;
-                cell = preFormattedCell;
-            }
-        } else {
-            cellsInLine.add(removeCsvInvertedCommasInCell(preFormattedCell));
+            return headerRow == null ? Collections.emptyList() : headerRow;
         }
     }
 
-    private boolean isOddInvertedCommasFromBegin(String cell) {
-        if (cell == null) {
-            return false;
-        }
+    private void setHeaderList(List<String> headerRow) {
+        headerList = headerRow;
+        updateHeaderIndexMap();
+    }
 
-        if (!cell.startsWith("\"")) {
-            return false;
-        }
+    private int[] getIntColumn(String headerName, boolean isEmptyAllowed, int emptyValue) {
+        int columnIndex = getExistHeaderIndex(headerName);
+        int[] values = new int[csvRows.size()];
 
-        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            CharSequence cell = getCellChars(i, columnIndex);
 
-        for (int i = 0; i < cell.length(); i++) {
-            char c = cell.charAt(i);
-            if (c == '"') {
-                count++;
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, i);
+                values[i] = emptyValue;
             } else {
-                break;
+                values[i] = parseIntCell(cell, headerName, i);
             }
         }
 
-        return Math.abs(count) % 2 == 1;
+        return values;
     }
 
-    /*********************************************************
-     * Check if there is odd number of sequence inverted commas in raw from its end.
-     * 
-     * @param raw A raw.
-     * @return true if there is odd number of sequence inverted commas in raw from its end.
-     *********************************************************/
-    private boolean isOddInvertedCommasFromEnd(String raw) {
-        if (raw == null) {
-            return false;
-        }
+    private long[] getLongColumn(String headerName, boolean isEmptyAllowed, long emptyValue) {
+        int columnIndex = getExistHeaderIndex(headerName);
+        long[] values = new long[csvRows.size()];
 
-        if (!raw.endsWith("\"")) {
-            return false;
-        }
+        for (int i = 0; i < values.length; i++) {
+            CharSequence cell = getCellChars(i, columnIndex);
 
-        int count = 0;
-
-        for (int i = raw.length() - 1; i >= 0; i--) {
-            char c = raw.charAt(i);
-            if (c == '"') {
-                count++;
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, i);
+                values[i] = emptyValue;
             } else {
-                break;
+                values[i] = parseLongCell(cell, headerName, i);
             }
         }
 
-        return Math.abs(count) % 2 == 1;
+        return values;
     }
 
-    /********************************************************************
-     * Remove the additional inverted commas that * the csv add to the cells
-     * 
-     * @param cell A cell.
-     * @return A cell without the additional inverted commas.
-     ********************************************************************/
-    private String removeCsvInvertedCommasInCell(String cell) {
-        if (cell == null) {
-            return null;
-        }
+    private double[] getDoubleColumn(String headerName, boolean isEmptyAllowed, double emptyValue) {
+        int columnIndex = getExistHeaderIndex(headerName);
+        double[] values = new double[csvRows.size()];
 
-        if (cell.isEmpty()) {
-            return "";
-        }
+        for (int i = 0; i < values.length; i++) {
+            CharSequence cell = getCellChars(i, columnIndex);
 
-        // remove the first and last "
-        cell = cell.substring(1, cell.length() - 1);
-        cell = cell.replace("\"\"", "\"");
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, i);
+                values[i] = emptyValue;
+            } else {
+                values[i] = parseDoubleCell(cell, headerName, i);
+            }
+        }
 
-        return cell;
+        return values;
     }
 
-    private void setHeaderList() {
-        if (!csvRows.isEmpty()) {
-            headerList = csvRows.get(0);
-            csvRows.remove(0);
+    private boolean[] getBooleanColumn(String headerName, boolean isEmptyAllowed, boolean emptyValue) {
+        int columnIndex = getExistHeaderIndex(headerName);
+        boolean[] values = new boolean[csvRows.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            CharSequence cell = getCellChars(i, columnIndex);
+
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, i);
+                values[i] = emptyValue;
+            } else {
+                values[i] = parseBooleanCell(cell, headerName, i);
+            }
         }
+
+        return values;
     }
-}
\ No newline at end of file
+}
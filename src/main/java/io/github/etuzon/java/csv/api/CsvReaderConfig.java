@@ -0,0 +1,658 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.FileInputEnum;
+import io.github.etuzon.java.csv.enums.RowsStorageEnum;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+import io.github.etuzon.java.csv.parser.CsvParser;
+import io.github.etuzon.java.csv.parser.ParallelCsvParser;
+import io.github.etuzon.java.csv.parser.StringDictionary;
+import io.github.etuzon.projects.core.base.ObjectBase;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * CSV reader configuration.
+ * <p>
+ * Configuration is used by {@link CsvReaderApi} and {@link CsvStreamReaderApi}.
+ * Setters return the configuration, so they can be chained.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvReaderConfig extends ObjectBase {
+    private char cellsSplitter = CsvApiBase.CELLS_DEFAULT_SPLITTER;
+    private boolean isCsvContainHeaders = CsvReaderApi.CSV_CONTAIN_HEADERS;
+    private int maxRecordSize = CsvParser.UNLIMITED_SIZE;
+    private int maxCellSize = CsvParser.UNLIMITED_SIZE;
+    private FileInputEnum fileInput = FileInputEnum.STREAM;
+    private int parallelism = 1;
+    private RowsStorageEnum rowsStorage = RowsStorageEnum.ROWS;
+    private List<String> dictionaryHeaders = Collections.emptyList();
+    private boolean isDictionaryAutoDetect = false;
+    private int maxDictionarySize = StringDictionary.DEFAULT_MAX_SIZE;
+    private List<String> projectionHeaders = null;
+    private int[] projectionColumns = null;
+    private final Map<String, Predicate<CharSequence>> headerPredicates = new LinkedHashMap<>();
+    private final Map<Integer, Predicate<CharSequence>> columnPredicates = new LinkedHashMap<>();
+    private Predicate<List<String>> rowPredicate = null;
+    private CsvMetricsListener metricsListener = null;
+
+    /*********************************
+     * Set cells splitter.
+     *
+     * @param cellsSplitter Cells splitter char.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setCellsSplitter(char cellsSplitter) {
+        this.cellsSplitter = cellsSplitter;
+        return this;
+    }
+
+    /*********************************
+     * Set cells splitter.
+     *
+     * @param cellsSplitter Cells splitter enum.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setCellsSplitter(CellsSplitterEnum cellsSplitter) {
+        return setCellsSplitter(cellsSplitter.getChar());
+    }
+
+    /*********************************
+     * Set if CSV file contain headers row.
+     *
+     * @param isCsvContainHeaders true in case CSV file contain headers, else the value is false.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setCsvContainHeaders(boolean isCsvContainHeaders) {
+        this.isCsvContainHeaders = isCsvContainHeaders;
+        return this;
+    }
+
+    /*********************************
+     * Set record maximum size in chars.
+     * <p>
+     * Parsing fail with {@link io.github.etuzon.java.csv.exceptions.CsvSizeLimitException}
+     * in case record exceed the maximum size.
+     *
+     * @param maxRecordSize Record maximum size in chars.
+     * @return This configuration.
+     * @throws InvalidValueException in case maximum size is not positive.
+     */
+    public CsvReaderConfig setMaxRecordSize(int maxRecordSize) throws InvalidValueException {
+        validatePositive(maxRecordSize);
+        this.maxRecordSize = maxRecordSize;
+        return this;
+    }
+
+    /*********************************
+     * Set cell maximum size in chars.
+     * <p>
+     * Parsing fail with {@link io.github.etuzon.java.csv.exceptions.CsvSizeLimitException}
+     * in case cell exceed the maximum size.
+     *
+     * @param maxCellSize Cell maximum size in chars.
+     * @return This configuration.
+     * @throws InvalidValueException in case maximum size is not positive.
+     */
+    public CsvReaderConfig setMaxCellSize(int maxCellSize) throws InvalidValueException {
+        validatePositive(maxCellSize);
+        this.maxCellSize = maxCellSize;
+        return this;
+    }
+
+    /*********************************
+     * Set how CSV file is read.
+     * <p>
+     * {@link FileInputEnum#MEMORY_MAPPED} decode the file straight from memory mapped region,
+     * and is faster for large local files.
+     *
+     * @param fileInput File input enum.
+     * @return This configuration.
+     * @throws InvalidValueException in case file input is null.
+     */
+    public CsvReaderConfig setFileInput(FileInputEnum fileInput) throws InvalidValueException {
+        validateNotNull(fileInput);
+        this.fileInput = fileInput;
+        return this;
+    }
+
+    /*********************************
+     * Set amount of threads that parse CSV file.
+     * <p>
+     * Parallelism bigger than 1 is used by {@link CsvReaderApi}, that split the file
+     * into byte ranges and parse them in parallel. Rows are kept in file order.
+     * Parallel parsing assume that inverted commas appear only in quoted cells.
+     * <p>
+     * {@link CsvStreamReaderApi} always parse the file in a single thread.
+     *
+     * @param parallelism Amount of threads. Default is 1.
+     * @return This configuration.
+     * @throws InvalidValueException in case parallelism is not positive.
+     */
+    public CsvReaderConfig setParallelism(int parallelism) throws InvalidValueException {
+        validatePositive(parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /*********************************
+     * Set how {@link CsvReaderApi} keep the parsed rows in memory.
+     * <p>
+     * {@link RowsStorageEnum#COLUMNAR} keep cells in array per column,
+     * that save the per row list overhead and make column reads faster.
+     * {@link RowsStorageEnum#LAZY} keep the record chars of each row,
+     * and create cell String only when the cell is accessed.
+     * Columnar and lazy rows are read only.
+     *
+     * @param rowsStorage Rows storage enum.
+     * @return This configuration.
+     * @throws InvalidValueException in case rows storage is null.
+     */
+    public CsvReaderConfig setRowsStorage(RowsStorageEnum rowsStorage) throws InvalidValueException {
+        validateNotNull(rowsStorage);
+        this.rowsStorage = rowsStorage;
+        return this;
+    }
+
+    /*********************************
+     * Set columns that share one String instance for repeated values.
+     * <p>
+     * Dictionary columns save memory for low cardinality columns, like country or status.
+     * Headers that not exist in CSV file are ignored.
+     *
+     * @param headerNames Headers of dictionary columns.
+     * @return This configuration.
+     * @throws InvalidValueException in case header names are null.
+     */
+    public CsvReaderConfig setDictionaryColumns(String... headerNames) throws InvalidValueException {
+        validateNotNull(headerNames);
+        this.dictionaryHeaders = Arrays.asList(headerNames);
+        return this;
+    }
+
+    /*********************************
+     * Set if all columns share one String instance for repeated values.
+     * <p>
+     * Columns with more distinct values than maximum dictionary size
+     * fall back to a new String per value.
+     *
+     * @param isDictionaryAutoDetect true in case all columns use dictionary, else the value is false.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setDictionaryAutoDetect(boolean isDictionaryAutoDetect) {
+        this.isDictionaryAutoDetect = isDictionaryAutoDetect;
+        return this;
+    }
+
+    /*********************************
+     * Set maximum amount of distinct values per dictionary column.
+     *
+     * @param maxDictionarySize Maximum amount of distinct values.
+     * @return This configuration.
+     * @throws InvalidValueException in case maximum size is not positive.
+     */
+    public CsvReaderConfig setMaxDictionarySize(int maxDictionarySize) throws InvalidValueException {
+        validatePositive(maxDictionarySize);
+        this.maxDictionarySize = maxDictionarySize;
+        return this;
+    }
+
+    /*********************************
+     * Set headers of the columns that are read.
+     * <p>
+     * Other cells are skipped while parsing, so Strings are not created for them
+     * and they are not kept in memory. Rows and headers are in projection order.
+     * Projection is resolved from CSV headers row, and header that not exist
+     * fail reading with {@link IndexOutOfBoundsException}.
+     *
+     * @param headerNames Headers of projected columns.
+     * @return This configuration.
+     * @throws InvalidValueException in case header names are null.
+     */
+    public CsvReaderConfig setProjectionHeaders(String... headerNames) throws InvalidValueException {
+        validateNotNull(headerNames);
+        this.projectionHeaders = Arrays.asList(headerNames);
+        this.projectionColumns = null;
+        return this;
+    }
+
+    /*********************************
+     * Set indexes of the columns that are read.
+     * <p>
+     * Other cells are skipped while parsing, so Strings are not created for them
+     * and they are not kept in memory. Rows and headers are in projection order.
+     * Projected column that not exist in a row is read as empty cell.
+     *
+     * @param columnIndexes Indexes of projected columns.
+     * @return This configuration.
+     * @throws InvalidValueException in case column indexes are null or one of them is negative.
+     */
+    public CsvReaderConfig setProjectionColumns(int... columnIndexes) throws InvalidValueException {
+        validateNotNull(columnIndexes);
+
+        for (int columnIndex : columnIndexes) {
+            validateNotNegative(columnIndex);
+        }
+
+        this.projectionColumns = columnIndexes.clone();
+        this.projectionHeaders = null;
+        return this;
+    }
+
+    /*********************************
+     * Add predicate of column cells.
+     * <p>
+     * Predicate is tested while parsing, as soon as the cell is parsed.
+     * Rows that their cell is rejected are skipped before their other cells are parsed into Strings,
+     * and they are not kept in memory. Cell chars are valid only while testing.
+     * Multiple predicates of the same column should all accept the cell.
+     * Header that not exist fail reading with {@link IndexOutOfBoundsException}.
+     *
+     * @param headerName Column header.
+     * @param predicate Predicate of the cell chars.
+     * @return This configuration.
+     * @throws InvalidValueException in case header name or predicate is null.
+     */
+    public CsvReaderConfig addColumnPredicate(
+            String headerName, Predicate<CharSequence> predicate) throws InvalidValueException {
+
+        validateNotNull(headerName);
+        validateNotNull(predicate);
+        headerPredicates.merge(headerName, predicate, Predicate::and);
+        return this;
+    }
+
+    /*********************************
+     * Add predicate of column cells.
+     * <p>
+     * Predicate is tested while parsing, as soon as the cell is parsed.
+     * Rows that their cell is rejected are skipped before their other cells are parsed into Strings,
+     * and they are not kept in memory. Cell chars are valid only while testing.
+     * Multiple predicates of the same column should all accept the cell.
+     * Column that not exist in a row is tested as empty cell.
+     *
+     * @param columnIndex Column index in CSV file.
+     * @param predicate Predicate of the cell chars.
+     * @return This configuration.
+     * @throws InvalidValueException in case column index is negative or predicate is null.
+     */
+    public CsvReaderConfig addColumnPredicate(
+            int columnIndex, Predicate<CharSequence> predicate) throws InvalidValueException {
+
+        validateNotNegative(columnIndex);
+        validateNotNull(predicate);
+        columnPredicates.merge(columnIndex, predicate, Predicate::and);
+        return this;
+    }
+
+    /*********************************
+     * Set predicate of parsed rows.
+     * <p>
+     * Rows that are rejected are not kept in memory.
+     * Row predicate is tested after column predicates, with the projected row.
+     * In parallel parsing predicate is tested by multiple threads.
+     *
+     * @param rowPredicate Predicate of parsed row. null in case all rows are kept.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setRowPredicate(Predicate<List<String>> rowPredicate) {
+        this.rowPredicate = rowPredicate;
+        return this;
+    }
+
+    /*********************************
+     * Set metrics listener.
+     * <p>
+     * Listener is notified of phases durations while reading,
+     * and of records statistics when reading is finished.
+     * In parallel parsing listener is notified by multiple threads.
+     * Reader without listener does not measure anything.
+     *
+     * @param metricsListener Metrics listener, for example {@link io.github.etuzon.java.csv.metrics.CsvMetrics}.
+     *        null in case metrics are disabled.
+     * @return This configuration.
+     */
+    public CsvReaderConfig setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /*********************************
+     * Get cells splitter.
+     *
+     * @return Cells splitter char.
+     */
+    public char getCellsSplitter() {
+        return cellsSplitter;
+    }
+
+    /*********************************
+     * Is CSV file contain headers row.
+     *
+     * @return true in case CSV file contain headers, else return false.
+     */
+    public boolean isCsvContainHeaders() {
+        return isCsvContainHeaders;
+    }
+
+    /*********************************
+     * Get record maximum size in chars.
+     *
+     * @return Record maximum size in chars.
+     */
+    public int getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    /*********************************
+     * Get cell maximum size in chars.
+     *
+     * @return Cell maximum size in chars.
+     */
+    public int getMaxCellSize() {
+        return maxCellSize;
+    }
+
+    /*********************************
+     * Get how CSV file is read.
+     *
+     * @return File input enum.
+     */
+    public FileInputEnum getFileInput() {
+        return fileInput;
+    }
+
+    /*********************************
+     * Get amount of threads that parse CSV file.
+     *
+     * @return Amount of threads.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /*********************************
+     * Get how parsed rows are kept in memory.
+     *
+     * @return Rows storage enum.
+     */
+    public RowsStorageEnum getRowsStorage() {
+        return rowsStorage;
+    }
+
+    /*********************************
+     * Get headers of dictionary columns.
+     *
+     * @return Headers of dictionary columns.
+     */
+    public List<String> getDictionaryColumns() {
+        return dictionaryHeaders;
+    }
+
+    /*********************************
+     * Is all columns use dictionary.
+     *
+     * @return true in case all columns use dictionary, else return false.
+     */
+    public boolean isDictionaryAutoDetect() {
+        return isDictionaryAutoDetect;
+    }
+
+    /*********************************
+     * Get maximum amount of distinct values per dictionary column.
+     *
+     * @return Maximum amount of distinct values.
+     */
+    public int getMaxDictionarySize() {
+        return maxDictionarySize;
+    }
+
+    /*********************************
+     * Get headers of projected columns.
+     *
+     * @return Headers of projected columns. Return null in case projection is not set by headers.
+     */
+    public List<String> getProjectionHeaders() {
+        return projectionHeaders;
+    }
+
+    /*********************************
+     * Get indexes of projected columns.
+     *
+     * @return Indexes of projected columns. Return null in case projection is not set by indexes.
+     */
+    public int[] getProjectionColumns() {
+        return projectionColumns == null ? null : projectionColumns.clone();
+    }
+
+    /*********************************
+     * Get predicate of parsed rows.
+     *
+     * @return Predicate of parsed rows. Return null in case row predicate is not set.
+     */
+    public Predicate<List<String>> getRowPredicate() {
+        return rowPredicate;
+    }
+
+    /*********************************
+     * Get metrics listener.
+     *
+     * @return Metrics listener, or null in case metrics are disabled.
+     */
+    public CsvMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /*********************************
+     * Create parallel CSV parser according to the configuration.
+     *
+     * @param filePath CSV file path.
+     * @param headerRow CSV headers row, used to find projected and dictionary columns.
+     * @return Parallel CSV parser.
+     * @throws IndexOutOfBoundsException in case projected or predicate header not exist.
+     */
+    ParallelCsvParser createParallelParser(
+            String filePath, List<String> headerRow) throws IndexOutOfBoundsException {
+
+        ParallelCsvParser parser = new ParallelCsvParser(filePath, cellsSplitter, parallelism);
+        parser.setMaxRecordSize(maxRecordSize);
+        parser.setMaxCellSize(maxCellSize);
+        parser.setLazyRows(rowsStorage == RowsStorageEnum.LAZY);
+        parser.setFirstRecordHeader(isCsvContainHeaders);
+        parser.setRowPredicate(rowPredicate);
+        parser.setMetricsListener(metricsListener);
+        forEachColumnPredicate(filePath, headerRow, parser::addColumnPredicate);
+
+        List<String> headerList = headerRow;
+
+        if (isProjection()) {
+            int[] projection = getProjectionIndexes(filePath, headerRow);
+            parser.setProjection(projection);
+            headerList = projectHeaders(headerRow, projection);
+        }
+
+        if (isDictionaryAutoDetect) {
+            parser.setDictionaryAllColumns(maxDictionarySize);
+        } else if (!dictionaryHeaders.isEmpty()) {
+            parser.setDictionaryColumns(getDictionaryColumnIndexes(headerList), maxDictionarySize);
+        }
+
+        return parser;
+    }
+
+    /*********************************
+     * Set parser dictionary columns according to the configuration.
+     *
+     * @param parser CSV parser.
+     * @param headerList CSV headers, used to find dictionary columns.
+     */
+    void setParserDictionaries(CsvParser parser, List<String> headerList) {
+        if (isDictionaryAutoDetect) {
+            parser.setDictionaryAllColumns(maxDictionarySize);
+        } else if (!dictionaryHeaders.isEmpty()) {
+            parser.setDictionaryColumns(getDictionaryColumnIndexes(headerList), maxDictionarySize);
+        }
+    }
+
+    /*********************************
+     * Set parser column predicates according to the configuration.
+     *
+     * @param parser CSV parser.
+     * @param filePath CSV file path.
+     * @param headerRow CSV headers row, used to find predicate columns.
+     * @throws IndexOutOfBoundsException in case predicate header not exist.
+     */
+    void setParserPredicates(
+            CsvParser parser, String filePath, List<String> headerRow) throws IndexOutOfBoundsException {
+
+        forEachColumnPredicate(filePath, headerRow, parser::addColumnPredicate);
+    }
+
+    /*********************************
+     * Set parser projection according to the configuration.
+     *
+     * @param parser CSV parser.
+     * @param filePath CSV file path.
+     * @param headerRow CSV headers row, used to find projected columns.
+     * @return Projected headers.
+     * @throws IndexOutOfBoundsException in case projected header not exist.
+     */
+    List<String> setParserProjection(
+            CsvParser parser, String filePath, List<String> headerRow) throws IndexOutOfBoundsException {
+
+        if (!isProjection()) {
+            return headerRow;
+        }
+
+        int[] projection = getProjectionIndexes(filePath, headerRow);
+        parser.setProjection(projection);
+
+        return projectHeaders(headerRow, projection);
+    }
+
+    /*********************************
+     * Is headers row needed before parallel parsing, to find projected or dictionary columns.
+     *
+     * @return true in case projected, dictionary or predicate columns are set by headers.
+     */
+    boolean isHeaderRowNeeded() {
+        boolean isDictionaryHeaders = (!isDictionaryAutoDetect) && (!dictionaryHeaders.isEmpty());
+        boolean isPredicateHeaders = !headerPredicates.isEmpty();
+
+        return ((isDictionaryHeaders) || (projectionHeaders != null) || (isPredicateHeaders))
+                && (isCsvContainHeaders);
+    }
+
+    private void forEachColumnPredicate(
+            String filePath, List<String> headerRow, ColumnPredicateConsumer consumer)
+                    throws IndexOutOfBoundsException {
+
+        for (Map.Entry<String, Predicate<CharSequence>> entry : headerPredicates.entrySet()) {
+            int columnIndex = headerRow.indexOf(entry.getKey());
+
+            if (columnIndex == -1) {
+                throw new IndexOutOfBoundsException(
+                        "Column [" + entry.getKey() + "] not exist in CSV [" + filePath + "]");
+            }
+
+            consumer.accept(columnIndex, entry.getValue());
+        }
+
+        for (Map.Entry<Integer, Predicate<CharSequence>> entry : columnPredicates.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean isProjection() {
+        return (projectionHeaders != null) || (projectionColumns != null);
+    }
+
+    private int[] getProjectionIndexes(
+            String filePath, List<String> headerRow) throws IndexOutOfBoundsException {
+
+        if (projectionColumns != null) {
+            return projectionColumns;
+        }
+
+        int[] projection = new int[projectionHeaders.size()];
+
+        for (int i = 0; i < projection.length; i++) {
+            projection[i] = headerRow.indexOf(projectionHeaders.get(i));
+
+            if (projection[i] == -1) {
+                throw new IndexOutOfBoundsException(
+                        "Column [" + projectionHeaders.get(i) + "] not exist in CSV [" + filePath + "]");
+            }
+        }
+
+        return projection;
+    }
+
+    private List<String> projectHeaders(List<String> headerRow, int[] projection) {
+        if (headerRow.isEmpty()) {
+            return headerRow;
+        }
+
+        List<String> headers = new ArrayList<>(projection.length);
+
+        for (int columnIndex : projection) {
+            headers.add(columnIndex < headerRow.size() ? headerRow.get(columnIndex) : "");
+        }
+
+        return headers;
+    }
+
+    /*********************************
+     * Open CSV file parser according to the configuration.
+     *
+     * @param filePath CSV file path.
+     * @return CSV parser.
+     * @throws IOException in case fail open CSV file.
+     */
+    CsvParser openParser(String filePath) throws IOException {
+        CsvParser parser;
+
+        if (fileInput == FileInputEnum.MEMORY_MAPPED) {
+            parser = CsvParser.openMemoryMapped(filePath, cellsSplitter);
+        } else {
+            parser = CsvParser.open(filePath, cellsSplitter);
+        }
+
+        parser.setMaxRecordSize(maxRecordSize);
+        parser.setMaxCellSize(maxCellSize);
+        parser.setMetricsListener(metricsListener);
+
+        return parser;
+    }
+
+    private int[] getDictionaryColumnIndexes(List<String> headerList) {
+        return dictionaryHeaders.stream()
+                .mapToInt(headerList::indexOf)
+                .filter(index -> index >= 0)
+                .toArray();
+    }
+
+    private void validatePositive(int value) throws InvalidValueException {
+        if (value < 1) {
+            throw new InvalidValueException(
+                    "Value [" + value + "] should be positive");
+        }
+    }
+
+    /*********************************
+     * Consumer of column index and its predicate.
+     */
+    private interface ColumnPredicateConsumer {
+        void accept(int columnIndex, Predicate<CharSequence> predicate);
+    }
+}
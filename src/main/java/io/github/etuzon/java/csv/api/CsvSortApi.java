@@ -0,0 +1,139 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.sort.CsvExternalSorter;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * Sort CSV file, that can be larger than memory.
+ * <p>
+ * Rows are read by {@link CsvStreamReaderApi} and sorted by {@link CsvExternalSorter},
+ * that sort runs of limited memory size in parallel, write them to temporary run files
+ * and merge them. Sorted rows are written by {@link CsvStreamWriterApi}, so the whole file
+ * is never kept in memory. Sort is stable, so rows with same keys keep their order.
+ * <p>
+ * Input file is read completely before sorted file is written, so sorted file can replace the input file.
+ * CSV file can be sorted only one time by {@link #sort()} method.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvSortApi {
+    private final String filePath;
+    private final String sortedFilePath;
+    private final CsvSortConfig config;
+
+    private boolean isSorted = false;
+    private long rowsAmount = 0;
+    private int runsAmount = 0;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param sortedFilePath Sorted CSV file path. The file will be overwritten in case it is already exists.
+     * @param config CSV sort configuration.
+     */
+    public CsvSortApi(String filePath, String sortedFilePath, CsvSortConfig config) {
+        this.filePath = filePath;
+        this.sortedFilePath = sortedFilePath;
+        this.config = config;
+    }
+
+    /*********************************
+     * Sort CSV file into sorted CSV file.
+     *
+     * @throws CsvOperationException in case CSV file already been sorted.
+     * @throws InvalidValueException in case sort keys were not added, or row size is different from headers amount.
+     * @throws IndexOutOfBoundsException in case sort header not exist.
+     * @throws NumberFormatException in case typed sort key cell is not a valid value.
+     * @throws IOException in case fail read CSV file, write sorted CSV file or temporary run files.
+     */
+    public void sort() throws CsvOperationException, InvalidValueException, IOException {
+        if (isSorted) {
+            throw new CsvOperationException("CSV file [" + filePath + "] already been sorted");
+        }
+
+        if (!config.isSortKeys()) {
+            throw new InvalidValueException("Sort keys of CSV file [" + filePath + "] were not added");
+        }
+
+        isSorted = true;
+
+        List<String> headerList = readHeaderList();
+
+        try (CsvExternalSorter sorter = new CsvExternalSorter(
+                config.createSortKeys(filePath, headerList),
+                config.getMaxMemorySize(),
+                config.getParallelism(),
+                config.getTempDirectory())) {
+
+            // Input file is closed before sorted file is written, so sorted file can replace it
+            try (CsvStreamReaderApi reader = new CsvStreamReaderApi(filePath, config.getReaderConfig())) {
+                while (reader.hasNext()) {
+                    sorter.addRow(reader.next());
+                }
+            }
+
+            writeSortedFile(headerList, sorter.sort());
+
+            rowsAmount = sorter.getRowsAmount();
+            runsAmount = sorter.getRunsAmount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /*********************************
+     * Is {@link #sort()} was executed.
+     *
+     * @return true in case CSV file was sorted, else return false.
+     */
+    public boolean isSorted() {
+        return isSorted;
+    }
+
+    /*********************************
+     * Get amount of sorted rows. Not include headers row.
+     *
+     * @return Rows amount.
+     */
+    public long getRowsAmount() {
+        return rowsAmount;
+    }
+
+    /*********************************
+     * Get amount of runs that were written to temporary run files.
+     *
+     * @return Runs amount. Return 0 in case rows were sorted in memory.
+     */
+    public int getRunsAmount() {
+        return runsAmount;
+    }
+
+    private List<String> readHeaderList() throws IOException {
+        try (CsvStreamReaderApi reader = new CsvStreamReaderApi(filePath, config.getReaderConfig())) {
+            return reader.getHeaderList();
+        }
+    }
+
+    private void writeSortedFile(
+            List<String> headerList,
+            Iterator<List<String>> rows) throws CsvOperationException, InvalidValueException, IOException {
+
+        try (CsvStreamWriterApi writer = new CsvStreamWriterApi(sortedFilePath, config.getWriterConfig())) {
+            if (!headerList.isEmpty()) {
+                writer.setHeaders(headerList);
+            }
+
+            while (rows.hasNext()) {
+                writer.addRow(rows.next());
+            }
+        }
+    }
+}
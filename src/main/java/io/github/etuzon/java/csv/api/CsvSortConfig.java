@@ -0,0 +1,298 @@
+package io.github.etuzon.java.csv.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import io.github.etuzon.java.csv.enums.SortTypeEnum;
+import io.github.etuzon.java.csv.sort.CsvExternalSorter;
+import io.github.etuzon.java.csv.sort.SortKey;
+import io.github.etuzon.projects.core.base.ObjectBase;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * CSV sort configuration.
+ * <p>
+ * Configuration is used by {@link CsvSortApi}.
+ * Setters return the configuration, so they can be chained.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvSortConfig extends ObjectBase {
+    private CsvReaderConfig readerConfig = new CsvReaderConfig();
+    private CsvWriterConfig writerConfig = null;
+    private long maxMemorySize = CsvExternalSorter.DEFAULT_MAX_MEMORY_SIZE;
+    private int parallelism = 1;
+    private String tempDirectory = null;
+    private final List<SortColumn> sortColumns = new ArrayList<>();
+
+    /*********************************
+     * Set configuration of CSV file reader.
+     * <p>
+     * Cells splitter, headers, projection and predicates of the reader are used while sorting,
+     * so rejected rows are not sorted.
+     *
+     * @param readerConfig CSV reader configuration.
+     * @return This configuration.
+     * @throws InvalidValueException in case reader configuration is null.
+     */
+    public CsvSortConfig setReaderConfig(CsvReaderConfig readerConfig) throws InvalidValueException {
+        validateNotNull(readerConfig);
+        this.readerConfig = readerConfig;
+        return this;
+    }
+
+    /*********************************
+     * Set configuration of sorted CSV file writer.
+     * <p>
+     * In case writer configuration is not set, sorted CSV file is written with the reader cells splitter.
+     *
+     * @param writerConfig CSV writer configuration.
+     * @return This configuration.
+     * @throws InvalidValueException in case writer configuration is null.
+     */
+    public CsvSortConfig setWriterConfig(CsvWriterConfig writerConfig) throws InvalidValueException {
+        validateNotNull(writerConfig);
+        this.writerConfig = writerConfig;
+        return this;
+    }
+
+    /*********************************
+     * Set maximum memory size of the rows that are kept in memory.
+     * <p>
+     * Memory size is estimated from the cells length.
+     * Memory is divided between the run that is filled and the runs that are sorted in parallel.
+     *
+     * @param maxMemorySize Maximum memory size in bytes.
+     * @return This configuration.
+     * @throws InvalidValueException in case maximum memory size is not positive.
+     */
+    public CsvSortConfig setMaxMemorySize(long maxMemorySize) throws InvalidValueException {
+        validatePositive(maxMemorySize);
+        this.maxMemorySize = maxMemorySize;
+        return this;
+    }
+
+    /*********************************
+     * Set amount of threads that sort and merge runs.
+     *
+     * @param parallelism Amount of threads. Default is 1.
+     * @return This configuration.
+     * @throws InvalidValueException in case parallelism is not positive.
+     */
+    public CsvSortConfig setParallelism(int parallelism) throws InvalidValueException {
+        validatePositive(parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /*********************************
+     * Set directory of temporary run files.
+     *
+     * @param tempDirectory Directory path. null in case run files are in default temporary directory.
+     * @return This configuration.
+     */
+    public CsvSortConfig setTempDirectory(String tempDirectory) {
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+
+    /*********************************
+     * Add sort key of column cells as strings in ascending order.
+     * <p>
+     * Rows are sorted by the sort keys in the order they were added.
+     *
+     * @param headerName Header name.
+     * @return This configuration.
+     * @throws InvalidValueException in case header name is null.
+     */
+    public CsvSortConfig addSortKey(String headerName) throws InvalidValueException {
+        return addSortKey(headerName, SortTypeEnum.STRING, false);
+    }
+
+    /*********************************
+     * Add sort key of column cells.
+     * <p>
+     * Rows are sorted by the sort keys in the order they were added.
+     *
+     * @param headerName Header name.
+     * @param sortType Sort type enum.
+     * @param isDescending true in case cells are sorted in descending order, else the value is false.
+     * @return This configuration.
+     * @throws InvalidValueException in case header name or sort type is null.
+     */
+    public CsvSortConfig addSortKey(
+            String headerName, SortTypeEnum sortType, boolean isDescending) throws InvalidValueException {
+
+        validateNotNull(headerName);
+        validateNotNull(sortType);
+        sortColumns.add(new SortColumn(headerName, -1, sortType, null, isDescending));
+        return this;
+    }
+
+    /*********************************
+     * Add sort key of column cells.
+     * <p>
+     * Rows are sorted by the sort keys in the order they were added.
+     *
+     * @param columnIndex Column index. First index is 0.
+     * @param sortType Sort type enum.
+     * @param isDescending true in case cells are sorted in descending order, else the value is false.
+     * @return This configuration.
+     * @throws InvalidValueException in case column index is negative or sort type is null.
+     */
+    public CsvSortConfig addSortKey(
+            int columnIndex, SortTypeEnum sortType, boolean isDescending) throws InvalidValueException {
+
+        validateNotNegative(columnIndex);
+        validateNotNull(sortType);
+        sortColumns.add(new SortColumn(null, columnIndex, sortType, null, isDescending));
+        return this;
+    }
+
+    /*********************************
+     * Add sort key of column cells, that are compared by a custom comparator.
+     * <p>
+     * Rows are sorted by the sort keys in the order they were added.
+     * Comparator is used by multiple threads.
+     *
+     * @param headerName Header name.
+     * @param comparator Comparator of the cells.
+     * @param isDescending true in case cells are sorted in descending order, else the value is false.
+     * @return This configuration.
+     * @throws InvalidValueException in case header name or comparator is null.
+     */
+    public CsvSortConfig addSortKey(
+            String headerName, Comparator<String> comparator, boolean isDescending) throws InvalidValueException {
+
+        validateNotNull(headerName);
+        validateNotNull(comparator);
+        sortColumns.add(new SortColumn(headerName, -1, SortTypeEnum.STRING, comparator, isDescending));
+        return this;
+    }
+
+    /*********************************
+     * Get configuration of CSV file reader.
+     *
+     * @return CSV reader configuration.
+     */
+    public CsvReaderConfig getReaderConfig() {
+        return readerConfig;
+    }
+
+    /*********************************
+     * Get configuration of sorted CSV file writer.
+     *
+     * @return CSV writer configuration.
+     */
+    public CsvWriterConfig getWriterConfig() {
+        return writerConfig != null
+                ? writerConfig
+                : new CsvWriterConfig().setCellsSplitter(readerConfig.getCellsSplitter());
+    }
+
+    /*********************************
+     * Get maximum memory size of the rows that are kept in memory.
+     *
+     * @return Maximum memory size in bytes.
+     */
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /*********************************
+     * Get amount of threads that sort and merge runs.
+     *
+     * @return Parallelism.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /*********************************
+     * Get directory of temporary run files.
+     *
+     * @return Directory path, or null in case run files are in default temporary directory.
+     */
+    public String getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /*********************************
+     * Is sort keys were added.
+     *
+     * @return true in case at least one sort key was added.
+     */
+    public boolean isSortKeys() {
+        return !sortColumns.isEmpty();
+    }
+
+    /*********************************
+     * Create sort keys, with column indexes of their headers.
+     *
+     * @param filePath CSV file path.
+     * @param headerList CSV headers, used to find sort columns.
+     * @return Sort keys.
+     * @throws IndexOutOfBoundsException in case sort header not exist.
+     */
+    List<SortKey> createSortKeys(String filePath, List<String> headerList) throws IndexOutOfBoundsException {
+        if (sortColumns.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>(sortColumns.size());
+
+        for (SortColumn sortColumn : sortColumns) {
+            int columnIndex = sortColumn.columnIndex;
+
+            if (sortColumn.headerName != null) {
+                columnIndex = headerList.indexOf(sortColumn.headerName);
+
+                if (columnIndex == -1) {
+                    throw new IndexOutOfBoundsException(
+                            "Column [" + sortColumn.headerName + "] not exist in CSV [" + filePath + "]");
+                }
+            }
+
+            sortKeys.add(sortColumn.comparator != null
+                    ? new SortKey(columnIndex, sortColumn.comparator, sortColumn.isDescending)
+                    : new SortKey(columnIndex, sortColumn.sortType, sortColumn.isDescending));
+        }
+
+        return sortKeys;
+    }
+
+    private void validatePositive(long value) throws InvalidValueException {
+        if (value < 1) {
+            throw new InvalidValueException(
+                    "Value [" + value + "] should be positive");
+        }
+    }
+
+    /*********************************
+     * Sort key of header or column index, before headers are read.
+     */
+    private static class SortColumn {
+        private final String headerName;
+        private final int columnIndex;
+        private final SortTypeEnum sortType;
+        private final Comparator<String> comparator;
+        private final boolean isDescending;
+
+        private SortColumn(
+                String headerName,
+                int columnIndex,
+                SortTypeEnum sortType,
+                Comparator<String> comparator,
+                boolean isDescending) {
+
+            this.headerName = headerName;
+            this.columnIndex = columnIndex;
+            this.sortType = sortType;
+            this.comparator = comparator;
+            this.isDescending = isDescending;
+        }
+    }
+}
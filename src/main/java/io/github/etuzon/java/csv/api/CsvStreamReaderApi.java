@@ -0,0 +1,560 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.jfr.CsvParseEvent;
+import io.github.etuzon.java.csv.parser.CsvParser;
+
+/*************************************************
+ * Stream CSV file rows.
+ * <p>
+ * Rows are parsed one by one while iterating, so only the current row is kept in memory.
+ * <p>
+ * CSV stream reader API should be closed after use.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvStreamReaderApi extends CsvApiBase implements Iterator<List<String>>, Closeable {
+    private static final int INITIAL_COLUMN_SIZE = 1024;
+
+    private final CsvParser parser;
+    private CsvParseEvent parseEvent = new CsvParseEvent();
+
+    private List<String> nextRow = null;
+    private boolean isEndOfFile = false;
+    private long readRowsAmount = 0;
+    private Predicate<List<String>> rowPredicate = null;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(String filePath) throws IOException {
+        this(filePath, CELLS_DEFAULT_SPLITTER);
+    }
+
+    /********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter CSV cells splitter enum.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(String filePath, CellsSplitterEnum cellsSplitter) throws IOException {
+        this(filePath, cellsSplitter.getChar());
+    }
+
+    /********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param isCsvContainHeaders true in case CSV file contain headers, else the value is false.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(String filePath, boolean isCsvContainHeaders) throws IOException {
+        this(filePath, CELLS_DEFAULT_SPLITTER, isCsvContainHeaders);
+    }
+
+    /********************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(String filePath, char cellsSplitter) throws IOException {
+        this(filePath, cellsSplitter, CsvReaderApi.CSV_CONTAIN_HEADERS);
+    }
+
+    /*******************************
+     * Constructor.
+     * <p>
+     * In case CSV contain headers, headers row is parsed in constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter CSV cells splitter char.
+     * @param isCsvContainHeaders true in case CSV file contain headers, else the value is false.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(
+            String filePath,
+            char cellsSplitter,
+            final boolean isCsvContainHeaders) throws IOException {
+
+        this(filePath,
+                new CsvReaderConfig()
+                        .setCellsSplitter(cellsSplitter)
+                        .setCsvContainHeaders(isCsvContainHeaders));
+    }
+
+    /*******************************
+     * Constructor.
+     * <p>
+     * In case CSV contain headers, headers row is parsed in constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV reader configuration.
+     * @throws IOException in case fail read CSV file.
+     */
+    public CsvStreamReaderApi(String filePath, CsvReaderConfig config) throws IOException {
+        super(filePath, config.getCellsSplitter());
+
+        parseEvent.begin();
+        parser = config.openParser(filePath);
+
+        try {
+            if (config.isCsvContainHeaders()) {
+                setHeaderList();
+            }
+
+            config.setParserPredicates(parser, filePath, headerList);
+            List<String> projectedHeaders = config.setParserProjection(parser, filePath, headerList);
+
+            if (!projectedHeaders.isEmpty()) {
+                headerList = projectedHeaders;
+                updateHeaderIndexMap();
+            }
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+
+        config.setParserDictionaries(parser, headerList);
+        rowPredicate = config.getRowPredicate();
+    }
+
+    /******************************
+     * Get header list.
+     *
+     * @return String list of CSV headers.
+     */
+    public List<String> getHeaderList() {
+        return headerList;
+    }
+
+    /******************************
+     * Get column index that it's header is 'headerName'. First index is 0.
+     *
+     * @param headerName Header name.
+     * @return Column index. Return -1 in case header not exist.
+     */
+    public int getColumnIndex(String headerName) {
+        return getHeaderIndex(headerName);
+    }
+
+    /******************************
+     * Get CSV file path.
+     *
+     * @return CSV file path.
+     */
+    public String getPath() {
+        return filePath;
+    }
+
+    /******************************
+     * Is there another row in CSV.
+     *
+     * @return true in case CSV contain another row.
+     * @throws UncheckedIOException in case fail read CSV file.
+     */
+    @Override
+    public boolean hasNext() {
+        if ((nextRow == null) && (!isEndOfFile)) {
+            nextRow = readRow();
+            isEndOfFile = nextRow == null;
+        }
+
+        return nextRow != null;
+    }
+
+    /******************************
+     * Get next row.
+     *
+     * @return Next row cells.
+     * @throws NoSuchElementException in case there are no more rows.
+     * @throws UncheckedIOException in case fail read CSV file.
+     */
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException(
+                    "There are no more rows in CSV file [" + filePath + "]");
+        }
+
+        List<String> row = nextRow;
+        nextRow = null;
+        readRowsAmount++;
+
+        return row;
+    }
+
+    /******************************
+     * Get stream of the remaining rows.
+     * <p>
+     * Closing the stream close the CSV file.
+     *
+     * @return Stream of rows.
+     */
+    public Stream<List<String>> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::closeQuietly);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as int values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @return Column int values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid int.
+     * @throws IOException in case fail read CSV file.
+     */
+    public int[] readIntColumn(
+            String headerName) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readIntColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as int values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column int values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid int.
+     * @throws IOException in case fail read CSV file.
+     */
+    public int[] readIntColumn(
+            String headerName,
+            int emptyValue) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readIntColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as long values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @return Column long values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid long.
+     * @throws IOException in case fail read CSV file.
+     */
+    public long[] readLongColumn(
+            String headerName) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readLongColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as long values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column long values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid long.
+     * @throws IOException in case fail read CSV file.
+     */
+    public long[] readLongColumn(
+            String headerName,
+            long emptyValue) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readLongColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as double values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @return Column double values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not a valid double.
+     * @throws IOException in case fail read CSV file.
+     */
+    public double[] readDoubleColumn(
+            String headerName) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readDoubleColumn(headerName, false, 0);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as double values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column double values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not a valid double.
+     * @throws IOException in case fail read CSV file.
+     */
+    public double[] readDoubleColumn(
+            String headerName,
+            double emptyValue) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readDoubleColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as boolean values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @return Column boolean values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is empty or not "true" or "false".
+     * @throws IOException in case fail read CSV file.
+     */
+    public boolean[] readBooleanColumn(
+            String headerName) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readBooleanColumn(headerName, false, false);
+    }
+
+    /******************************
+     * Read column cells of the remaining rows as boolean values.
+     * <p>
+     * Cells are parsed straight from the parser record buffer,
+     * without creating Strings or boxing. The remaining rows are consumed.
+     *
+     * @param headerName Header name.
+     * @param emptyValue Value of empty cells.
+     * @return Column boolean values.
+     * @throws IndexOutOfBoundsException 'headerName' column not exist, or column index exceed row.
+     * @throws NumberFormatException Cell is not "true" or "false".
+     * @throws IOException in case fail read CSV file.
+     */
+    public boolean[] readBooleanColumn(
+            String headerName,
+            boolean emptyValue) throws IndexOutOfBoundsException, NumberFormatException, IOException {
+
+        return readBooleanColumn(headerName, true, emptyValue);
+    }
+
+    /******************************
+     * Close CSV file.
+     *
+     * @throws IOException in case fail close CSV file.
+     */
+    @Override
+    public void close() throws IOException {
+        isEndOfFile = true;
+        nextRow = null;
+        parser.close();
+
+        if (parseEvent != null) {
+            parseEvent.commit(filePath, parser.getBytesAmount(), parser.getRecordsAmount(), 1);
+            // Event is committed only one time
+            parseEvent = null;
+        }
+    }
+
+    private int[] readIntColumn(
+            String headerName, boolean isEmptyAllowed, int emptyValue) throws IOException {
+
+        int columnIndex = getExistHeaderIndex(headerName);
+        int[] values = new int[INITIAL_COLUMN_SIZE];
+        int amount = 0;
+        CharSequence cell = nextColumnCell(columnIndex);
+
+        while (cell != null) {
+            if (amount == values.length) {
+                values = Arrays.copyOf(values, amount * 2);
+            }
+
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, readRowsAmount - 1);
+                values[amount++] = emptyValue;
+            } else {
+                values[amount++] = parseIntCell(cell, headerName, readRowsAmount - 1);
+            }
+
+            cell = nextColumnCell(columnIndex);
+        }
+
+        return Arrays.copyOf(values, amount);
+    }
+
+    private long[] readLongColumn(
+            String headerName, boolean isEmptyAllowed, long emptyValue) throws IOException {
+
+        int columnIndex = getExistHeaderIndex(headerName);
+        long[] values = new long[INITIAL_COLUMN_SIZE];
+        int amount = 0;
+        CharSequence cell = nextColumnCell(columnIndex);
+
+        while (cell != null) {
+            if (amount == values.length) {
+                values = Arrays.copyOf(values, amount * 2);
+            }
+
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, readRowsAmount - 1);
+                values[amount++] = emptyValue;
+            } else {
+                values[amount++] = parseLongCell(cell, headerName, readRowsAmount - 1);
+            }
+
+            cell = nextColumnCell(columnIndex);
+        }
+
+        return Arrays.copyOf(values, amount);
+    }
+
+    private double[] readDoubleColumn(
+            String headerName, boolean isEmptyAllowed, double emptyValue) throws IOException {
+
+        int columnIndex = getExistHeaderIndex(headerName);
+        double[] values = new double[INITIAL_COLUMN_SIZE];
+        int amount = 0;
+        CharSequence cell = nextColumnCell(columnIndex);
+
+        while (cell != null) {
+            if (amount == values.length) {
+                values = Arrays.copyOf(values, amount * 2);
+            }
+
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, readRowsAmount - 1);
+                values[amount++] = emptyValue;
+            } else {
+                values[amount++] = parseDoubleCell(cell, headerName, readRowsAmount - 1);
+            }
+
+            cell = nextColumnCell(columnIndex);
+        }
+
+        return Arrays.copyOf(values, amount);
+    }
+
+    private boolean[] readBooleanColumn(
+            String headerName, boolean isEmptyAllowed, boolean emptyValue) throws IOException {
+
+        int columnIndex = getExistHeaderIndex(headerName);
+        boolean[] values = new boolean[INITIAL_COLUMN_SIZE];
+        int amount = 0;
+        CharSequence cell = nextColumnCell(columnIndex);
+
+        while (cell != null) {
+            if (amount == values.length) {
+                values = Arrays.copyOf(values, amount * 2);
+            }
+
+            if (cell.length() == 0) {
+                validateEmptyCellAllowed(isEmptyAllowed, headerName, readRowsAmount - 1);
+                values[amount++] = emptyValue;
+            } else {
+                values[amount++] = parseBooleanCell(cell, headerName, readRowsAmount - 1);
+            }
+
+            cell = nextColumnCell(columnIndex);
+        }
+
+        return Arrays.copyOf(values, amount);
+    }
+
+    private CharSequence nextColumnCell(int columnIndex) throws IOException {
+        int cellsAmount;
+        CharSequence cell;
+
+        if ((nextRow == null) && (rowPredicate != null) && (!isEndOfFile)) {
+            // Row predicate is tested with the whole row
+            nextRow = nextAcceptedRow();
+        }
+
+        if (nextRow != null) {
+            cellsAmount = nextRow.size();
+            cell = columnIndex < cellsAmount ? nextRow.get(columnIndex) : null;
+            nextRow = null;
+        } else if ((!isEndOfFile) && (parser.nextRecord())) {
+            cellsAmount = parser.getCellsAmount();
+            cell = columnIndex < cellsAmount ? parser.getCellChars(columnIndex) : null;
+        } else {
+            isEndOfFile = true;
+            return null;
+        }
+
+        if (cell == null) {
+            throw new IndexOutOfBoundsException(
+                    "Column index [" + columnIndex + "] in CSV file [" + filePath
+                    + "] exceed of row size [" + cellsAmount + "] in row index [" + readRowsAmount + "]");
+        }
+
+        readRowsAmount++;
+
+        return cell;
+    }
+
+    private List<String> readRow() {
+        try {
+            return nextAcceptedRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Fail read row from CSV file [" + filePath + "]", e);
+        }
+    }
+
+    private List<String> nextAcceptedRow() throws IOException {
+        List<String> row = parser.nextRow();
+
+        while ((row != null) && (rowPredicate != null) && (!rowPredicate.test(row))) {
+            row = parser.nextRow();
+        }
+
+        return row;
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void setHeaderList() throws IOException {
+        List<String> headers = parser.nextRow();
+
+        if (headers != null) {
+            headerList = headers;
+            updateHeaderIndexMap();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.List;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.jfr.CsvSaveEvent;
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*********************************************
+ * CSV stream writer API.
+ * <p>
+ * Create CSV file and write headers and rows to the file as they are added,
+ * so rows are not kept in memory.
+ * In case the file already exists than the file will be overwritten.
+ * <p>
+ * Rows are written through a buffer. Use {@link #flush()} to write the buffer to the file,
+ * and {@link #close()} to flush and close the file.
+ *
+ * @author Eyal Tuzon
+ */
+public class CsvStreamWriterApi extends CsvWriterBase implements Closeable, Flushable {
+    public static final int DEFAULT_BUFFER_SIZE = CsvRowEncoder.DEFAULT_BUFFER_SIZE;
+
+    private final CsvRowEncoder encoder;
+
+    private long rowsAmount = 0;
+    private boolean isSetHeaders = false;
+    private boolean isClosed = false;
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvStreamWriterApi(String filePath) throws IOException {
+        this(filePath, CELLS_DEFAULT_SPLITTER);
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter enum.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvStreamWriterApi(String filePath, CellsSplitterEnum cellsSplitter) throws IOException {
+        this(filePath, cellsSplitter.getChar());
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvStreamWriterApi(String filePath, char cellsSplitter) throws IOException {
+        this(filePath, new CsvWriterConfig().setCellsSplitter(cellsSplitter));
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @param bufferSize Write buffer size in chars.
+     * @throws IOException in case fail to create CSV file.
+     * @throws InvalidValueException in case buffer size is not positive.
+     */
+    public CsvStreamWriterApi(
+            String filePath, char cellsSplitter, int bufferSize) throws IOException, InvalidValueException {
+
+        this(filePath, new CsvWriterConfig().setCellsSplitter(cellsSplitter).setBufferSize(bufferSize));
+    }
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param config CSV writer configuration.
+     * @throws IOException in case fail to create CSV file.
+     */
+    public CsvStreamWriterApi(String filePath, CsvWriterConfig config) throws IOException {
+        super(filePath, config.getCellsSplitter());
+
+        encoder = config.openEncoder(filePath);
+    }
+
+    /*********************************************
+     * Set CSV headers and write them to the file.
+     * Headers can be set only one time, before adding rows.
+     *
+     * @param headerList Header list.
+     * @throws CsvOperationException in case headers already set, rows already added, or CSV file is closed.
+     * @throws InvalidValueException in case header list is null.
+     * @throws IOException in case fail write headers to CSV file.
+     */
+    public void setHeaders(
+            final List<String> headerList) throws CsvOperationException, InvalidValueException, IOException {
+
+        if (isSetHeaders) {
+            throw new CsvOperationException("Headers already set and cannot set multiple times");
+        }
+
+        if (rowsAmount > 0) {
+            throw new CsvOperationException("Headers cannot be set after rows were added");
+        }
+
+        validateNotClosed();
+        validateNotNull(headerList);
+
+        isSetHeaders = true;
+
+        super.headerList = headerList;
+
+        updateRowSizeAfterUpdateHeaderList();
+        writeRow(headerList);
+    }
+
+    /*********************************************
+     * Add a row to CSV body and write it to the file.
+     *
+     * @param row A row of cells.
+     * @throws InvalidValueException in case row is null or row size is different
+     *         from previous headers amount or rows size.
+     * @throws CsvOperationException in case CSV file is closed.
+     * @throws IOException in case fail write row to CSV file.
+     */
+    public void addRow(List<String> row) throws InvalidValueException, CsvOperationException, IOException {
+        validateNotClosed();
+        validateNotNull(row);
+        updateRowSizeBeforeUpdateRow(row);
+        writeRow(row);
+        rowsAmount++;
+    }
+
+    /*********************************************
+     * Add rows to CSV body and write them to the file.
+     *
+     * @param rowList List of rows.
+     * @throws InvalidValueException in case rowList is null.
+     * @throws CsvOperationException in case CSV file is closed.
+     * @throws IOException in case fail write rows to CSV file.
+     */
+    public void addRows(
+            List<List<String>> rowList) throws InvalidValueException, CsvOperationException, IOException {
+
+        validateNotNull(rowList);
+
+        for (List<String> row : rowList) {
+            addRow(row);
+        }
+    }
+
+    /*********************************************
+     * Get amount of rows that were added. Not include headers row.
+     *
+     * @return Rows amount.
+     */
+    public long getRowsAmount() {
+        return rowsAmount;
+    }
+
+    /*********************************************
+     * Is CSV file closed.
+     *
+     * @return true in case CSV file was closed, else return false.
+     */
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /*********************************************
+     * Write buffered rows to CSV file.
+     *
+     * @throws IOException in case fail write to CSV file.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!isClosed) {
+            CsvSaveEvent event = new CsvSaveEvent();
+            event.begin();
+            encoder.flush();
+            event.commit(filePath, encoder.getBytesAmount(), getRowsAmount(), true);
+        }
+    }
+
+    /*********************************************
+     * Flush buffered rows and close CSV file.
+     *
+     * @throws IOException in case fail write to CSV file or close it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        encoder.close();
+        event.commit(filePath, encoder.getBytesAmount(), getRowsAmount(), false);
+    }
+
+    private void writeRow(List<String> row) throws IOException {
+        encoder.writeRow(row);
+    }
+
+    private void validateNotClosed() throws CsvOperationException {
+        if (isClosed) {
+            throw new CsvOperationException(
+                    "CSV file [" + filePath + "] already been closed");
+        }
+    }
+}
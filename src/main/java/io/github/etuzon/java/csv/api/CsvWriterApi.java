@@ -1,18 +1,13 @@
 package io.github.etuzon.java.csv.api;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
 import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.jfr.CsvSaveEvent;
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
 import io.github.etuzon.projects.core.expections.InvalidValueException;
-import io.github.etuzon.projects.core.utils.StringUtil;
 /*********************************************
  * CSV writer API.
  * <p>
@@ -26,15 +21,13 @@ import io.github.etuzon.projects.core.utils.StringUtil;
  * 
  * @author Eyal Tuzon
  */
-public class CsvWriterApi extends CsvApiBase {
-    private int rowSize = -1;
-
+public class CsvWriterApi extends CsvWriterBase {
     private boolean isCsvSaved = false;
 
     private boolean isSetHeaders = false;
 
-    private Writer writer = null;
-    private PrintWriter printWriter = null;
+    private final CsvWriterConfig config;
+    private CsvRowEncoder encoder = null;
 
     /*********************************************
      * Constructor.
@@ -62,7 +55,18 @@ public class CsvWriterApi extends CsvApiBase {
      * @param cellsSplitter Cells splitter char.
      */
     public CsvWriterApi(String filePath, char cellsSplitter) {
-        super(filePath, cellsSplitter);
+        this(filePath, new CsvWriterConfig().setCellsSplitter(cellsSplitter));
+    }
+
+    /*********************************************
+     * Constructor.
+     * 
+     * @param filePath CSV file path.
+     * @param config CSV writer configuration.
+     */
+    public CsvWriterApi(String filePath, CsvWriterConfig config) {
+        super(filePath, config.getCellsSplitter());
+        this.config = config;
     }
 
     /*********************************************
@@ -200,14 +204,26 @@ public class CsvWriterApi extends CsvApiBase {
             throw new CsvOperationException("CSV file [" + filePath + "] already been saved");
         }
 
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        CsvRowEncoder savedEncoder;
+
         try {
-            openFileAndSetPrintWriter();
-            writeCsvHeadersRowToFile();
-            writeCsvRowsToFile();
+            openFileAndSetEncoder();
+            savedEncoder = encoder;
+
+            // Fail to close the file is thrown, since the buffered bytes are written while closing
+            try (savedEncoder) {
+                writeCsvHeadersRowToFile();
+                writeCsvRowsToFile();
+            }
         } finally {
             isCsvSaved = true;
-            closeFile();
+            encoder = null;
         }
+
+        // Bytes are counted after close, so the encoder buffer is included
+        event.commit(filePath, savedEncoder.getBytesAmount(), csvRows.size(), false);
     }
 
     /*********************************************
@@ -219,84 +235,19 @@ public class CsvWriterApi extends CsvApiBase {
         return isCsvSaved;
     }
 
-    private void closeFile() {
-        try {
-            if (printWriter != null) {
-                printWriter.close();
-            }
-
-            if (writer != null) {
-                writer.close();
-            }
-        } catch (Exception ignored) {
-        } finally {
-            writer = null;
-            printWriter = null;
-        }
-    }
-
-    private void writeCsvRowsToFile() {
+    private void writeCsvRowsToFile() throws IOException {
         for (List<String> row : csvRows) {
-            printWriter.println(convertCsvRowToFileRow(row));
+            encoder.writeRow(row);
         }
     }
 
-    private void writeCsvHeadersRowToFile() {
+    private void writeCsvHeadersRowToFile() throws IOException {
         if (!headerList.isEmpty()) {
-            printWriter.println(convertCsvRowToFileRow(headerList));
+            encoder.writeRow(headerList);
         }
     }
 
-    private void openFileAndSetPrintWriter() throws IOException {
-        File file = new File(filePath);
-        writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
-        printWriter = new PrintWriter(writer);
-    }
-
-    private void updateRowSizeBeforeUpdateRow(List<String> row) throws InvalidValueException {
-        if (rowSize != -1) {
-            if (rowSize != row.size()) {
-                throw new InvalidValueException("Current row size [" + row.size()
-                        + "] is different from CSV previous updated row size [" + rowSize + "]");
-            }
-        } else {
-            rowSize = row.size();
-        }
-    }
-
-    private void updateRowSizeAfterUpdateHeaderList() throws InvalidValueException {
-        if (rowSize != -1) {
-            if (rowSize != headerList.size()) {
-                throw new InvalidValueException(
-                        "Headers amount [" + headerList.size()
-                        + "] is different from CSV previous updated rows size [" + rowSize + "]");
-            }
-        } else {
-            rowSize = headerList.size();
-        }
-    }
-
-    private String convertCsvRowToFileRow(List<String> csvRow) {
-        StringBuilder rowToFile = new StringBuilder();
-
-        for (String cell : csvRow) {
-            cell = updateCellIfContainInvertedCommas(cell);
-            cell = delimitWithInvertedCommasIfComplexCell(cell);
-            rowToFile.append(cell).append(cellsSplitter);
-        }
-
-        return StringUtil.removeLastChar(rowToFile.toString());
-    }
-
-    private String updateCellIfContainInvertedCommas(String cell) {
-        return cell.replace("\"", "\"\"");
-    }
-
-    private String delimitWithInvertedCommasIfComplexCell(String cell) {
-        if ((cell.contains("\n")) || (cell.contains("\"")) || (cell.indexOf(cellsSplitter) >= 0)) {
-            cell = "\"" + cell + "\"";
-        }
-
-        return cell;
+    private void openFileAndSetEncoder() throws IOException {
+        encoder = config.openEncoder(filePath);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package io.github.etuzon.java.csv.api;
+
+import java.util.List;
+
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*********************************************
+ * CSV writer base class.
+ * <p>
+ * Validate rows size. Rows are converted to CSV file format by {@link CsvRowEncoder}.
+ *
+ * @author Eyal Tuzon
+ */
+public abstract class CsvWriterBase extends CsvApiBase {
+    private int rowSize = -1;
+
+    /*********************************************
+     * Constructor.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     */
+    protected CsvWriterBase(String filePath, char cellsSplitter) {
+        super(filePath, cellsSplitter);
+    }
+
+    /*********************************************
+     * Validate that row size is equal to previous rows and headers size.
+     *
+     * @param row A row of cells.
+     * @throws InvalidValueException in case row size is different from previous rows or headers size.
+     */
+    protected void updateRowSizeBeforeUpdateRow(List<String> row) throws InvalidValueException {
+        if (rowSize != -1) {
+            if (rowSize != row.size()) {
+                throw new InvalidValueException("Current row size [" + row.size()
+                        + "] is different from CSV previous updated row size [" + rowSize + "]");
+            }
+        } else {
+            rowSize = row.size();
+        }
+    }
+
+    /*********************************************
+     * Validate that headers amount is equal to previous rows size.
+     *
+     * @throws InvalidValueException in case headers amount is different from previous rows size.
+     */
+    protected void updateRowSizeAfterUpdateHeaderList() throws InvalidValueException {
+        if (rowSize != -1) {
+            if (rowSize != headerList.size()) {
+                throw new InvalidValueException(
+                        "Headers amount [" + headerList.size()
+                        + "] is different from CSV previous updated rows size [" + rowSize + "]");
+            }
+        } else {
+            rowSize = headerList.size();
+        }
+    }
+}
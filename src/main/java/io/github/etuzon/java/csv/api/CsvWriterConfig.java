@@ -0,0 +1,246 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.FileOutputEnum;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+import io.github.etuzon.java.csv.writer.CountingOutputStream;
+import io.github.etuzon.java.csv.writer.CsvRowEncoder;
+import io.github.etuzon.java.csv.writer.Utf8ChannelWriter;
+import io.github.etuzon.projects.core.base.ObjectBase;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * CSV writer configuration.
+ * <p>
+ * Configuration is used by {@link CsvWriterApi}, {@link CsvStreamWriterApi}, {@link CsvConcurrentWriterApi}
+ * and {@link CsvAsyncWriterApi}.
+ * Setters return the configuration, so they can be chained.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvWriterConfig extends ObjectBase {
+    private char cellsSplitter = CsvApiBase.CELLS_DEFAULT_SPLITTER;
+    private FileOutputEnum fileOutput = FileOutputEnum.STREAM;
+    private int bufferSize = CsvRowEncoder.DEFAULT_BUFFER_SIZE;
+    private int channelBufferSize = Utf8ChannelWriter.DEFAULT_BUFFER_SIZE;
+    private long preallocateSize = 0;
+    private CsvMetricsListener metricsListener = null;
+
+    /*********************************
+     * Set cells splitter.
+     *
+     * @param cellsSplitter Cells splitter char.
+     * @return This configuration.
+     */
+    public CsvWriterConfig setCellsSplitter(char cellsSplitter) {
+        this.cellsSplitter = cellsSplitter;
+        return this;
+    }
+
+    /*********************************
+     * Set cells splitter.
+     *
+     * @param cellsSplitter Cells splitter enum.
+     * @return This configuration.
+     */
+    public CsvWriterConfig setCellsSplitter(CellsSplitterEnum cellsSplitter) {
+        return setCellsSplitter(cellsSplitter.getChar());
+    }
+
+    /*********************************
+     * Set how CSV file is written.
+     * <p>
+     * {@link FileOutputEnum#CHANNEL} and {@link FileOutputEnum#MEMORY_MAPPED} encode UTF-8
+     * straight into a bytes buffer, without charset encoder, and are faster for large files.
+     *
+     * @param fileOutput File output enum.
+     * @return This configuration.
+     * @throws InvalidValueException in case file output is null.
+     */
+    public CsvWriterConfig setFileOutput(FileOutputEnum fileOutput) throws InvalidValueException {
+        validateNotNull(fileOutput);
+        this.fileOutput = fileOutput;
+        return this;
+    }
+
+    /*********************************
+     * Set size in chars of encoded rows buffer.
+     *
+     * @param bufferSize Buffer size in chars.
+     * @return This configuration.
+     * @throws InvalidValueException in case buffer size is not positive.
+     */
+    public CsvWriterConfig setBufferSize(int bufferSize) throws InvalidValueException {
+        validatePositive(bufferSize);
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /*********************************
+     * Set size in bytes of UTF-8 bytes buffer.
+     * <p>
+     * Used by {@link FileOutputEnum#CHANNEL} and {@link FileOutputEnum#MEMORY_MAPPED}.
+     *
+     * @param channelBufferSize Buffer size in bytes.
+     * @return This configuration.
+     * @throws InvalidValueException in case buffer size is not positive.
+     */
+    public CsvWriterConfig setChannelBufferSize(int channelBufferSize) throws InvalidValueException {
+        validatePositive(channelBufferSize);
+        this.channelBufferSize = channelBufferSize;
+        return this;
+    }
+
+    /*********************************
+     * Set file size in bytes that is allocated when file is created.
+     * <p>
+     * Used by {@link FileOutputEnum#CHANNEL} and {@link FileOutputEnum#MEMORY_MAPPED}.
+     * File is truncated to the written size when it is closed.
+     *
+     * @param preallocateSize File size in bytes. 0 in case file is not preallocated.
+     * @return This configuration.
+     * @throws InvalidValueException in case preallocate size is negative.
+     */
+    public CsvWriterConfig setPreallocateSize(long preallocateSize) throws InvalidValueException {
+        if (preallocateSize < 0) {
+            throw new InvalidValueException(
+                    "Value [" + preallocateSize + "] should not be negative");
+        }
+
+        this.preallocateSize = preallocateSize;
+        return this;
+    }
+
+    /*********************************
+     * Set metrics listener.
+     * <p>
+     * Listener is notified of phases durations while writing,
+     * and of records statistics when the file is closed.
+     * Writer without listener does not measure anything.
+     *
+     * @param metricsListener Metrics listener, for example {@link io.github.etuzon.java.csv.metrics.CsvMetrics}.
+     *        null in case metrics are disabled.
+     * @return This configuration.
+     */
+    public CsvWriterConfig setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
+    /*********************************
+     * Get cells splitter.
+     *
+     * @return Cells splitter char.
+     */
+    public char getCellsSplitter() {
+        return cellsSplitter;
+    }
+
+    /*********************************
+     * Get how CSV file is written.
+     *
+     * @return File output enum.
+     */
+    public FileOutputEnum getFileOutput() {
+        return fileOutput;
+    }
+
+    /*********************************
+     * Get size in chars of encoded rows buffer.
+     *
+     * @return Buffer size in chars.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /*********************************
+     * Get size in bytes of UTF-8 bytes buffer.
+     *
+     * @return Buffer size in bytes.
+     */
+    public int getChannelBufferSize() {
+        return channelBufferSize;
+    }
+
+    /*********************************
+     * Get file size in bytes that is allocated when file is created.
+     *
+     * @return File size in bytes.
+     */
+    public long getPreallocateSize() {
+        return preallocateSize;
+    }
+
+    /*********************************
+     * Get metrics listener.
+     *
+     * @return Metrics listener, or null in case metrics are disabled.
+     */
+    public CsvMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /*********************************
+     * Create CSV file and open row encoder according to the configuration.
+     * <p>
+     * In case the file already exists than the file will be overwritten.
+     *
+     * @param filePath CSV file path.
+     * @return Row encoder.
+     * @throws IOException in case fail create CSV file.
+     */
+    CsvRowEncoder openEncoder(String filePath) throws IOException {
+        return openEncoder(filePath, UnaryOperator.identity());
+    }
+
+    /*********************************
+     * Create CSV file and open row encoder, that write the encoded rows to the file writer via a pipe writer.
+     * <p>
+     * Pipe writer pass the encoded chars to the file writer, for example by another thread.
+     * Bytes are counted by the file writer.
+     *
+     * @param filePath CSV file path.
+     * @param pipe Function that get the file writer, and return the writer that encoded rows are written to.
+     *        Pipe writer should close the file writer when it is closed.
+     * @return Row encoder.
+     * @throws IOException in case fail create CSV file.
+     */
+    CsvRowEncoder openEncoder(String filePath, UnaryOperator<Writer> pipe) throws IOException {
+        Writer writer;
+        LongSupplier bytesCounter;
+
+        if (fileOutput == FileOutputEnum.STREAM) {
+            CountingOutputStream output = new CountingOutputStream(new FileOutputStream(filePath));
+            writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            bytesCounter = output::getBytesAmount;
+        } else {
+            Utf8ChannelWriter channelWriter = Utf8ChannelWriter.open(
+                    filePath, channelBufferSize, fileOutput == FileOutputEnum.MEMORY_MAPPED, preallocateSize);
+            writer = channelWriter;
+            bytesCounter = channelWriter::getBytesAmount;
+        }
+
+        CsvRowEncoder encoder = new CsvRowEncoder(pipe.apply(writer), cellsSplitter, bufferSize);
+        encoder.setBytesCounter(bytesCounter);
+        encoder.setMetricsListener(metricsListener);
+
+        return encoder;
+    }
+
+    private void validatePositive(int value) throws InvalidValueException {
+        if (value < 1) {
+            throw new InvalidValueException(
+                    "Value [" + value + "] should be positive");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * CSV phase enum.
+ * <p>
+ * IO read bytes from file or write chars to file.
+ * DECODE decode UTF-8 bytes into chars.
+ * TOKENIZE split chars into records and cells.
+ * MATERIALIZE create row and add it to CSV rows.
+ * ENCODE encode row in CSV file format.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum CsvPhaseEnum {
+    IO, DECODE, TOKENIZE, MATERIALIZE, ENCODE
+}
@@ -0,0 +1,14 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * File input enum.
+ * <p>
+ * STREAM read file via input stream.
+ * MEMORY_MAPPED read file via memory mapped file channel.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum FileInputEnum {
+    STREAM, MEMORY_MAPPED
+}
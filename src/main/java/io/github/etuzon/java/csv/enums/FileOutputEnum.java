@@ -0,0 +1,15 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * File output enum.
+ * <p>
+ * STREAM write file via output stream writer.
+ * CHANNEL encode UTF-8 into a bytes buffer and write it via file channel.
+ * MEMORY_MAPPED encode UTF-8 into a bytes buffer and copy it to memory mapped file regions.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum FileOutputEnum {
+    STREAM, CHANNEL, MEMORY_MAPPED
+}
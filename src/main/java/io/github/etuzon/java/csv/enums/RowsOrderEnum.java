@@ -0,0 +1,14 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * Rows order enum.
+ * <p>
+ * ORDERED write rows in the order they were added by all threads.
+ * UNORDERED write rows of each thread in the order they were added by the thread.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum RowsOrderEnum {
+    ORDERED, UNORDERED
+}
@@ -0,0 +1,15 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * Rows storage enum.
+ * <p>
+ * ROWS keep cells in list per row.
+ * COLUMNAR keep cells in array per column.
+ * LAZY keep record chars per row, and create cell String only on access.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum RowsStorageEnum {
+    ROWS, COLUMNAR, LAZY
+}
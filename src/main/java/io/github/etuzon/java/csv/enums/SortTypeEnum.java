@@ -0,0 +1,16 @@
+package io.github.etuzon.java.csv.enums;
+
+/*********************************
+ * Sort type enum.
+ * <p>
+ * STRING compare cells as strings.
+ * LONG compare cells as long values.
+ * DOUBLE compare cells as double values.
+ * Empty cells of LONG and DOUBLE types are before all values in ascending order.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public enum SortTypeEnum {
+    STRING, LONG, DOUBLE
+}
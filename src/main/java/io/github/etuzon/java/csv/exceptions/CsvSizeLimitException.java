@@ -0,0 +1,27 @@
+package io.github.etuzon.java.csv.exceptions;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**************************************************
+ * Exception for CSV record or cell that exceed the configured maximum size.
+ * <p>
+ * Exception extends {@link IOException} because it is thrown while reading CSV file.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvSizeLimitException extends IOException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**************************************************
+     * Constructor.
+     *
+     * @param message Exception message.
+     */
+    public CsvSizeLimitException(String message) {
+        super(message);
+    }
+}
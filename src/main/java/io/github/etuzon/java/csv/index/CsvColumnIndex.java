@@ -0,0 +1,215 @@
+package io.github.etuzon.java.csv.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.etuzon.java.csv.parser.LazyRow;
+import io.github.etuzon.java.csv.storage.ColumnarRows;
+
+/*************************************************
+ * CSV column hash index.
+ * <p>
+ * Index answer equality lookups of column cells in constant time.
+ * <p>
+ * Index does not copy the cells. It keeps an open addressing table of row indexes,
+ * a chain that link each row to the next row with the same value, and the hash of each row cell,
+ * so memory usage is about 16 bytes per row also for high cardinality columns.
+ * Equality is checked against the cells in the rows storage, only for cells with same hash.
+ * Cells of lazy and columnar rows are read as chars, so Strings are not created while probing.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvColumnIndex {
+    private static final int EMPTY_SLOT = -1;
+    private static final int END_OF_CHAIN = -1;
+
+    private final List<List<String>> rows;
+    private final int columnIndex;
+
+    private final int[] slots;
+    private final int[] nextRowIndexes;
+    private final int[] rowHashes;
+    private int distinctValuesAmount = 0;
+
+    /*********************************
+     * Constructor.
+     * Build index of the column.
+     *
+     * @param rows CSV rows.
+     * @param columnIndex Indexed column index.
+     * @throws IndexOutOfBoundsException in case column index exceed row size.
+     */
+    public CsvColumnIndex(List<List<String>> rows, int columnIndex) throws IndexOutOfBoundsException {
+        this.rows = rows;
+        this.columnIndex = columnIndex;
+
+        slots = new int[getTableSize(rows.size())];
+        nextRowIndexes = new int[rows.size()];
+        rowHashes = new int[rows.size()];
+
+        build();
+    }
+
+    /*********************************
+     * Get indexed column index.
+     *
+     * @return Column index.
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /*********************************
+     * Get amount of distinct values in the column.
+     *
+     * @return Distinct values amount.
+     */
+    public int getDistinctValuesAmount() {
+        return distinctValuesAmount;
+    }
+
+    /*********************************
+     * Get first row index that its cell is 'value'.
+     *
+     * @param value Cell value.
+     * @return Row index. Return -1 in case value not exist.
+     */
+    public int getFirstRowIndex(String value) {
+        int slot = findSlot(value, hash(value));
+
+        return slots[slot] == EMPTY_SLOT ? -1 : slots[slot];
+    }
+
+    /*********************************
+     * Get indexes of all rows that their cell is 'value'.
+     *
+     * @param value Cell value.
+     * @return Row indexes in ascending order. Return empty list in case value not exist.
+     */
+    public List<Integer> getRowIndexes(String value) {
+        int rowIndex = getFirstRowIndex(value);
+
+        if (rowIndex == -1) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> rowIndexes = new ArrayList<>();
+
+        while (rowIndex != END_OF_CHAIN) {
+            rowIndexes.add(rowIndex);
+            rowIndex = nextRowIndexes[rowIndex];
+        }
+
+        return rowIndexes;
+    }
+
+    private void build() throws IndexOutOfBoundsException {
+        Arrays.fill(slots, EMPTY_SLOT);
+
+        // Rows are added from last to first, so each chain is in ascending order
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            CharSequence cell = getCellChars(i);
+            rowHashes[i] = hash(cell);
+            int slot = findSlot(cell, rowHashes[i]);
+
+            if (slots[slot] == EMPTY_SLOT) {
+                distinctValuesAmount++;
+                nextRowIndexes[i] = END_OF_CHAIN;
+            } else {
+                nextRowIndexes[i] = slots[slot];
+            }
+
+            slots[slot] = i;
+        }
+    }
+
+    private int findSlot(CharSequence value, int valueHash) {
+        int mask = slots.length - 1;
+        int slot = valueHash & mask;
+
+        // Cell is read only for rows with same hash
+        while ((slots[slot] != EMPTY_SLOT)
+                && ((rowHashes[slots[slot]] != valueHash) || (!isEqual(getCellChars(slots[slot]), value)))) {
+
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private CharSequence getCellChars(int rowIndex) throws IndexOutOfBoundsException {
+        if (rows instanceof ColumnarRows columnarRows) {
+            validateColumnIndex(rowIndex, columnarRows.getRowSize(rowIndex));
+
+            return columnarRows.getCell(rowIndex, columnIndex);
+        }
+
+        List<String> row = rows.get(rowIndex);
+        validateColumnIndex(rowIndex, row.size());
+
+        return row instanceof LazyRow lazyRow ? lazyRow.getCellChars(columnIndex) : row.get(columnIndex);
+    }
+
+    private void validateColumnIndex(int rowIndex, int rowSize) throws IndexOutOfBoundsException {
+        if (rowSize <= columnIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Column index [" + columnIndex + "] exceed of row size [" + rowSize
+                    + "] in row index [" + rowIndex + "]");
+        }
+    }
+
+    private static boolean isEqual(CharSequence cell, CharSequence value) {
+        if ((cell == null) || (value == null)) {
+            return cell == value;
+        }
+
+        if (value instanceof String string) {
+            return string.contentEquals(cell);
+        }
+
+        int length = cell.length();
+
+        if (length != value.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (cell.charAt(i) != value.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int hash(CharSequence value) {
+        if (value == null) {
+            return 0;
+        }
+
+        int h;
+
+        if (value instanceof String) {
+            h = value.hashCode();
+        } else {
+            // Same hash as String hash code, so cell chars and String values have same hash
+            h = 0;
+
+            for (int i = 0; i < value.length(); i++) {
+                h = 31 * h + value.charAt(i);
+            }
+        }
+
+        return h ^ (h >>> 16);
+    }
+
+    private static int getTableSize(int rowsAmount) {
+        // Load factor is at most 0.5
+        int size = Integer.highestOneBit(Math.max(rowsAmount, 1)) << 2;
+
+        return Math.max(size, 2);
+    }
+}
@@ -0,0 +1,476 @@
+package io.github.etuzon.java.csv.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+
+/*************************************************
+ * CSV row offset index.
+ * <p>
+ * Index keep the byte offset of every record start, or of every 'step' record start in a sparse index,
+ * so a record can be parsed by seeking to the nearest indexed record before it,
+ * without parsing the file from its start.
+ * <p>
+ * Record boundaries are found by a single pass on the file bytes, with the same states as
+ * {@link io.github.etuzon.java.csv.parser.CsvParser}, so line breaks in quoted cells are not record boundaries.
+ * Structural chars are ASCII, and ASCII bytes never appear inside UTF-8 multi bytes char,
+ * so bytes are not decoded.
+ * <p>
+ * Index can be saved to a sidecar file next to the CSV file.
+ * Sidecar file keep CSV file size and last modified time, and is ignored after the CSV file was changed.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvRowOffsetIndex {
+    public static final String SIDECAR_EXTENSION = ".idx";
+    public static final int DEFAULT_STEP = 64;
+
+    private static final int MAGIC = 0x43535649;
+    private static final int VERSION = 1;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_OFFSETS_SIZE = 1024;
+
+    private static final int STATE_CELL_START = 0;
+    private static final int STATE_UNQUOTED = 1;
+    private static final int STATE_QUOTED = 2;
+    private static final int STATE_QUOTE_IN_QUOTED = 3;
+
+    private final String filePath;
+    private final char cellsSplitter;
+    private final int step;
+    private final long fileSize;
+    private final long lastModifiedTime;
+    private final long recordsAmount;
+    private final long[] offsets;
+
+    private CsvRowOffsetIndex(
+            String filePath,
+            char cellsSplitter,
+            int step,
+            long fileSize,
+            long lastModifiedTime,
+            long recordsAmount,
+            long[] offsets) {
+
+        this.filePath = filePath;
+        this.cellsSplitter = cellsSplitter;
+        this.step = step;
+        this.fileSize = fileSize;
+        this.lastModifiedTime = lastModifiedTime;
+        this.recordsAmount = recordsAmount;
+        this.offsets = offsets;
+    }
+
+    /*********************************
+     * Build index of CSV file.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char. Should be ASCII char.
+     * @param step Amount of records between indexed records. 1 index all records.
+     * @return Row offset index.
+     * @throws InvalidValueException in case step is not positive or cells splitter is not ASCII char.
+     * @throws FileNotFoundException in case CSV file was not found.
+     * @throws IOException in case fail read CSV file.
+     */
+    public static CsvRowOffsetIndex build(
+            String filePath, char cellsSplitter, int step) throws InvalidValueException, IOException {
+
+        if (step < 1) {
+            throw new InvalidValueException("Step [" + step + "] should be positive");
+        }
+
+        if (cellsSplitter > 0x7F) {
+            throw new InvalidValueException("Cells splitter [" + cellsSplitter + "] should be ASCII char");
+        }
+
+        Path path = Paths.get(filePath);
+        // File attributes are read before the file, so file that is changed while building is indexed again
+        long lastModifiedTime = getLastModifiedTime(path);
+
+        try (InputStream input = openFile(filePath)) {
+            OffsetsScanner scanner = new OffsetsScanner((byte) cellsSplitter, step);
+            scanner.scan(input);
+
+            return new CsvRowOffsetIndex(
+                    filePath,
+                    cellsSplitter,
+                    step,
+                    scanner.position,
+                    lastModifiedTime,
+                    scanner.recordsAmount,
+                    Arrays.copyOf(scanner.offsets, scanner.offsetsAmount));
+        }
+    }
+
+    /*********************************
+     * Load index of CSV file from its sidecar file.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @return Row offset index. Return null in case sidecar file not exist, is invalid,
+     *         was created with another cells splitter, or CSV file was changed after it was created.
+     * @throws IOException in case fail read sidecar file.
+     */
+    public static CsvRowOffsetIndex load(String filePath, char cellsSplitter) throws IOException {
+        Path sidecarPath = Paths.get(getSidecarPath(filePath));
+
+        if (!Files.isRegularFile(sidecarPath)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(sidecarPath)))) {
+
+            if ((input.readInt() != MAGIC) || (input.readInt() != VERSION)) {
+                return null;
+            }
+
+            long fileSize = input.readLong();
+            long lastModifiedTime = input.readLong();
+            char indexCellsSplitter = input.readChar();
+            int step = input.readInt();
+            long recordsAmount = input.readLong();
+            int offsetsAmount = input.readInt();
+
+            if ((indexCellsSplitter != cellsSplitter)
+                    || (step < 1)
+                    || (offsetsAmount != (recordsAmount + step - 1) / step)) {
+                return null;
+            }
+
+            long[] offsets = new long[offsetsAmount];
+
+            for (int i = 0; i < offsetsAmount; i++) {
+                offsets[i] = input.readLong();
+            }
+
+            CsvRowOffsetIndex index = new CsvRowOffsetIndex(
+                    filePath, cellsSplitter, step, fileSize, lastModifiedTime, recordsAmount, offsets);
+
+            return index.isValid() ? index : null;
+        } catch (EOFException e) {
+            // Sidecar file that was not saved completely is ignored
+            return null;
+        }
+    }
+
+    /*********************************
+     * Load index of CSV file from its sidecar file,
+     * or build the index and save it to sidecar file in case the sidecar file cannot be used.
+     * <p>
+     * Index is built again in case sidecar file was created with another step.
+     * Failure to save sidecar file is ignored, and the index is built again next time.
+     *
+     * @param filePath CSV file path.
+     * @param cellsSplitter Cells splitter char. Should be ASCII char.
+     * @param step Amount of records between indexed records. 1 index all records.
+     * @return Row offset index.
+     * @throws InvalidValueException in case step is not positive or cells splitter is not ASCII char.
+     * @throws FileNotFoundException in case CSV file was not found.
+     * @throws IOException in case fail read CSV file.
+     */
+    public static CsvRowOffsetIndex open(
+            String filePath, char cellsSplitter, int step) throws InvalidValueException, IOException {
+
+        CsvRowOffsetIndex index = loadQuietly(filePath, cellsSplitter);
+
+        if ((index != null) && (index.getStep() == step)) {
+            return index;
+        }
+
+        index = build(filePath, cellsSplitter, step);
+
+        try {
+            index.save();
+        } catch (IOException ignored) {
+        }
+
+        return index;
+    }
+
+    /*********************************
+     * Get sidecar file path of CSV file.
+     *
+     * @param filePath CSV file path.
+     * @return Sidecar file path.
+     */
+    public static String getSidecarPath(String filePath) {
+        return filePath + SIDECAR_EXTENSION;
+    }
+
+    /*********************************
+     * Save index to sidecar file.
+     * <p>
+     * Index is written to a temporary file that replace the sidecar file,
+     * so readers never see a partially written sidecar file.
+     *
+     * @throws IOException in case fail write sidecar file.
+     */
+    public void save() throws IOException {
+        Path sidecarPath = Paths.get(getSidecarPath(filePath));
+        Path tempPath = Paths.get(getSidecarPath(filePath) + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(fileSize);
+            output.writeLong(lastModifiedTime);
+            output.writeChar(cellsSplitter);
+            output.writeInt(step);
+            output.writeLong(recordsAmount);
+            output.writeInt(offsets.length);
+
+            for (long offset : offsets) {
+                output.writeLong(offset);
+            }
+        }
+
+        Files.move(tempPath, sidecarPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /*********************************
+     * Is index valid for the current CSV file.
+     *
+     * @return true in case CSV file size and last modified time are same as when the index was built.
+     */
+    public boolean isValid() {
+        Path path = Paths.get(filePath);
+
+        try {
+            return (Files.size(path) == fileSize) && (getLastModifiedTime(path) == lastModifiedTime);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /*********************************
+     * Get CSV file path.
+     *
+     * @return CSV file path.
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /*********************************
+     * Get amount of records between indexed records.
+     *
+     * @return Step.
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /*********************************
+     * Get CSV file size in bytes when the index was built.
+     *
+     * @return File size.
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /*********************************
+     * Get amount of records in CSV file, include headers record.
+     *
+     * @return Records amount.
+     */
+    public long getRecordsAmount() {
+        return recordsAmount;
+    }
+
+    /*********************************
+     * Get index of the nearest indexed record, at or before the record.
+     *
+     * @param recordIndex Record index. First record index is 0.
+     * @return Indexed record index.
+     * @throws IndexOutOfBoundsException in case record index is out of records bounds.
+     */
+    public long getIndexedRecordIndex(long recordIndex) throws IndexOutOfBoundsException {
+        validateRecordIndex(recordIndex);
+
+        return recordIndex - (recordIndex % step);
+    }
+
+    /*********************************
+     * Get byte offset of the nearest indexed record, at or before the record.
+     *
+     * @param recordIndex Record index. First record index is 0.
+     * @return Byte offset of indexed record start.
+     * @throws IndexOutOfBoundsException in case record index is out of records bounds.
+     */
+    public long getIndexedOffset(long recordIndex) throws IndexOutOfBoundsException {
+        validateRecordIndex(recordIndex);
+
+        return offsets[(int) (recordIndex / step)];
+    }
+
+    /*********************************
+     * Get byte offset of the nearest indexed record after the record.
+     *
+     * @param recordIndex Record index. First record index is 0.
+     * @return Byte offset of the next indexed record start, or file size in case there is no indexed record after it.
+     * @throws IndexOutOfBoundsException in case record index is out of records bounds.
+     */
+    public long getNextIndexedOffset(long recordIndex) throws IndexOutOfBoundsException {
+        validateRecordIndex(recordIndex);
+        int offsetIndex = (int) (recordIndex / step) + 1;
+
+        return offsetIndex < offsets.length ? offsets[offsetIndex] : fileSize;
+    }
+
+    private void validateRecordIndex(long recordIndex) throws IndexOutOfBoundsException {
+        if ((recordIndex < 0) || (recordIndex >= recordsAmount)) {
+            throw new IndexOutOfBoundsException(
+                    "Record index [" + recordIndex + "] is out of records amount [" + recordsAmount
+                    + "] of CSV file [" + filePath + "]");
+        }
+    }
+
+    private static CsvRowOffsetIndex loadQuietly(String filePath, char cellsSplitter) {
+        try {
+            return load(filePath, cellsSplitter);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static long getLastModifiedTime(Path path) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("CSV file [" + path + "] was not found");
+        }
+    }
+
+    private static InputStream openFile(String filePath) throws FileNotFoundException {
+        try {
+            return new FileInputStream(filePath);
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException("CSV file [" + filePath + "] was not found");
+        }
+    }
+
+    /*********************************************
+     * Scanner of record start offsets.
+     */
+    private static class OffsetsScanner {
+        private final byte cellsSplitter;
+        private final int step;
+
+        private long[] offsets = new long[INITIAL_OFFSETS_SIZE];
+        private int offsetsAmount = 0;
+        private long recordsAmount = 0;
+        private long position = 0;
+
+        private int state = STATE_CELL_START;
+        private boolean isRecordStarted = false;
+        private boolean isSkipLineFeed = false;
+
+        private OffsetsScanner(byte cellsSplitter, int step) {
+            this.cellsSplitter = cellsSplitter;
+            this.step = step;
+        }
+
+        private void scan(InputStream input) throws IOException {
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int length = input.read(buffer);
+
+            while (length != -1) {
+                for (int i = 0; i < length; i++) {
+                    next(buffer[i], position + i);
+                }
+
+                position += length;
+                length = input.read(buffer);
+            }
+        }
+
+        private void next(byte b, long bytePosition) {
+            if (isSkipLineFeed) {
+                isSkipLineFeed = false;
+
+                if (b == '\n') {
+                    return;
+                }
+            }
+
+            if (!isRecordStarted) {
+                isRecordStarted = true;
+                addRecord(bytePosition);
+            }
+
+            switch (state) {
+                case STATE_CELL_START:
+                    if (b == '"') {
+                        state = STATE_QUOTED;
+                        break;
+                    }
+                    // Cell not start with inverted comma
+                    // fall through
+                case STATE_UNQUOTED:
+                    if (b == cellsSplitter) {
+                        state = STATE_CELL_START;
+                    } else if ((b == '\n') || (b == '\r')) {
+                        endRecord(b);
+                    } else {
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+                case STATE_QUOTED:
+                    if (b == '"') {
+                        state = STATE_QUOTE_IN_QUOTED;
+                    } else if (b == '\r') {
+                        isSkipLineFeed = true;
+                    }
+                    break;
+                default:
+                    if (b == '"') {
+                        state = STATE_QUOTED;
+                    } else if (b == cellsSplitter) {
+                        state = STATE_CELL_START;
+                    } else if ((b == '\n') || (b == '\r')) {
+                        endRecord(b);
+                    } else {
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+            }
+        }
+
+        private void endRecord(byte b) {
+            isSkipLineFeed = b == '\r';
+            isRecordStarted = false;
+            state = STATE_CELL_START;
+        }
+
+        private void addRecord(long offset) {
+            if (recordsAmount % step == 0) {
+                if (offsetsAmount == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsetsAmount * 2);
+                }
+
+                offsets[offsetsAmount++] = offset;
+            }
+
+            recordsAmount++;
+        }
+    }
+}
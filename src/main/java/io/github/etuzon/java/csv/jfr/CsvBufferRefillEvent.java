@@ -0,0 +1,48 @@
+package io.github.etuzon.java.csv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*************************************************
+ * CSV buffer refill JFR event.
+ * <p>
+ * Event of reading and decoding the next chars into parser buffer.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@Name(CsvBufferRefillEvent.NAME)
+@Label("CSV Buffer Refill")
+@Description("Read and decode of the next chars into CSV parser buffer")
+@Category({ "CSV API", "Read" })
+@StackTrace(false)
+public class CsvBufferRefillEvent extends jdk.jfr.Event {
+    public static final String NAME = "io.github.etuzon.csv.BufferRefill";
+
+    @Label("Chars Amount")
+    @Description("Amount of chars that were read into the buffer")
+    private int charsAmount;
+
+    @Label("Record Number")
+    @Description("Number of the record that was parsed when buffer was refilled")
+    private long recordNumber;
+
+    /*********************************
+     * End event and commit it in case it is enabled and exceed its threshold.
+     *
+     * @param charsAmount Amount of chars that were read into the buffer.
+     * @param recordNumber Number of the record that was parsed when buffer was refilled.
+     */
+    public void commit(int charsAmount, long recordNumber) {
+        end();
+
+        if (shouldCommit()) {
+            this.charsAmount = charsAmount;
+            this.recordNumber = recordNumber;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.etuzon.java.csv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*************************************************
+ * CSV chunk parse JFR event.
+ * <p>
+ * Event of parsing one chunk of CSV file by parallel parser.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@Name(CsvChunkParseEvent.NAME)
+@Label("CSV Chunk Parse")
+@Description("Parse of CSV file chunk by parallel parser")
+@Category({ "CSV API", "Read" })
+@StackTrace(false)
+public class CsvChunkParseEvent extends jdk.jfr.Event {
+    public static final String NAME = "io.github.etuzon.csv.ChunkParse";
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Start Position")
+    @Description("Chunk start position in bytes")
+    private long startPosition;
+
+    @Label("Bytes Amount")
+    @DataAmount
+    private long bytesAmount;
+
+    @Label("Rows Amount")
+    private long rowsAmount;
+
+    /*********************************
+     * End event and commit it in case it is enabled and exceed its threshold.
+     *
+     * @param filePath CSV file path.
+     * @param startPosition Chunk start position in bytes.
+     * @param bytesAmount Chunk size in bytes.
+     * @param rowsAmount Amount of parsed records.
+     */
+    public void commit(String filePath, long startPosition, long bytesAmount, long rowsAmount) {
+        end();
+
+        if (shouldCommit()) {
+            this.filePath = filePath;
+            this.startPosition = startPosition;
+            this.bytesAmount = bytesAmount;
+            this.rowsAmount = rowsAmount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.etuzon.java.csv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*************************************************
+ * CSV parse JFR event.
+ * <p>
+ * Event duration is from CSV file open until the file was parsed or the reader was closed.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@Name(CsvParseEvent.NAME)
+@Label("CSV Parse")
+@Description("Parse of CSV file")
+@Category({ "CSV API", "Read" })
+@StackTrace(false)
+public class CsvParseEvent extends jdk.jfr.Event {
+    public static final String NAME = "io.github.etuzon.csv.Parse";
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Amount")
+    @DataAmount
+    private long bytesAmount;
+
+    @Label("Rows Amount")
+    @Description("Amount of parsed records, include headers record")
+    private long rowsAmount;
+
+    @Label("Parallelism")
+    private int parallelism;
+
+    /*********************************
+     * End event and commit it in case it is enabled and exceed its threshold.
+     *
+     * @param filePath CSV file path.
+     * @param bytesAmount Amount of bytes that were read.
+     * @param rowsAmount Amount of parsed records, include headers record.
+     * @param parallelism Amount of threads that parsed the file.
+     */
+    public void commit(String filePath, long bytesAmount, long rowsAmount, int parallelism) {
+        end();
+
+        if (shouldCommit()) {
+            this.filePath = filePath;
+            this.bytesAmount = bytesAmount;
+            this.rowsAmount = rowsAmount;
+            this.parallelism = parallelism;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.etuzon.java.csv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*************************************************
+ * CSV record growth JFR event.
+ * <p>
+ * Event of growing parser record buffer, because of a large record or cell.
+ * Event has stack trace, so it show which reader parsed the large record.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@Name(CsvRecordGrowthEvent.NAME)
+@Label("CSV Record Growth")
+@Description("Growth of CSV parser record buffer because of a large record or cell")
+@Category({ "CSV API", "Read" })
+public class CsvRecordGrowthEvent extends jdk.jfr.Event {
+    public static final String NAME = "io.github.etuzon.csv.RecordGrowth";
+
+    @Label("Previous Size")
+    @Description("Previous record buffer size in chars")
+    private int previousSize;
+
+    @Label("New Size")
+    @Description("New record buffer size in chars")
+    private int newSize;
+
+    @Label("Cell Size")
+    @Description("Size in chars of the cell that is parsed")
+    private int cellSize;
+
+    @Label("Record Number")
+    private long recordNumber;
+
+    /*********************************
+     * End event and commit it in case it is enabled and exceed its threshold.
+     *
+     * @param previousSize Previous record buffer size in chars.
+     * @param newSize New record buffer size in chars.
+     * @param cellSize Size in chars of the cell that is parsed.
+     * @param recordNumber Number of the record that is parsed.
+     */
+    public void commit(int previousSize, int newSize, int cellSize, long recordNumber) {
+        end();
+
+        if (shouldCommit()) {
+            this.previousSize = previousSize;
+            this.newSize = newSize;
+            this.cellSize = cellSize;
+            this.recordNumber = recordNumber;
+            commit();
+        }
+    }
+}
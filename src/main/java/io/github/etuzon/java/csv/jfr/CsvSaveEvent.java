@@ -0,0 +1,61 @@
+package io.github.etuzon.java.csv.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*************************************************
+ * CSV save JFR event.
+ * <p>
+ * Event of saving CSV file, or flushing buffered rows of streaming writer.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+@Name(CsvSaveEvent.NAME)
+@Label("CSV Save")
+@Description("Save of CSV file, or flush of buffered rows to CSV file")
+@Category({ "CSV API", "Write" })
+@StackTrace(false)
+public class CsvSaveEvent extends jdk.jfr.Event {
+    public static final String NAME = "io.github.etuzon.csv.Save";
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Amount")
+    @Description("CSV file size after save or flush")
+    @DataAmount
+    private long bytesAmount;
+
+    @Label("Rows Amount")
+    @Description("Amount of rows that were written, not include headers row")
+    private long rowsAmount;
+
+    @Label("Flush")
+    @Description("true in case buffered rows were flushed, false in case CSV file was saved")
+    private boolean isFlush;
+
+    /*********************************
+     * End event and commit it in case it is enabled and exceed its threshold.
+     *
+     * @param filePath CSV file path.
+     * @param bytesAmount CSV file size after save or flush.
+     * @param rowsAmount Amount of rows that were written, not include headers row.
+     * @param isFlush true in case buffered rows were flushed, false in case CSV file was saved.
+     */
+    public void commit(String filePath, long bytesAmount, long rowsAmount, boolean isFlush) {
+        end();
+
+        if (shouldCommit()) {
+            this.filePath = filePath;
+            this.bytesAmount = bytesAmount;
+            this.rowsAmount = rowsAmount;
+            this.isFlush = isFlush;
+            commit();
+        }
+    }
+}
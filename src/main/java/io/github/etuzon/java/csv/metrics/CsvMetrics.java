@@ -0,0 +1,141 @@
+package io.github.etuzon.java.csv.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+
+/*************************************************
+ * CSV metrics.
+ * <p>
+ * Metrics is a listener that aggregate records statistics of all readers and writers it was set to,
+ * and a durations histogram of each phase.
+ * Metrics is thread safe, and is updated without locks,
+ * so one instance can be shared by all readers and writers of a process.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvMetrics implements CsvMetricsListener {
+    private final RecordsCounters readCounters = new RecordsCounters();
+    private final RecordsCounters writeCounters = new RecordsCounters();
+    private final PhaseHistogram[] histograms = new PhaseHistogram[CsvPhaseEnum.values().length];
+
+    /*********************************
+     * Constructor.
+     */
+    public CsvMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new PhaseHistogram();
+        }
+    }
+
+    @Override
+    public void onRead(CsvRecordsStats stats) {
+        readCounters.add(stats);
+    }
+
+    @Override
+    public void onWrite(CsvRecordsStats stats) {
+        writeCounters.add(stats);
+    }
+
+    @Override
+    public void onPhase(CsvPhaseEnum phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /*********************************
+     * Get statistics of all records that were read.
+     *
+     * @return Read records statistics.
+     */
+    public CsvRecordsStats getReadStats() {
+        return readCounters.getStats();
+    }
+
+    /*********************************
+     * Get statistics of all records that were written.
+     *
+     * @return Written records statistics.
+     */
+    public CsvRecordsStats getWriteStats() {
+        return writeCounters.getStats();
+    }
+
+    /*********************************
+     * Get durations histogram of phase.
+     *
+     * @param phase Phase enum.
+     * @return Phase durations histogram.
+     */
+    public PhaseHistogram getHistogram(CsvPhaseEnum phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /*********************************
+     * Remove all metrics.
+     */
+    public void reset() {
+        readCounters.reset();
+        writeCounters.reset();
+
+        for (PhaseHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("read: ").append(getReadStats())
+                .append(System.lineSeparator())
+                .append("write: ").append(getWriteStats());
+
+        for (CsvPhaseEnum phase : CsvPhaseEnum.values()) {
+            builder.append(System.lineSeparator()).append(phase).append(": ").append(getHistogram(phase));
+        }
+
+        return builder.toString();
+    }
+
+    /*********************************************
+     * Records statistics counters.
+     */
+    private static class RecordsCounters {
+        private final LongAdder bytesAmount = new LongAdder();
+        private final LongAdder recordsAmount = new LongAdder();
+        private final LongAdder cellsAmount = new LongAdder();
+        private final LongAdder multilineRecordsAmount = new LongAdder();
+        private final LongAdder quotedCellsAmount = new LongAdder();
+        private final LongAccumulator maxCellSize = new LongAccumulator(Math::max, 0);
+
+        private void add(CsvRecordsStats stats) {
+            bytesAmount.add(stats.getBytesAmount());
+            recordsAmount.add(stats.getRecordsAmount());
+            cellsAmount.add(stats.getCellsAmount());
+            multilineRecordsAmount.add(stats.getMultilineRecordsAmount());
+            quotedCellsAmount.add(stats.getQuotedCellsAmount());
+            maxCellSize.accumulate(stats.getMaxCellSize());
+        }
+
+        private CsvRecordsStats getStats() {
+            return new CsvRecordsStats(
+                    bytesAmount.sum(),
+                    recordsAmount.sum(),
+                    cellsAmount.sum(),
+                    multilineRecordsAmount.sum(),
+                    quotedCellsAmount.sum(),
+                    (int) maxCellSize.get());
+        }
+
+        private void reset() {
+            bytesAmount.reset();
+            recordsAmount.reset();
+            cellsAmount.reset();
+            multilineRecordsAmount.reset();
+            quotedCellsAmount.reset();
+            maxCellSize.reset();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.etuzon.java.csv.metrics;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+
+/*************************************************
+ * CSV metrics listener.
+ * <p>
+ * Listener is notified by readers and writers that it was set to,
+ * and can export the metrics to any metrics system.
+ * {@link CsvMetrics} is a listener that aggregate the metrics in memory.
+ * <p>
+ * Listener can be notified by multiple threads at the same time,
+ * for example by parallel parsers, so it should be thread safe.
+ * Readers and writers without listener do not measure anything.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public interface CsvMetricsListener {
+
+    /*********************************
+     * Notified when parser finished reading, with statistics of the records it read.
+     *
+     * @param stats Read records statistics.
+     */
+    void onRead(CsvRecordsStats stats);
+
+    /*********************************
+     * Notified when encoder finished writing, with statistics of the records it wrote.
+     *
+     * @param stats Written records statistics.
+     */
+    void onWrite(CsvRecordsStats stats);
+
+    /*********************************
+     * Notified when a phase operation finished, for example a buffer read or a record tokenize.
+     *
+     * @param phase Phase enum.
+     * @param nanos Operation duration in nanoseconds.
+     */
+    void onPhase(CsvPhaseEnum phase, long nanos);
+}
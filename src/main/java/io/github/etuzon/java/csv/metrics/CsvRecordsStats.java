@@ -0,0 +1,105 @@
+package io.github.etuzon.java.csv.metrics;
+
+/*************************************************
+ * CSV records statistics.
+ * <p>
+ * Statistics of the records that were read by one parser, or written by one encoder.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvRecordsStats {
+    private final long bytesAmount;
+    private final long recordsAmount;
+    private final long cellsAmount;
+    private final long multilineRecordsAmount;
+    private final long quotedCellsAmount;
+    private final int maxCellSize;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param bytesAmount Amount of bytes that were read or written.
+     * @param recordsAmount Amount of records, include headers record.
+     * @param cellsAmount Amount of cells.
+     * @param multilineRecordsAmount Amount of records with cells that contain line break.
+     * @param quotedCellsAmount Amount of cells that are delimited with inverted commas.
+     * @param maxCellSize Size in chars of the largest cell.
+     */
+    public CsvRecordsStats(
+            long bytesAmount,
+            long recordsAmount,
+            long cellsAmount,
+            long multilineRecordsAmount,
+            long quotedCellsAmount,
+            int maxCellSize) {
+
+        this.bytesAmount = bytesAmount;
+        this.recordsAmount = recordsAmount;
+        this.cellsAmount = cellsAmount;
+        this.multilineRecordsAmount = multilineRecordsAmount;
+        this.quotedCellsAmount = quotedCellsAmount;
+        this.maxCellSize = maxCellSize;
+    }
+
+    /*********************************
+     * Get amount of bytes that were read or written.
+     *
+     * @return Bytes amount.
+     */
+    public long getBytesAmount() {
+        return bytesAmount;
+    }
+
+    /*********************************
+     * Get amount of records, include headers record.
+     *
+     * @return Records amount.
+     */
+    public long getRecordsAmount() {
+        return recordsAmount;
+    }
+
+    /*********************************
+     * Get amount of cells.
+     *
+     * @return Cells amount.
+     */
+    public long getCellsAmount() {
+        return cellsAmount;
+    }
+
+    /*********************************
+     * Get amount of records with cells that contain line break.
+     *
+     * @return Multiline records amount.
+     */
+    public long getMultilineRecordsAmount() {
+        return multilineRecordsAmount;
+    }
+
+    /*********************************
+     * Get amount of cells that are delimited with inverted commas.
+     *
+     * @return Quoted cells amount.
+     */
+    public long getQuotedCellsAmount() {
+        return quotedCellsAmount;
+    }
+
+    /*********************************
+     * Get size in chars of the largest cell.
+     *
+     * @return Largest cell size in chars.
+     */
+    public int getMaxCellSize() {
+        return maxCellSize;
+    }
+
+    @Override
+    public String toString() {
+        return "bytes [" + bytesAmount + "], records [" + recordsAmount + "], cells [" + cellsAmount
+                + "], multiline records [" + multilineRecordsAmount + "], quoted cells [" + quotedCellsAmount
+                + "], max cell size [" + maxCellSize + "]";
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.etuzon.java.csv.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*************************************************
+ * Phase durations histogram.
+ * <p>
+ * Histogram count durations in buckets of powers of 2 nanoseconds.
+ * Bucket 0 count durations of 0 nanoseconds,
+ * and bucket i count durations from 2^(i-1) nanoseconds up to 2^i nanoseconds (exclusive).
+ * <p>
+ * Histogram is thread safe, and durations are recorded without locks.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class PhaseHistogram {
+    public static final int BUCKETS_AMOUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_AMOUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /*********************************
+     * Constructor.
+     */
+    public PhaseHistogram() {
+        for (int i = 0; i < BUCKETS_AMOUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /*********************************
+     * Record duration.
+     *
+     * @param nanos Duration in nanoseconds. Negative duration is recorded as 0.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+
+        buckets[getBucket(duration)].increment();
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    /*********************************
+     * Get amount of recorded durations.
+     *
+     * @return Durations amount.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /*********************************
+     * Get sum of recorded durations.
+     *
+     * @return Total duration in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /*********************************
+     * Get longest recorded duration.
+     *
+     * @return Maximum duration in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /*********************************
+     * Get amount of durations in bucket.
+     *
+     * @param bucket Bucket index.
+     * @return Durations amount.
+     * @throws IndexOutOfBoundsException in case bucket index is out of buckets bounds.
+     */
+    public long getBucketCount(int bucket) throws IndexOutOfBoundsException {
+        return buckets[bucket].sum();
+    }
+
+    /*********************************
+     * Get duration at percentile.
+     * <p>
+     * Duration is the upper bound of the bucket that contain the percentile,
+     * so it is at most 2 times the real duration.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return Duration in nanoseconds, or 0 in case no duration was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS_AMOUNT];
+        long total = 0;
+
+        // Buckets are summed one time, so percentile is calculated from one snapshot
+        for (int i = 0; i < BUCKETS_AMOUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+        long cumulative = 0;
+
+        for (int i = 0; i < BUCKETS_AMOUNT; i++) {
+            cumulative += counts[i];
+
+            if ((cumulative >= rank) && (cumulative > 0)) {
+                return getBucketUpperBound(i);
+            }
+        }
+
+        return 0;
+    }
+
+    /*********************************
+     * Remove all recorded durations.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /*********************************
+     * Get bucket of duration.
+     *
+     * @param nanos Duration in nanoseconds, not negative.
+     * @return Bucket index.
+     */
+    public static int getBucket(long nanos) {
+        return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /*********************************
+     * Get bucket upper bound.
+     *
+     * @param bucket Bucket index.
+     * @return Upper bound of bucket durations in nanoseconds (exclusive), or 1 for bucket 0.
+     */
+    public static long getBucketUpperBound(int bucket) {
+        return bucket == BUCKETS_AMOUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    @Override
+    public String toString() {
+        return "count [" + getCount() + "], total [" + getTotalNanos() + "] ns, p50 [" + getPercentileNanos(50)
+                + "] ns, p99 [" + getPercentileNanos(99) + "] ns, max [" + getMaxNanos() + "] ns";
+    }
+}
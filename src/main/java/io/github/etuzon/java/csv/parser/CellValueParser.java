@@ -0,0 +1,259 @@
+package io.github.etuzon.java.csv.parser;
+
+/*************************************************
+ * Cell value parser.
+ * <p>
+ * Parse primitive values straight from cell chars, without creating intermediate Strings.
+ * Cell chars can be a String or the parser record buffer view {@link CsvParser#getCellChars(int)}.
+ * <p>
+ * Values are parsed as {@link Integer#parseInt}, {@link Long#parseLong} and {@link Double#parseDouble}.
+ * Double values that need full precision parsing fall back to {@link Double#parseDouble}.
+ * Boolean values are "true" or "false", ignoring case.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public final class CellValueParser {
+    private static final String INT_TYPE = "int";
+    private static final String LONG_TYPE = "long";
+    private static final String BOOLEAN_TYPE = "boolean";
+
+    private static final String TRUE_VALUE = "true";
+    private static final String FALSE_VALUE = "false";
+
+    // Mantissa up to 15 digits and power of ten up to 22 are exact doubles
+    private static final int MAX_FAST_PATH_DIGITS = 15;
+    private static final int MAX_FAST_PATH_EXPONENT = 22;
+    private static final int MAX_EXPONENT_DIGITS = 5;
+    private static final double[] POWERS_OF_TEN = new double[MAX_FAST_PATH_EXPONENT + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private CellValueParser() {
+    }
+
+    /*********************************
+     * Parse int value.
+     *
+     * @param value Cell chars.
+     * @return Int value.
+     * @throws NumberFormatException in case value is not a valid int.
+     */
+    public static int parseInt(CharSequence value) throws NumberFormatException {
+        long result = parseLong(value, INT_TYPE);
+
+        if ((result < Integer.MIN_VALUE) || (result > Integer.MAX_VALUE)) {
+            throw createException(value, INT_TYPE);
+        }
+
+        return (int) result;
+    }
+
+    /*********************************
+     * Parse long value.
+     *
+     * @param value Cell chars.
+     * @return Long value.
+     * @throws NumberFormatException in case value is not a valid long.
+     */
+    public static long parseLong(CharSequence value) throws NumberFormatException {
+        return parseLong(value, LONG_TYPE);
+    }
+
+    /*********************************
+     * Parse double value.
+     *
+     * @param value Cell chars.
+     * @return Double value.
+     * @throws NumberFormatException in case value is not a valid double.
+     */
+    public static double parseDouble(CharSequence value) throws NumberFormatException {
+        int length = value.length();
+        int i = 0;
+        boolean isNegative = false;
+
+        if ((length > 0) && ((value.charAt(0) == '-') || (value.charAt(0) == '+'))) {
+            isNegative = value.charAt(0) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean isDigitFound = false;
+        boolean isPointFound = false;
+
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+
+            if ((c >= '0') && (c <= '9')) {
+                isDigitFound = true;
+
+                if ((mantissa == 0) && (c == '0')) {
+                    // Leading zero is not significant
+                    exponent -= isPointFound ? 1 : 0;
+                    continue;
+                }
+
+                if (++significantDigits > MAX_FAST_PATH_DIGITS) {
+                    return parseDoubleFallback(value);
+                }
+
+                mantissa = mantissa * 10 + (c - '0');
+                exponent -= isPointFound ? 1 : 0;
+            } else if ((c == '.') && (!isPointFound)) {
+                isPointFound = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!isDigitFound) {
+            return parseDoubleFallback(value);
+        }
+
+        if ((i < length) && ((value.charAt(i) == 'e') || (value.charAt(i) == 'E'))) {
+            int exponentEnd = parseExponentEnd(value, i + 1);
+
+            if (exponentEnd == -1) {
+                return parseDoubleFallback(value);
+            }
+
+            exponent += parseInt(value, i + 1, exponentEnd);
+            i = exponentEnd;
+        }
+
+        if ((i != length) || (Math.abs(exponent) > MAX_FAST_PATH_EXPONENT)) {
+            return parseDoubleFallback(value);
+        }
+
+        double result = exponent < 0
+                ? mantissa / POWERS_OF_TEN[-exponent]
+                : mantissa * POWERS_OF_TEN[exponent];
+
+        return isNegative ? -result : result;
+    }
+
+    /*********************************
+     * Parse boolean value.
+     *
+     * @param value Cell chars.
+     * @return true in case value is "true", false in case value is "false". Case is ignored.
+     * @throws NumberFormatException in case value is not "true" or "false".
+     */
+    public static boolean parseBoolean(CharSequence value) throws NumberFormatException {
+        if (isEqualsIgnoreCase(value, TRUE_VALUE)) {
+            return true;
+        }
+
+        if (isEqualsIgnoreCase(value, FALSE_VALUE)) {
+            return false;
+        }
+
+        throw createException(value, BOOLEAN_TYPE);
+    }
+
+    private static long parseLong(CharSequence value, String typeName) throws NumberFormatException {
+        int length = value.length();
+        int i = 0;
+        boolean isNegative = false;
+
+        if ((length > 0) && ((value.charAt(0) == '-') || (value.charAt(0) == '+'))) {
+            isNegative = value.charAt(0) == '-';
+            i++;
+        }
+
+        if (i == length) {
+            throw createException(value, typeName);
+        }
+
+        // Accumulate negatively, so Long.MIN_VALUE does not overflow
+        long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+
+            if ((digit < 0) || (digit > 9) || (result < multiplyLimit)) {
+                throw createException(value, typeName);
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                throw createException(value, typeName);
+            }
+
+            result -= digit;
+        }
+
+        return isNegative ? result : -result;
+    }
+
+    private static int parseExponentEnd(CharSequence value, int start) {
+        int i = start;
+
+        if ((i < value.length()) && ((value.charAt(i) == '-') || (value.charAt(i) == '+'))) {
+            i++;
+        }
+
+        int digitsStart = i;
+
+        while ((i < value.length()) && (value.charAt(i) >= '0') && (value.charAt(i) <= '9')) {
+            i++;
+        }
+
+        if ((i == digitsStart) || (i - digitsStart > MAX_EXPONENT_DIGITS)) {
+            return -1;
+        }
+
+        return i;
+    }
+
+    private static int parseInt(CharSequence value, int start, int end) {
+        int i = start;
+        boolean isNegative = value.charAt(i) == '-';
+
+        if ((value.charAt(i) == '-') || (value.charAt(i) == '+')) {
+            i++;
+        }
+
+        int result = 0;
+
+        for (; i < end; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+
+        return isNegative ? -result : result;
+    }
+
+    private static double parseDoubleFallback(CharSequence value) throws NumberFormatException {
+        return Double.parseDouble(value.toString());
+    }
+
+    private static boolean isEqualsIgnoreCase(CharSequence value, String expected) {
+        if (value.length() != expected.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(value.charAt(i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static NumberFormatException createException(CharSequence value, String typeName) {
+        return new NumberFormatException(
+                "Value [" + value + "] is not a valid " + typeName);
+    }
+}
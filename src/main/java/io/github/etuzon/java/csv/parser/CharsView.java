@@ -0,0 +1,64 @@
+package io.github.etuzon.java.csv.parser;
+
+/*************************************************
+ * Chars view.
+ * <p>
+ * Read only {@link CharSequence} over a range of chars buffer, without copying the chars.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class CharsView implements CharSequence {
+    private char[] chars;
+    private int start;
+    private int end;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param chars Chars buffer.
+     * @param start Range start position.
+     * @param end Range end position (exclusive).
+     */
+    CharsView(char[] chars, int start, int end) {
+        set(chars, start, end);
+    }
+
+    /*********************************
+     * Set view range.
+     *
+     * @param chars Chars buffer.
+     * @param start Range start position.
+     * @param end Range end position (exclusive).
+     */
+    void set(char[] chars, int start, int end) {
+        this.chars = chars;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if ((index < 0) || (index >= end - start)) {
+            throw new IndexOutOfBoundsException(
+                    "Char index [" + index + "] is out of bound of cell length [" + (end - start) + "]");
+        }
+
+        return chars[start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int subStart, int subEnd) {
+        return toString().substring(subStart, subEnd);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, start, end - start);
+    }
+}
@@ -0,0 +1,788 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.java.csv.exceptions.CsvSizeLimitException;
+import io.github.etuzon.java.csv.jfr.CsvBufferRefillEvent;
+import io.github.etuzon.java.csv.jfr.CsvRecordGrowthEvent;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+import io.github.etuzon.java.csv.metrics.CsvRecordsStats;
+
+/*************************************************
+ * CSV parser.
+ * <p>
+ * Parse CSV records one by one from reader.
+ * Parser support multiline fields that are delimited by inverted commas.
+ * <p>
+ * Parser walk the read buffer once as a state machine,
+ * and copy the cells chars of the current record into a record buffer.
+ * Each cell is created from the record buffer with a single allocation.
+ * Chars between structural chars are found by {@link StructuralScanner} and copied as a single run.
+ * <p>
+ * Record buffer grows by doubling its size, so multiline and large cells are parsed in linear time.
+ * Record and cell maximum size can be limited, so unterminated inverted comma fails fast
+ * instead of reading the rest of the file into the record buffer.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvParser implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int UNLIMITED_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int INITIAL_RECORD_SIZE = 1024;
+    private static final int INITIAL_CELLS_AMOUNT = 16;
+
+    private static final int STATE_CELL_START = 0;
+    private static final int STATE_UNQUOTED = 1;
+    private static final int STATE_QUOTED = 2;
+    private static final int STATE_QUOTE_IN_QUOTED = 3;
+
+    private final Reader reader;
+    private final char cellsSplitter;
+    private final StructuralScanner scanner;
+
+    private final char[] buffer;
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private boolean isSkipLineFeed = false;
+
+    private char[] recordChars = new char[INITIAL_RECORD_SIZE];
+    private int recordLength = 0;
+    private int[] cellEnds = new int[INITIAL_CELLS_AMOUNT];
+    private int cellsAmount = 0;
+    private int columnsAmount = 0;
+    private int cellStart = 0;
+    private int appendLimit = 0;
+    private long recordsAmount = 0;
+
+    private int maxRecordSize = UNLIMITED_SIZE;
+    private int maxCellSize = UNLIMITED_SIZE;
+
+    private final CharsView cellChars = new CharsView(recordChars, 0, 0);
+
+    private StringDictionary[] dictionaries = null;
+    private boolean isDictionaryAllColumns = false;
+    private int maxDictionarySize = StringDictionary.DEFAULT_MAX_SIZE;
+
+    private boolean[] selectedColumns = null;
+    private int[] projectionRanks = null;
+
+    private Predicate<CharSequence>[] columnPredicates = null;
+    private final CharsView predicateChars = new CharsView(recordChars, 0, 0);
+    private boolean isRecordRejected = false;
+
+    private CsvMetricsListener metricsListener = null;
+    private long totalCellsAmount = 0;
+    private long multilineRecordsAmount = 0;
+    private long quotedCellsAmount = 0;
+    private int largestCellSize = 0;
+    private boolean isMultilineRecord = false;
+    private long readNanos = 0;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param reader CSV reader.
+     * @param cellsSplitter Cells splitter char.
+     */
+    public CsvParser(Reader reader, char cellsSplitter) {
+        this(reader, cellsSplitter, DEFAULT_BUFFER_SIZE);
+    }
+
+    /*********************************
+     * Constructor.
+     *
+     * @param reader CSV reader.
+     * @param cellsSplitter Cells splitter char.
+     * @param bufferSize Read buffer size in chars.
+     */
+    public CsvParser(Reader reader, char cellsSplitter, int bufferSize) {
+        this.reader = reader;
+        this.cellsSplitter = cellsSplitter;
+        this.scanner = StructuralScanner.create(cellsSplitter);
+        this.buffer = new char[bufferSize];
+    }
+
+    /*********************************
+     * Open CSV file for parsing.
+     * <p>
+     * File is decoded by {@link Utf8Reader}, that copy ASCII bytes as chars without charset decoder.
+     *
+     * @param path CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @return CSV parser of the file.
+     * @throws FileNotFoundException in case CSV file was not found.
+     */
+    public static CsvParser open(String path, char cellsSplitter) throws FileNotFoundException {
+        try {
+            return new CsvParser(new Utf8Reader(new FileInputStream(path)), cellsSplitter);
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(
+                    "CSV file [" + path + "] was not found");
+        }
+    }
+
+    /*********************************
+     * Open CSV file for parsing via memory mapped file.
+     *
+     * @param path CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @return CSV parser of the file.
+     * @throws FileNotFoundException in case CSV file was not found.
+     * @throws IOException in case fail read CSV file size.
+     */
+    public static CsvParser openMemoryMapped(String path, char cellsSplitter) throws IOException {
+        try {
+            return new CsvParser(new MappedFileReader(path), cellsSplitter);
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(
+                    "CSV file [" + path + "] was not found");
+        }
+    }
+
+    /*********************************
+     * Set record maximum size in chars.
+     *
+     * @param maxRecordSize Record maximum size in chars.
+     */
+    public void setMaxRecordSize(int maxRecordSize) {
+        this.maxRecordSize = Math.min(maxRecordSize, UNLIMITED_SIZE);
+    }
+
+    /*********************************
+     * Set cell maximum size in chars.
+     *
+     * @param maxCellSize Cell maximum size in chars.
+     */
+    public void setMaxCellSize(int maxCellSize) {
+        this.maxCellSize = Math.min(maxCellSize, UNLIMITED_SIZE);
+    }
+
+    /*********************************
+     * Set metrics listener.
+     * <p>
+     * Listener is notified of each phase duration while parsing,
+     * and of the records statistics when parser is closed.
+     * Parser without listener does not measure durations.
+     *
+     * @param metricsListener Metrics listener, or null in case metrics are disabled.
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+
+        if (reader instanceof Utf8Reader) {
+            ((Utf8Reader) reader).setMetricsListener(metricsListener);
+        }
+    }
+
+    /*********************************
+     * Set columns that are parsed into the row.
+     * <p>
+     * Chars of other cells are not kept, and Strings are not created for them.
+     * Row cells are in projection order. Projected column that not exist in record is empty.
+     *
+     * @param columnIndexes Indexes of projected columns.
+     */
+    public void setProjection(int[] columnIndexes) {
+        int[] sortedColumns = Arrays.stream(columnIndexes).filter(i -> i >= 0).sorted().distinct().toArray();
+
+        selectedColumns = new boolean[sortedColumns.length == 0 ? 0 : sortedColumns[sortedColumns.length - 1] + 1];
+        projectionRanks = new int[columnIndexes.length];
+
+        for (int columnIndex : sortedColumns) {
+            selectedColumns[columnIndex] = true;
+        }
+
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int rank = Arrays.binarySearch(sortedColumns, columnIndexes[i]);
+            // Column that not exist is never stored
+            projectionRanks[i] = rank < 0 ? Integer.MAX_VALUE : rank;
+        }
+    }
+
+    /*********************************
+     * Add predicate of column cells.
+     * <p>
+     * Predicate is tested as soon as the cell is parsed. Record that its cell is rejected
+     * is skipped, and its remaining cells are not kept.
+     * Column that not exist in record is tested as empty cell.
+     * Multiple predicates of the same column should all accept the cell.
+     *
+     * @param columnIndex Column index in CSV file.
+     * @param predicate Predicate of the cell chars. Cell chars are valid only while testing.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void addColumnPredicate(int columnIndex, Predicate<CharSequence> predicate) {
+        if (columnPredicates == null) {
+            columnPredicates = new Predicate[columnIndex + 1];
+        } else if (columnIndex >= columnPredicates.length) {
+            columnPredicates = Arrays.copyOf(columnPredicates, columnIndex + 1);
+        }
+
+        Predicate<CharSequence> previous = columnPredicates[columnIndex];
+        columnPredicates[columnIndex] = previous == null ? predicate : previous.and(predicate);
+    }
+
+    /*********************************
+     * Share one String instance for repeated values of the columns.
+     *
+     * @param columnIndexes Indexes of dictionary columns.
+     * @param maxDictionarySize Maximum amount of distinct values per column.
+     */
+    public void setDictionaryColumns(int[] columnIndexes, int maxDictionarySize) {
+        this.maxDictionarySize = maxDictionarySize;
+        isDictionaryAllColumns = false;
+        dictionaries = new StringDictionary[Arrays.stream(columnIndexes).max().orElse(-1) + 1];
+
+        for (int columnIndex : columnIndexes) {
+            if (columnIndex >= 0) {
+                dictionaries[columnIndex] = new StringDictionary(maxDictionarySize);
+            }
+        }
+    }
+
+    /*********************************
+     * Share one String instance for repeated values of all columns.
+     * <p>
+     * Columns with high cardinality fall back to a new String per value.
+     *
+     * @param maxDictionarySize Maximum amount of distinct values per column.
+     */
+    public void setDictionaryAllColumns(int maxDictionarySize) {
+        this.maxDictionarySize = maxDictionarySize;
+        isDictionaryAllColumns = true;
+        dictionaries = new StringDictionary[INITIAL_CELLS_AMOUNT];
+    }
+
+    /*********************************
+     * Parse next CSV row.
+     *
+     * @return Row cells. Return null in case there are no more rows.
+     * @throws IOException in case fail read CSV.
+     */
+    public List<String> nextRow() throws IOException {
+        if (!nextRecord()) {
+            return null;
+        }
+
+        if (metricsListener == null) {
+            return getRow();
+        }
+
+        long start = System.nanoTime();
+        List<String> row = getRow();
+        metricsListener.onPhase(CsvPhaseEnum.MATERIALIZE, System.nanoTime() - start);
+
+        return row;
+    }
+
+    /*********************************
+     * Parse next CSV row, without creating cells Strings.
+     * <p>
+     * Row keep a copy of the record chars, and cells Strings are created on access.
+     *
+     * @return Lazy row. Return null in case there are no more rows.
+     * @throws IOException in case fail read CSV.
+     */
+    public LazyRow nextLazyRow() throws IOException {
+        if (!nextRecord()) {
+            return null;
+        }
+
+        if (metricsListener == null) {
+            return createLazyRow();
+        }
+
+        long start = System.nanoTime();
+        LazyRow row = createLazyRow();
+        metricsListener.onPhase(CsvPhaseEnum.MATERIALIZE, System.nanoTime() - start);
+
+        return row;
+    }
+
+    private LazyRow createLazyRow() {
+        if (projectionRanks == null) {
+            return new LazyRow(Arrays.copyOf(recordChars, recordLength), Arrays.copyOf(cellEnds, cellsAmount));
+        }
+
+        int[] rowCellEnds = new int[projectionRanks.length];
+        char[] rowChars = new char[getProjectedLength()];
+        int rowLength = 0;
+
+        for (int i = 0; i < projectionRanks.length; i++) {
+            int cellIndex = getStoredCellIndex(i);
+
+            if (cellIndex != -1) {
+                int start = getCellStart(cellIndex);
+                int length = cellEnds[cellIndex] - start;
+                System.arraycopy(recordChars, start, rowChars, rowLength, length);
+                rowLength += length;
+            }
+
+            rowCellEnds[i] = rowLength;
+        }
+
+        return new LazyRow(rowChars, rowCellEnds);
+    }
+
+    /*********************************
+     * Parse next CSV record into the record buffer.
+     * <p>
+     * Record cells are valid until the next call to this method.
+     * Records that are rejected by column predicates are skipped.
+     *
+     * @return true in case record was parsed, false in case there are no more records.
+     * @throws CsvSizeLimitException in case record or cell exceed maximum size.
+     * @throws IOException in case fail read CSV.
+     */
+    public boolean nextRecord() throws IOException {
+        if (metricsListener == null) {
+            return nextAcceptedRecord();
+        }
+
+        long start = System.nanoTime();
+        readNanos = 0;
+        boolean isRecord = nextAcceptedRecord();
+        // Reader durations are measured as IO and DECODE phases
+        metricsListener.onPhase(CsvPhaseEnum.TOKENIZE, System.nanoTime() - start - readNanos);
+
+        return isRecord;
+    }
+
+    private boolean nextAcceptedRecord() throws IOException {
+        while (parseRecord()) {
+            if ((columnPredicates == null) || ((!isRecordRejected) && (isMissingColumnsAccepted()))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean parseRecord() throws IOException {
+        isRecordRejected = false;
+        isMultilineRecord = false;
+        recordLength = 0;
+        cellsAmount = 0;
+        columnsAmount = 0;
+        cellStart = 0;
+        updateAppendLimit();
+
+        int state = STATE_CELL_START;
+        boolean isRecordStarted = false;
+
+        while ((bufferPosition < bufferLimit) || (fillBuffer())) {
+            char c = buffer[bufferPosition++];
+
+            if (isSkipLineFeed) {
+                isSkipLineFeed = false;
+
+                if (c == '\n') {
+                    continue;
+                }
+            }
+
+            isRecordStarted = true;
+
+            switch (state) {
+                case STATE_CELL_START:
+                    if (c == '"') {
+                        quotedCellsAmount++;
+                        state = STATE_QUOTED;
+                        break;
+                    }
+                    // Cell not start with inverted comma
+                    // fall through
+                case STATE_UNQUOTED:
+                    if (c == cellsSplitter) {
+                        endCell();
+                        state = STATE_CELL_START;
+                    } else if ((c == '\n') || (c == '\r')) {
+                        isSkipLineFeed = c == '\r';
+                        endRecord();
+                        return true;
+                    } else {
+                        appendChar(c);
+                        appendRun();
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+                case STATE_QUOTED:
+                    if (c == '"') {
+                        state = STATE_QUOTE_IN_QUOTED;
+                    } else if (c == '\r') {
+                        isSkipLineFeed = true;
+                        isMultilineRecord = true;
+                        appendChar('\n');
+                    } else if (c == '\n') {
+                        isMultilineRecord = true;
+                        appendChar(c);
+                    } else {
+                        appendChar(c);
+                        appendRun();
+                    }
+                    break;
+                default:
+                    if (c == '"') {
+                        appendChar('"');
+                        state = STATE_QUOTED;
+                    } else if (c == cellsSplitter) {
+                        endCell();
+                        state = STATE_CELL_START;
+                    } else if ((c == '\n') || (c == '\r')) {
+                        isSkipLineFeed = c == '\r';
+                        endRecord();
+                        return true;
+                    } else {
+                        // Chars after closing inverted comma are part of the cell
+                        appendChar(c);
+                        state = STATE_UNQUOTED;
+                    }
+                    break;
+            }
+        }
+
+        if (!isRecordStarted) {
+            return false;
+        }
+
+        endRecord();
+
+        return true;
+    }
+
+    /*********************************
+     * Get amount of records that were parsed, include records that were rejected by predicates.
+     *
+     * @return Records amount.
+     */
+    public long getRecordsAmount() {
+        return recordsAmount;
+    }
+
+    /*********************************
+     * Get amount of bytes that were read.
+     *
+     * @return Bytes amount, or 0 in case reader is not {@link Utf8Reader}.
+     */
+    public long getBytesAmount() {
+        return reader instanceof Utf8Reader ? ((Utf8Reader) reader).getBytesAmount() : 0;
+    }
+
+    /*********************************
+     * Get cells amount of the current record.
+     *
+     * @return Cells amount.
+     */
+    public int getCellsAmount() {
+        return projectionRanks == null ? cellsAmount : projectionRanks.length;
+    }
+
+    /*********************************
+     * Get cell of the current record.
+     *
+     * @param index Cell index.
+     * @return Cell value.
+     * @throws IndexOutOfBoundsException in case index is out of record cells bounds.
+     */
+    public String getCell(int index) throws IndexOutOfBoundsException {
+        int cellIndex = getStoredCellIndex(index);
+
+        if (cellIndex == -1) {
+            return "";
+        }
+
+        int start = getCellStart(cellIndex);
+        int length = cellEnds[cellIndex] - start;
+
+        if (length == 0) {
+            return "";
+        }
+
+        if (dictionaries != null) {
+            StringDictionary dictionary = getDictionary(index);
+
+            if (dictionary != null) {
+                return dictionary.get(recordChars, start, length);
+            }
+        }
+
+        return new String(recordChars, start, length);
+    }
+
+    /*********************************
+     * Get cell chars of the current record, without creating a String.
+     * <p>
+     * Returned view is reused. It is valid until the next call to this method
+     * or to {@link #nextRecord()}.
+     *
+     * @param index Cell index.
+     * @return Cell chars view.
+     * @throws IndexOutOfBoundsException in case index is out of record cells bounds.
+     */
+    public CharSequence getCellChars(int index) throws IndexOutOfBoundsException {
+        int cellIndex = getStoredCellIndex(index);
+
+        if (cellIndex == -1) {
+            cellChars.set(recordChars, 0, 0);
+        } else {
+            cellChars.set(recordChars, getCellStart(cellIndex), cellEnds[cellIndex]);
+        }
+
+        return cellChars;
+    }
+
+    /*********************************
+     * Get cells of the current record.
+     *
+     * @return Row cells.
+     */
+    public List<String> getRow() {
+        int rowSize = getCellsAmount();
+        List<String> row = new ArrayList<>(rowSize);
+
+        for (int i = 0; i < rowSize; i++) {
+            row.add(getCell(i));
+        }
+
+        return row;
+    }
+
+    /*********************************
+     * Close CSV reader.
+     *
+     * @throws IOException in case fail close CSV reader.
+     */
+    @Override
+    public void close() throws IOException {
+        if (metricsListener != null) {
+            metricsListener.onRead(new CsvRecordsStats(
+                    getBytesAmount(),
+                    recordsAmount,
+                    totalCellsAmount,
+                    multilineRecordsAmount,
+                    quotedCellsAmount,
+                    largestCellSize));
+            // Statistics are notified only one time
+            metricsListener = null;
+        }
+
+        reader.close();
+    }
+
+    private boolean fillBuffer() throws IOException {
+        CsvBufferRefillEvent event = new CsvBufferRefillEvent();
+        event.begin();
+        int length;
+
+        if (metricsListener == null) {
+            length = reader.read(buffer, 0, buffer.length);
+        } else {
+            long start = System.nanoTime();
+            length = reader.read(buffer, 0, buffer.length);
+            long nanos = System.nanoTime() - start;
+            readNanos += nanos;
+
+            if (!(reader instanceof Utf8Reader)) {
+                metricsListener.onPhase(CsvPhaseEnum.IO, nanos);
+            }
+        }
+
+        event.commit(Math.max(length, 0), recordsAmount + 1);
+
+        bufferPosition = 0;
+        bufferLimit = Math.max(length, 0);
+
+        return length > 0;
+    }
+
+    private void appendChar(char c) throws CsvSizeLimitException {
+        if (recordLength == appendLimit) {
+            ensureAppendCapacity();
+        }
+
+        recordChars[recordLength++] = c;
+    }
+
+    private void appendRun() throws CsvSizeLimitException {
+        // Chars before the next structural char are copied as a single run
+        int end = scanner.indexOfStructural(buffer, bufferPosition, bufferLimit);
+
+        while (bufferPosition < end) {
+            if (recordLength == appendLimit) {
+                ensureAppendCapacity();
+            }
+
+            int length = Math.min(end - bufferPosition, appendLimit - recordLength);
+            System.arraycopy(buffer, bufferPosition, recordChars, recordLength, length);
+            recordLength += length;
+            bufferPosition += length;
+        }
+    }
+
+    private void ensureAppendCapacity() throws CsvSizeLimitException {
+        if (recordLength - cellStart >= maxCellSize) {
+            throw new CsvSizeLimitException(
+                    "Cell in index [" + columnsAmount + "] of record number [" + (recordsAmount + 1)
+                    + "] exceed maximum cell size [" + maxCellSize + "] chars");
+        }
+
+        if (recordLength >= maxRecordSize) {
+            throw new CsvSizeLimitException(
+                    "Record number [" + (recordsAmount + 1)
+                    + "] exceed maximum record size [" + maxRecordSize + "] chars");
+        }
+
+        if (recordLength == recordChars.length) {
+            CsvRecordGrowthEvent event = new CsvRecordGrowthEvent();
+            event.begin();
+
+            int newSize = (int) Math.min((long) recordChars.length * 2, maxRecordSize);
+            recordChars = Arrays.copyOf(recordChars, newSize);
+
+            event.commit(recordLength, newSize, recordLength - cellStart, recordsAmount + 1);
+        }
+
+        updateAppendLimit();
+    }
+
+    private void updateAppendLimit() {
+        long cellLimit = (long) cellStart + maxCellSize;
+
+        appendLimit = (int) Math.min(Math.min(recordChars.length, maxRecordSize), cellLimit);
+    }
+
+    private void endRecord() {
+        endCell();
+        recordsAmount++;
+        totalCellsAmount += columnsAmount;
+
+        if (isMultilineRecord) {
+            multilineRecordsAmount++;
+        }
+    }
+
+    private void endCell() {
+        if (recordLength - cellStart > largestCellSize) {
+            largestCellSize = recordLength - cellStart;
+        }
+
+        if ((columnPredicates != null) && ((isRecordRejected) || (!isCellAccepted()))) {
+            // Rejected record cells are not kept
+            isRecordRejected = true;
+            columnsAmount++;
+            recordLength = cellStart;
+            return;
+        }
+
+        if ((selectedColumns != null)
+                && ((columnsAmount >= selectedColumns.length) || (!selectedColumns[columnsAmount]))) {
+            // Cell is not projected, so its chars are dropped
+            columnsAmount++;
+            recordLength = cellStart;
+            return;
+        }
+
+        columnsAmount++;
+
+        if (cellsAmount == cellEnds.length) {
+            cellEnds = Arrays.copyOf(cellEnds, cellEnds.length * 2);
+        }
+
+        cellEnds[cellsAmount++] = recordLength;
+        cellStart = recordLength;
+        updateAppendLimit();
+    }
+
+    private boolean isCellAccepted() {
+        if (columnsAmount >= columnPredicates.length) {
+            return true;
+        }
+
+        Predicate<CharSequence> predicate = columnPredicates[columnsAmount];
+
+        if (predicate == null) {
+            return true;
+        }
+
+        predicateChars.set(recordChars, cellStart, recordLength);
+
+        return predicate.test(predicateChars);
+    }
+
+    private boolean isMissingColumnsAccepted() {
+        predicateChars.set(recordChars, 0, 0);
+
+        for (int i = columnsAmount; i < columnPredicates.length; i++) {
+            if ((columnPredicates[i] != null) && (!columnPredicates[i].test(predicateChars))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private StringDictionary getDictionary(int index) {
+        if (index >= dictionaries.length) {
+            if (!isDictionaryAllColumns) {
+                return null;
+            }
+
+            dictionaries = Arrays.copyOf(dictionaries, Math.max(index + 1, dictionaries.length * 2));
+        }
+
+        if ((dictionaries[index] == null) && (isDictionaryAllColumns)) {
+            dictionaries[index] = new StringDictionary(maxDictionarySize);
+        }
+
+        return dictionaries[index];
+    }
+
+    private int getStoredCellIndex(int index) throws IndexOutOfBoundsException {
+        validateCellIndex(index);
+
+        if (projectionRanks == null) {
+            return index;
+        }
+
+        int rank = projectionRanks[index];
+
+        return rank < cellsAmount ? rank : -1;
+    }
+
+    private int getProjectedLength() {
+        int length = 0;
+
+        for (int i = 0; i < projectionRanks.length; i++) {
+            int cellIndex = getStoredCellIndex(i);
+
+            if (cellIndex != -1) {
+                length += cellEnds[cellIndex] - getCellStart(cellIndex);
+            }
+        }
+
+        return length;
+    }
+
+    private int getCellStart(int index) {
+        return index == 0 ? 0 : cellEnds[index - 1];
+    }
+
+    private void validateCellIndex(int index) throws IndexOutOfBoundsException {
+        if ((index < 0) || (index >= getCellsAmount())) {
+            throw new IndexOutOfBoundsException(
+                    "Cell index [" + index + "] is out of bound of record cells amount ["
+                    + getCellsAmount() + "]");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/*************************************************
+ * Lazy CSV row.
+ * <p>
+ * Row keep the decoded record chars and the cells end positions.
+ * Cell String is created only when the cell is accessed, and is not cached,
+ * so cells that are not accessed cost only their chars.
+ * Use {@link #getCellChars(int)} to read a cell without creating a String.
+ * <p>
+ * Row is read only.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class LazyRow extends AbstractList<String> implements RandomAccess {
+    private final char[] chars;
+    private final int[] cellEnds;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param chars Record chars.
+     * @param cellEnds End position of each cell in record chars.
+     */
+    public LazyRow(char[] chars, int[] cellEnds) {
+        this.chars = chars;
+        this.cellEnds = cellEnds;
+    }
+
+    /*********************************
+     * Get cell.
+     *
+     * @param index Cell index.
+     * @return New String of the cell.
+     * @throws IndexOutOfBoundsException in case index is out of row cells bounds.
+     */
+    @Override
+    public String get(int index) throws IndexOutOfBoundsException {
+        validateCellIndex(index);
+
+        int start = getCellStart(index);
+
+        if (start == cellEnds[index]) {
+            return "";
+        }
+
+        return new String(chars, start, cellEnds[index] - start);
+    }
+
+    /*********************************
+     * Get cell chars, without creating a String.
+     *
+     * @param index Cell index.
+     * @return Read only view of cell chars.
+     * @throws IndexOutOfBoundsException in case index is out of row cells bounds.
+     */
+    public CharSequence getCellChars(int index) throws IndexOutOfBoundsException {
+        validateCellIndex(index);
+
+        return new CharsView(chars, getCellStart(index), cellEnds[index]);
+    }
+
+    /*********************************
+     * Get cells amount.
+     *
+     * @return Cells amount.
+     */
+    @Override
+    public int size() {
+        return cellEnds.length;
+    }
+
+    private int getCellStart(int index) {
+        return index == 0 ? 0 : cellEnds[index - 1];
+    }
+
+    private void validateCellIndex(int index) throws IndexOutOfBoundsException {
+        if ((index < 0) || (index >= cellEnds.length)) {
+            throw new IndexOutOfBoundsException(
+                    "Cell index [" + index + "] is out of bound of row cells amount ["
+                    + cellEnds.length + "]");
+        }
+    }
+}
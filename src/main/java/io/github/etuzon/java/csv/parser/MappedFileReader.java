@@ -0,0 +1,139 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*************************************************
+ * Memory mapped file reader.
+ * <p>
+ * Reader map the file via {@link FileChannel#map}, copy the mapped bytes in bulk
+ * into a reusable bytes buffer, and decode UTF-8 chars straight into the caller buffer.
+ * Files that are larger than segment size are mapped segment after segment.
+ * <p>
+ * Malformed input is replaced, same as {@link java.io.InputStreamReader}.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class MappedFileReader extends Utf8Reader {
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param path File path.
+     * @throws FileNotFoundException in case file was not found.
+     * @throws IOException in case fail read file size.
+     */
+    public MappedFileReader(String path) throws IOException {
+        this(openChannel(path), true);
+    }
+
+    private MappedFileReader(FileChannel channel, boolean isCloseChannel) throws IOException {
+        this(channel, 0, channel.size(), DEFAULT_SEGMENT_SIZE, isCloseChannel);
+    }
+
+    /*********************************
+     * Constructor.
+     * <p>
+     * Read file region between start position and end position.
+     * Start position should be at start of UTF-8 char.
+     *
+     * @param channel File channel.
+     * @param startPosition Region start position in bytes.
+     * @param endPosition Region end position in bytes (exclusive).
+     * @param segmentSize Maximum mapped segment size in bytes.
+     * @param isCloseChannel true in case channel should be closed when reader is closed.
+     */
+    public MappedFileReader(
+            FileChannel channel,
+            long startPosition,
+            long endPosition,
+            long segmentSize,
+            boolean isCloseChannel) {
+
+        super(new MappedInputStream(channel, startPosition, endPosition, segmentSize, isCloseChannel));
+    }
+
+    private static FileChannel openChannel(String path) throws FileNotFoundException {
+        try {
+            return new RandomAccessFile(path, "r").getChannel();
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(
+                    "File [" + path + "] was not found");
+        }
+    }
+
+    /*********************************************
+     * Input stream of file region bytes, that are mapped segment after segment.
+     */
+    private static class MappedInputStream extends InputStream {
+        private final FileChannel channel;
+        private final boolean isCloseChannel;
+        private final long endPosition;
+        private final long segmentSize;
+
+        private MappedByteBuffer segment = null;
+        private long segmentEnd;
+
+        private MappedInputStream(
+                FileChannel channel,
+                long startPosition,
+                long endPosition,
+                long segmentSize,
+                boolean isCloseChannel) {
+
+            this.channel = channel;
+            this.isCloseChannel = isCloseChannel;
+            this.endPosition = endPosition;
+            this.segmentSize = Math.max(segmentSize, 1);
+            this.segmentEnd = startPosition;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            if ((segment == null) || (!segment.hasRemaining())) {
+                if (segmentEnd == endPosition) {
+                    return -1;
+                }
+
+                mapSegment();
+            }
+
+            int length = Math.min(len, segment.remaining());
+            segment.get(b, off, length);
+
+            return length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            segment = null;
+
+            if (isCloseChannel) {
+                channel.close();
+            }
+        }
+
+        private void mapSegment() throws IOException {
+            long size = Math.min(segmentSize, endPosition - segmentEnd);
+
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentEnd, size);
+            segmentEnd += size;
+        }
+    }
+}
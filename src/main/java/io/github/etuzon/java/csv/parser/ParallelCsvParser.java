@@ -0,0 +1,432 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import io.github.etuzon.java.csv.jfr.CsvChunkParseEvent;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+
+/*************************************************
+ * Parallel CSV parser.
+ * <p>
+ * Parser split the file into byte ranges and parse them on a {@link ForkJoinPool}.
+ * <p>
+ * Record boundaries are resolved with a quote parity pre pass.
+ * Each range count its inverted commas and find its first line feed after even
+ * and after odd amount of inverted commas. The inverted commas amount before each range
+ * select which line feed is a real record boundary, so multiline cells that cross ranges
+ * are kept in a single record.
+ * <p>
+ * Quote parity assume that inverted commas appear only in quoted cells,
+ * and that records end with '\n' or "\r\n".
+ * Files with inverted comma inside unquoted cell should be parsed by {@link CsvParser}.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class ParallelCsvParser {
+    public static final long MIN_CHUNK_SIZE = 1L << 20;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+    private static final int NOT_FOUND = -1;
+
+    private final String path;
+    private final char cellsSplitter;
+    private final int parallelism;
+
+    private int maxRecordSize = CsvParser.UNLIMITED_SIZE;
+    private int maxCellSize = CsvParser.UNLIMITED_SIZE;
+    private long minChunkSize = MIN_CHUNK_SIZE;
+    private int[] dictionaryColumns = null;
+    private boolean isDictionaryAllColumns = false;
+    private int maxDictionarySize = StringDictionary.DEFAULT_MAX_SIZE;
+    private boolean isLazyRows = false;
+    private int[] projection = null;
+    private final Map<Integer, Predicate<CharSequence>> columnPredicates = new LinkedHashMap<>();
+    private Predicate<List<String>> rowPredicate = null;
+    private boolean isFirstRecordHeader = false;
+    private CsvMetricsListener metricsListener = null;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param path CSV file path.
+     * @param cellsSplitter Cells splitter char.
+     * @param parallelism Amount of threads that parse the file.
+     */
+    public ParallelCsvParser(String path, char cellsSplitter, int parallelism) {
+        this.path = path;
+        this.cellsSplitter = cellsSplitter;
+        this.parallelism = parallelism;
+    }
+
+    /*********************************
+     * Set record maximum size in chars.
+     *
+     * @param maxRecordSize Record maximum size in chars.
+     */
+    public void setMaxRecordSize(int maxRecordSize) {
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    /*********************************
+     * Set cell maximum size in chars.
+     *
+     * @param maxCellSize Cell maximum size in chars.
+     */
+    public void setMaxCellSize(int maxCellSize) {
+        this.maxCellSize = maxCellSize;
+    }
+
+    /*********************************
+     * Set chunk minimum size in bytes.
+     * <p>
+     * Files that are smaller than 2 chunks are parsed in a single chunk.
+     *
+     * @param minChunkSize Chunk minimum size in bytes.
+     */
+    public void setMinChunkSize(long minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    /*********************************
+     * Share one String instance for repeated values of the columns.
+     * <p>
+     * Each byte range has its own dictionaries.
+     *
+     * @param columnIndexes Indexes of dictionary columns.
+     * @param maxDictionarySize Maximum amount of distinct values per column.
+     */
+    public void setDictionaryColumns(int[] columnIndexes, int maxDictionarySize) {
+        this.dictionaryColumns = columnIndexes;
+        this.maxDictionarySize = maxDictionarySize;
+        isDictionaryAllColumns = false;
+    }
+
+    /*********************************
+     * Share one String instance for repeated values of all columns.
+     * <p>
+     * Each byte range has its own dictionaries.
+     * Columns with high cardinality fall back to a new String per value.
+     *
+     * @param maxDictionarySize Maximum amount of distinct values per column.
+     */
+    public void setDictionaryAllColumns(int maxDictionarySize) {
+        this.maxDictionarySize = maxDictionarySize;
+        isDictionaryAllColumns = true;
+    }
+
+    /*********************************
+     * Set columns that are parsed into the rows.
+     *
+     * @param columnIndexes Indexes of projected columns.
+     * @see CsvParser#setProjection(int[])
+     */
+    public void setProjection(int[] columnIndexes) {
+        this.projection = columnIndexes;
+    }
+
+    /*********************************
+     * Add predicate of column cells.
+     * <p>
+     * Predicate is tested by multiple threads.
+     *
+     * @param columnIndex Column index in CSV file.
+     * @param predicate Predicate of the cell chars.
+     * @see CsvParser#addColumnPredicate(int, Predicate)
+     */
+    public void addColumnPredicate(int columnIndex, Predicate<CharSequence> predicate) {
+        columnPredicates.merge(columnIndex, predicate, Predicate::and);
+    }
+
+    /*********************************
+     * Set predicate of parsed rows.
+     * <p>
+     * Rows that are rejected are not returned. Predicate is tested by multiple threads.
+     *
+     * @param rowPredicate Predicate of parsed row. null in case all rows are returned.
+     */
+    public void setRowPredicate(Predicate<List<String>> rowPredicate) {
+        this.rowPredicate = rowPredicate;
+    }
+
+    /*********************************
+     * Set if first record is headers row.
+     * <p>
+     * Headers row is always returned, and it is not tested by predicates.
+     *
+     * @param isFirstRecordHeader true in case first record is headers row, else the value is false.
+     */
+    public void setFirstRecordHeader(boolean isFirstRecordHeader) {
+        this.isFirstRecordHeader = isFirstRecordHeader;
+    }
+
+    /*********************************
+     * Set metrics listener, that is set to the parser of each range.
+     *
+     * @param metricsListener Metrics listener, or null in case metrics are disabled.
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /*********************************
+     * Set if rows are parsed as {@link LazyRow}, that create cell String only on access.
+     *
+     * @param isLazyRows true in case rows are lazy, else the value is false.
+     */
+    public void setLazyRows(boolean isLazyRows) {
+        this.isLazyRows = isLazyRows;
+    }
+
+    /*********************************
+     * Parse CSV file.
+     *
+     * @return CSV rows in file order.
+     * @throws FileNotFoundException in case CSV file was not found.
+     * @throws IOException in case fail read CSV file.
+     */
+    public List<List<String>> parse() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try (RandomAccessFile file = openFile();
+                FileChannel channel = file.getChannel()) {
+
+            long[] chunkStarts = splitToChunks(channel.size());
+            long[] recordStarts = findRecordStarts(pool, channel, chunkStarts);
+
+            return parseRanges(pool, channel, recordStarts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long[] splitToChunks(long fileSize) {
+        long chunksAmount = Math.min(
+                (long) parallelism * CHUNKS_PER_THREAD, fileSize / minChunkSize);
+        chunksAmount = Math.max(
+                chunksAmount, (fileSize + MappedFileReader.DEFAULT_SEGMENT_SIZE - 1)
+                        / MappedFileReader.DEFAULT_SEGMENT_SIZE);
+        chunksAmount = Math.max(chunksAmount, 1);
+
+        long[] chunkStarts = new long[(int) chunksAmount + 1];
+
+        for (int i = 0; i < chunksAmount; i++) {
+            chunkStarts[i] = fileSize * i / chunksAmount;
+        }
+
+        chunkStarts[(int) chunksAmount] = fileSize;
+
+        return chunkStarts;
+    }
+
+    private long[] findRecordStarts(
+            ForkJoinPool pool, FileChannel channel, long[] chunkStarts) throws IOException {
+
+        int chunksAmount = chunkStarts.length - 1;
+        List<Callable<ChunkQuoteParity>> tasks = new ArrayList<>(chunksAmount);
+
+        for (int i = 0; i < chunksAmount; i++) {
+            long start = chunkStarts[i];
+            long end = chunkStarts[i + 1];
+            tasks.add(() -> scanChunk(channel, start, end));
+        }
+
+        List<ChunkQuoteParity> chunks = invokeAll(pool, tasks);
+        List<Long> recordStarts = new ArrayList<>();
+        recordStarts.add(chunkStarts[0]);
+
+        long quotesAmount = 0;
+
+        for (int i = 0; i < chunksAmount; i++) {
+            ChunkQuoteParity chunk = chunks.get(i);
+
+            if (i > 0) {
+                long recordStart = quotesAmount % 2 == 0
+                        ? chunk.firstLineFeedAfterEvenQuotes
+                        : chunk.firstLineFeedAfterOddQuotes;
+
+                // Chunk without record boundary is part of the previous range
+                if (recordStart != NOT_FOUND) {
+                    recordStarts.add(recordStart);
+                }
+            }
+
+            quotesAmount += chunk.quotesAmount;
+        }
+
+        recordStarts.add(chunkStarts[chunksAmount]);
+
+        return recordStarts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private ChunkQuoteParity scanChunk(FileChannel channel, long start, long end) throws IOException {
+        ChunkQuoteParity chunk = new ChunkQuoteParity();
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        long position = start;
+
+        while (mapped.hasRemaining()) {
+            int length = Math.min(buffer.length, mapped.remaining());
+            mapped.get(buffer, 0, length);
+
+            for (int i = 0; i < length; i++) {
+                byte b = buffer[i];
+
+                if (b == '"') {
+                    chunk.quotesAmount++;
+                } else if (b == '\n') {
+                    chunk.updateLineFeed(position + i + 1);
+                }
+            }
+
+            position += length;
+        }
+
+        return chunk;
+    }
+
+    private List<List<String>> parseRanges(
+            ForkJoinPool pool, FileChannel channel, long[] recordStarts) throws IOException {
+
+        List<Callable<List<List<String>>>> tasks = new ArrayList<>(recordStarts.length - 1);
+
+        for (int i = 0; i < recordStarts.length - 1; i++) {
+            long start = recordStarts[i];
+            long end = recordStarts[i + 1];
+            tasks.add(() -> parseRange(channel, start, end));
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+
+        for (List<List<String>> rangeRows : invokeAll(pool, tasks)) {
+            rows.addAll(rangeRows);
+        }
+
+        return rows;
+    }
+
+    private List<List<String>> parseRange(FileChannel channel, long start, long end) throws IOException {
+        CsvChunkParseEvent event = new CsvChunkParseEvent();
+        event.begin();
+
+        List<List<String>> rows = parseRangeRows(channel, start, end);
+        event.commit(path, start, end - start, rows.size());
+
+        return rows;
+    }
+
+    private List<List<String>> parseRangeRows(FileChannel channel, long start, long end) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvParser parser = new CsvParser(
+                new MappedFileReader(channel, start, end, MappedFileReader.DEFAULT_SEGMENT_SIZE, false),
+                cellsSplitter)) {
+
+            parser.setMaxRecordSize(maxRecordSize);
+            parser.setMaxCellSize(maxCellSize);
+            parser.setMetricsListener(metricsListener);
+
+            if (projection != null) {
+                parser.setProjection(projection);
+            }
+
+            if (isDictionaryAllColumns) {
+                parser.setDictionaryAllColumns(maxDictionarySize);
+            } else if (dictionaryColumns != null) {
+                parser.setDictionaryColumns(dictionaryColumns, maxDictionarySize);
+            }
+
+            List<String> row;
+
+            if ((start == 0) && (isFirstRecordHeader)) {
+                row = nextRow(parser);
+
+                if (row == null) {
+                    return rows;
+                }
+
+                rows.add(row);
+            }
+
+            columnPredicates.forEach(parser::addColumnPredicate);
+            row = nextRow(parser);
+
+            while (row != null) {
+                if ((rowPredicate == null) || (rowPredicate.test(row))) {
+                    rows.add(row);
+                }
+
+                row = nextRow(parser);
+            }
+        }
+
+        return rows;
+    }
+
+    private List<String> nextRow(CsvParser parser) throws IOException {
+        return isLazyRows ? parser.nextLazyRow() : parser.nextRow();
+    }
+
+    private <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException("Fail parse CSV file [" + path + "]", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parsing CSV file [" + path + "] was interrupted", e);
+        }
+
+        return results;
+    }
+
+    private RandomAccessFile openFile() throws FileNotFoundException {
+        try {
+            return new RandomAccessFile(path, "r");
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException(
+                    "CSV file [" + path + "] was not found");
+        }
+    }
+
+    /*********************************
+     * Inverted commas amount and candidate record boundaries of a chunk.
+     */
+    private static class ChunkQuoteParity {
+        private long quotesAmount = 0;
+        private long firstLineFeedAfterEvenQuotes = NOT_FOUND;
+        private long firstLineFeedAfterOddQuotes = NOT_FOUND;
+
+        private void updateLineFeed(long nextPosition) {
+            if (quotesAmount % 2 == 0) {
+                if (firstLineFeedAfterEvenQuotes == NOT_FOUND) {
+                    firstLineFeedAfterEvenQuotes = nextPosition;
+                }
+            } else if (firstLineFeedAfterOddQuotes == NOT_FOUND) {
+                firstLineFeedAfterOddQuotes = nextPosition;
+            }
+        }
+    }
+}
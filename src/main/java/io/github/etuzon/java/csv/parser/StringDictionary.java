@@ -0,0 +1,162 @@
+package io.github.etuzon.java.csv.parser;
+
+/*************************************************
+ * String dictionary.
+ * <p>
+ * Dictionary return one shared String instance for repeated cell values,
+ * so low cardinality columns keep a single String per distinct value.
+ * Values are looked up by their chars, so a String is created only for new values.
+ * <p>
+ * Dictionary size is bounded. When the dictionary is full and new values
+ * are more common than repeated values, the column is treated as high cardinality,
+ * and dictionary is disabled. Disabled dictionary create a new String per value.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class StringDictionary {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private final int maxSize;
+
+    private String[] values = new String[INITIAL_TABLE_SIZE];
+    private int[] hashes = new int[INITIAL_TABLE_SIZE];
+    private int size = 0;
+    private long hitsAmount = 0;
+    private long missesAmountWhenFull = 0;
+    private boolean isEnabled = true;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param maxSize Maximum amount of distinct values.
+     */
+    public StringDictionary(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /*********************************
+     * Get String of chars.
+     *
+     * @param chars Chars buffer.
+     * @param start Value start position in buffer.
+     * @param length Value length.
+     * @return Shared String instance in case value is in dictionary, else new String.
+     */
+    public String get(char[] chars, int start, int length) {
+        if (!isEnabled) {
+            return new String(chars, start, length);
+        }
+
+        int hash = hash(chars, start, length);
+        int mask = values.length - 1;
+        int slot = spread(hash) & mask;
+
+        while (values[slot] != null) {
+            if ((hashes[slot] == hash) && (isEquals(values[slot], chars, start, length))) {
+                hitsAmount++;
+                return values[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        String value = new String(chars, start, length);
+
+        if (size < maxSize) {
+            add(slot, hash, value);
+        } else if (++missesAmountWhenFull > hitsAmount) {
+            disable();
+        }
+
+        return value;
+    }
+
+    /*********************************
+     * Get amount of distinct values in dictionary.
+     *
+     * @return Distinct values amount.
+     */
+    public int size() {
+        return size;
+    }
+
+    /*********************************
+     * Is dictionary enabled.
+     *
+     * @return false in case dictionary was disabled for high cardinality values, else return true.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    private void add(int slot, int hash, String value) {
+        values[slot] = value;
+        hashes[slot] = hash;
+        size++;
+
+        // Load factor is at most 0.5
+        if (size * 2 > values.length) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        String[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        values = new String[oldValues.length * 2];
+        hashes = new int[oldValues.length * 2];
+
+        int mask = values.length - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = spread(oldHashes[i]) & mask;
+
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+
+                values[slot] = oldValues[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    private void disable() {
+        isEnabled = false;
+        values = null;
+        hashes = null;
+    }
+
+    private static int hash(char[] chars, int start, int length) {
+        int hash = 0;
+
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isEquals(String value, char[] chars, int start, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.lang.reflect.Constructor;
+
+/*************************************************
+ * Structural chars scanner.
+ * <p>
+ * Scanner find the next structural char in chars buffer, so the parser copy
+ * the chars before it as a single run instead of one char at a time.
+ * Structural chars are cells splitter, inverted comma, line feed and carriage return.
+ * <p>
+ * Scanner compare one char at a time.
+ * {@link VectorStructuralScanner} compare many chars at once via the incubator Vector API,
+ * and is created only in case module jdk.incubator.vector is available
+ * (JVM option --add-modules jdk.incubator.vector).
+ * Vector scanner can be disabled by system property {@value #VECTOR_SCANNER_PROPERTY}=false.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class StructuralScanner {
+    static final String VECTOR_SCANNER_PROPERTY = "io.github.etuzon.java.csv.vectorScanner";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SCANNER_CLASS = "io.github.etuzon.java.csv.parser.VectorStructuralScanner";
+    private static final Constructor<?> VECTOR_CONSTRUCTOR = findVectorConstructor();
+
+    protected final char cellsSplitter;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param cellsSplitter Cells splitter char.
+     */
+    StructuralScanner(char cellsSplitter) {
+        this.cellsSplitter = cellsSplitter;
+    }
+
+    /*********************************
+     * Create scanner.
+     * <p>
+     * Vector scanner is created in case it is available and not disabled, else scalar scanner is created.
+     *
+     * @param cellsSplitter Cells splitter char.
+     * @return Structural chars scanner.
+     */
+    static StructuralScanner create(char cellsSplitter) {
+        StructuralScanner scanner = null;
+
+        if (!"false".equalsIgnoreCase(System.getProperty(VECTOR_SCANNER_PROPERTY))) {
+            scanner = createVector(cellsSplitter);
+        }
+
+        return scanner == null ? new StructuralScanner(cellsSplitter) : scanner;
+    }
+
+    /*********************************
+     * Create vector scanner.
+     *
+     * @param cellsSplitter Cells splitter char.
+     * @return Vector scanner, or null in case module jdk.incubator.vector is not available.
+     */
+    static StructuralScanner createVector(char cellsSplitter) {
+        if (VECTOR_CONSTRUCTOR == null) {
+            return null;
+        }
+
+        try {
+            return (StructuralScanner) VECTOR_CONSTRUCTOR.newInstance(cellsSplitter);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /*********************************
+     * Find index of the first structural char.
+     *
+     * @param chars Chars buffer.
+     * @param from Start position in chars buffer.
+     * @param to End position in chars buffer (exclusive).
+     * @return Index of the first structural char, or end position in case there is no structural char.
+     */
+    int indexOfStructural(char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = chars[i];
+
+            if ((c == cellsSplitter) || (c == '"') || (c == '\n') || (c == '\r')) {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    /*********************************
+     * Is scanner compare many chars at once.
+     *
+     * @return true in case scanner is vector scanner, else return false.
+     */
+    boolean isVector() {
+        return false;
+    }
+
+    private static Constructor<?> findVectorConstructor() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Class.forName(VECTOR_SCANNER_CLASS).getDeclaredConstructor(char.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
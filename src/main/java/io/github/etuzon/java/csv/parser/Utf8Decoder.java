@@ -0,0 +1,149 @@
+package io.github.etuzon.java.csv.parser;
+
+/*************************************************
+ * UTF-8 decoder.
+ * <p>
+ * Decoder decode UTF-8 bytes straight into chars buffer, without charset decoder.
+ * ASCII bytes are copied as single chars in a tight loop, and only non ASCII bytes are decoded.
+ * <p>
+ * Malformed input is replaced by U+FFFD, one replacement char for each maximal invalid subpart,
+ * same as {@link java.io.InputStreamReader}.
+ * Char that is split at the end of the bytes is kept for the next decode,
+ * unless it is the end of the input.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class Utf8Decoder {
+    static final int UTF8_MAX_CHAR_SIZE = 4;
+
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private int bytesPosition = 0;
+    private char lowSurrogate = 0;
+
+    /*********************************
+     * Decode bytes into chars buffer.
+     *
+     * @param bytes Bytes buffer.
+     * @param bytesStart Start position in bytes buffer.
+     * @param bytesEnd End position in bytes buffer (exclusive).
+     * @param chars Chars buffer.
+     * @param charsStart Start position in chars buffer.
+     * @param charsEnd End position in chars buffer (exclusive).
+     * @param isEndOfInput true in case there are no bytes after bytes end.
+     * @return Chars buffer position after the decoded chars.
+     */
+    int decode(
+            byte[] bytes,
+            int bytesStart,
+            int bytesEnd,
+            char[] chars,
+            int charsStart,
+            int charsEnd,
+            boolean isEndOfInput) {
+
+        int i = bytesStart;
+        int j = charsStart;
+
+        if ((lowSurrogate != 0) && (j < charsEnd)) {
+            chars[j++] = lowSurrogate;
+            lowSurrogate = 0;
+        }
+
+        while ((i < bytesEnd) && (j < charsEnd)) {
+            int asciiEnd = Math.min(bytesEnd, i + charsEnd - j);
+
+            while ((i < asciiEnd) && (bytes[i] >= 0)) {
+                chars[j++] = (char) bytes[i++];
+            }
+
+            if (i == asciiEnd) {
+                continue;
+            }
+
+            int b = bytes[i] & 0xFF;
+            int size;
+            int codePoint;
+            int lower = 0x80;
+            int upper = 0xBF;
+
+            if (b < 0xC2) {
+                // Continuation byte or overlong 2 bytes lead
+                chars[j++] = REPLACEMENT_CHAR;
+                i++;
+                continue;
+            } else if (b < 0xE0) {
+                size = 2;
+                codePoint = b & 0x1F;
+            } else if (b < 0xF0) {
+                size = 3;
+                codePoint = b & 0x0F;
+                lower = b == 0xE0 ? 0xA0 : 0x80;
+            } else if (b < 0xF5) {
+                size = 4;
+                codePoint = b & 0x07;
+                lower = b == 0xF0 ? 0x90 : 0x80;
+                upper = b == 0xF4 ? 0x8F : 0xBF;
+            } else {
+                chars[j++] = REPLACEMENT_CHAR;
+                i++;
+                continue;
+            }
+
+            int k = 1;
+
+            while ((k < size) && (i + k < bytesEnd)) {
+                int next = bytes[i + k] & 0xFF;
+
+                if ((next < lower) || (next > upper)) {
+                    break;
+                }
+
+                codePoint = (codePoint << 6) | (next & 0x3F);
+                lower = 0x80;
+                upper = 0xBF;
+                k++;
+            }
+
+            if (k < size) {
+                if ((i + k == bytesEnd) && (!isEndOfInput)) {
+                    // Char is split, and its rest is in the next bytes
+                    break;
+                }
+
+                chars[j++] = REPLACEMENT_CHAR;
+                i += k;
+                continue;
+            }
+
+            i += size;
+
+            if (size < 4) {
+                // Encoded surrogate is replaced as a whole, same as JDK decoder
+                chars[j++] = Character.isSurrogate((char) codePoint) ? REPLACEMENT_CHAR : (char) codePoint;
+            } else {
+                chars[j++] = Character.highSurrogate(codePoint);
+
+                if (j < charsEnd) {
+                    chars[j++] = Character.lowSurrogate(codePoint);
+                } else {
+                    lowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+
+        bytesPosition = i;
+
+        return j;
+    }
+
+    /*********************************
+     * Get bytes buffer position after the bytes that were decoded by the last decode.
+     *
+     * @return Bytes buffer position.
+     */
+    int getBytesPosition() {
+        return bytesPosition;
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+
+/*************************************************
+ * UTF-8 reader.
+ * <p>
+ * Reader read bytes from input stream into a reusable bytes buffer,
+ * and decode them straight into the caller buffer, without charset decoder.
+ * ASCII bytes, that are most of CSV files bytes, are copied as single chars in a tight loop.
+ * <p>
+ * Malformed input is replaced, same as {@link java.io.InputStreamReader}.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class Utf8Reader extends Reader {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] bytes;
+    private final Utf8Decoder decoder = new Utf8Decoder();
+
+    private int bytesPosition = 0;
+    private int bytesLimit = 0;
+    private boolean isEndOfInput = false;
+    private boolean isClosed = false;
+    private long bytesAmount = 0;
+    private CsvMetricsListener metricsListener = null;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param input Input stream. Input stream is closed when reader is closed.
+     */
+    public Utf8Reader(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    /*********************************
+     * Constructor.
+     *
+     * @param input Input stream. Input stream is closed when reader is closed.
+     * @param bufferSize Bytes buffer size.
+     */
+    public Utf8Reader(InputStream input, int bufferSize) {
+        this.input = input;
+        this.bytes = new byte[Math.max(bufferSize, Utf8Decoder.UTF8_MAX_CHAR_SIZE)];
+    }
+
+    /*********************************
+     * Set metrics listener.
+     * <p>
+     * Listener is notified of IO duration of each input stream read,
+     * and of DECODE duration of each decoded buffer.
+     *
+     * @param metricsListener Metrics listener, or null in case metrics are disabled.
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /*********************************
+     * Get amount of bytes that were read from input stream.
+     *
+     * @return Bytes amount.
+     */
+    public long getBytesAmount() {
+        return bytesAmount;
+    }
+
+    /*********************************
+     * Read chars into buffer.
+     *
+     * @param cbuf Destination buffer.
+     * @param off Offset at which to start storing chars.
+     * @param len Maximum chars amount to read.
+     * @return Chars amount that were read, or -1 in case end of input was reached.
+     * @throws IOException in case fail read input stream or reader is closed.
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (isClosed) {
+            throw new IOException("Reader is closed");
+        }
+
+        if (len == 0) {
+            return 0;
+        }
+
+        while (true) {
+            int end = decode(cbuf, off, len);
+
+            if (end > off) {
+                return end - off;
+            }
+
+            if (isEndOfInput) {
+                return -1;
+            }
+
+            fillBytes();
+        }
+    }
+
+    /*********************************
+     * Close reader and input stream.
+     *
+     * @throws IOException in case fail close input stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        input.close();
+    }
+
+    private int decode(char[] cbuf, int off, int len) {
+        boolean isMeasured = (metricsListener != null) && (bytesPosition < bytesLimit);
+        long start = isMeasured ? System.nanoTime() : 0;
+
+        int end = decoder.decode(bytes, bytesPosition, bytesLimit, cbuf, off, off + len, isEndOfInput);
+        bytesPosition = decoder.getBytesPosition();
+
+        if (isMeasured) {
+            metricsListener.onPhase(CsvPhaseEnum.DECODE, System.nanoTime() - start);
+        }
+
+        return end;
+    }
+
+    private void fillBytes() throws IOException {
+        // Bytes of char that is split are moved to buffer start
+        int remaining = bytesLimit - bytesPosition;
+        System.arraycopy(bytes, bytesPosition, bytes, 0, remaining);
+        bytesPosition = 0;
+        bytesLimit = remaining;
+
+        long start = metricsListener == null ? 0 : System.nanoTime();
+        int length = input.read(bytes, bytesLimit, bytes.length - bytesLimit);
+
+        if (metricsListener != null) {
+            metricsListener.onPhase(CsvPhaseEnum.IO, System.nanoTime() - start);
+        }
+
+        if (length < 0) {
+            isEndOfInput = true;
+        } else {
+            bytesLimit += length;
+            bytesAmount += length;
+        }
+    }
+}
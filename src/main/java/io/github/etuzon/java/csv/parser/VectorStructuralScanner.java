@@ -0,0 +1,63 @@
+package io.github.etuzon.java.csv.parser;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/*************************************************
+ * Vector structural chars scanner.
+ * <p>
+ * Scanner load chars into the preferred vector size of the CPU
+ * (16 chars on AVX2 and 32 chars on AVX-512), compare all of them to the structural chars at once,
+ * and find the first structural char from the comparison mask.
+ * Chars at the end of the buffer, that not fill a vector, are compared one at a time.
+ * <p>
+ * Class require module jdk.incubator.vector, so it is loaded only by {@link StructuralScanner#create}.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class VectorStructuralScanner extends StructuralScanner {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    private static final short INVERTED_COMMA = '"';
+    private static final short LINE_FEED = '\n';
+    private static final short CARRIAGE_RETURN = '\r';
+
+    private final short splitter;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param cellsSplitter Cells splitter char.
+     */
+    VectorStructuralScanner(char cellsSplitter) {
+        super(cellsSplitter);
+        this.splitter = (short) cellsSplitter;
+    }
+
+    @Override
+    int indexOfStructural(char[] chars, int from, int to) {
+        int i = from;
+        int loopBound = to - SPECIES.length();
+
+        for (; i <= loopBound; i += SPECIES.length()) {
+            ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, i);
+            VectorMask<Short> mask = vector.eq(splitter)
+                    .or(vector.eq(INVERTED_COMMA))
+                    .or(vector.eq(LINE_FEED))
+                    .or(vector.eq(CARRIAGE_RETURN));
+
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+
+        return super.indexOfStructural(chars, i, to);
+    }
+
+    @Override
+    boolean isVector() {
+        return true;
+    }
+}
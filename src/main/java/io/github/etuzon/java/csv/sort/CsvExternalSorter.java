@@ -0,0 +1,441 @@
+package io.github.etuzon.java.csv.sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/*************************************************
+ * External merge sorter of CSV rows.
+ * <p>
+ * Rows are kept in memory runs, that are limited by an estimated memory size.
+ * Each full run is sorted and written to a binary run file by a thread pool,
+ * while the next run is filled. Sorted runs are merged by a k-way merge on a priority queue.
+ * Runs amount that exceed {@link #MAX_MERGE_RUNS} are merged in parallel into larger runs first,
+ * so the amount of open files is limited.
+ * <p>
+ * Sort is stable. Runs are sorted by a stable sort, and rows with same keys are merged
+ * in runs order, that is the order the rows were added.
+ * Rows that fit into a single run are sorted in memory, without run files.
+ * <p>
+ * Memory size is the sum of the run that is filled and the runs that are sorted in parallel.
+ * Sorter should be closed after use, to delete the run files.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvExternalSorter implements Closeable {
+    public static final long DEFAULT_MAX_MEMORY_SIZE = 64L * 1024 * 1024;
+    public static final int MAX_MERGE_RUNS = 64;
+
+    private static final long ROW_OVERHEAD_SIZE = 96;
+    private static final long CELL_OVERHEAD_SIZE = 56;
+    private static final long KEY_OVERHEAD_SIZE = 24;
+    private static final String RUN_FILE_PREFIX = "csvSortRun";
+    private static final String RUN_FILE_SUFFIX = ".run";
+
+    private final List<SortKey> sortKeys;
+    private final Comparator<SortRow> comparator;
+    private final long maxRunSize;
+    private final int parallelism;
+    private final Path tempDirectory;
+    private final ExecutorService executor;
+
+    private List<SortRow> runRows = new ArrayList<>();
+    private long runSize = 0;
+    private final List<Future<Path>> runs = new ArrayList<>();
+    private int completedRunsAmount = 0;
+    private final List<Path> runPaths = new ArrayList<>();
+    private RunsMerger merger = null;
+    private long rowsAmount = 0;
+    private boolean isSorted = false;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param sortKeys Sort keys, in priority order.
+     * @param maxMemorySize Maximum estimated memory size in bytes of the rows that are kept in memory.
+     * @param parallelism Amount of threads that sort and merge runs.
+     * @param tempDirectory Directory of run files, or null in case run files are in default temporary directory.
+     */
+    public CsvExternalSorter(List<SortKey> sortKeys, long maxMemorySize, int parallelism, String tempDirectory) {
+        this.sortKeys = new ArrayList<>(sortKeys);
+        this.comparator = this::compare;
+        this.maxRunSize = Math.max(maxMemorySize / (parallelism + 1), 1);
+        this.parallelism = parallelism;
+        this.tempDirectory = Paths.get(tempDirectory == null ? System.getProperty("java.io.tmpdir") : tempDirectory);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /*********************************
+     * Add row.
+     * <p>
+     * In case run is full, run is sorted and written to run file by another thread.
+     * Method wait in case all threads are busy, so memory size is not exceeded.
+     *
+     * @param row Row cells. Row should not be changed after it was added.
+     * @throws NumberFormatException in case typed sort key cell is not a valid value.
+     * @throws IOException in case fail write run file.
+     */
+    public void addRow(List<String> row) throws NumberFormatException, IOException {
+        SortRow sortRow = createSortRow(row);
+        runRows.add(sortRow);
+        runSize += getEstimatedSize(sortRow);
+        rowsAmount++;
+
+        if (runSize >= maxRunSize) {
+            spillRun();
+        }
+    }
+
+    /*********************************
+     * Sort the rows that were added.
+     * <p>
+     * Method can be executed only one time. Rows should not be added after sort.
+     *
+     * @return Iterator of sorted rows. Iterator throw {@link UncheckedIOException} in case fail read run file.
+     * @throws IOException in case fail sort runs, or sort already been executed.
+     */
+    public Iterator<List<String>> sort() throws IOException {
+        if (isSorted) {
+            throw new IOException("Rows already been sorted");
+        }
+
+        isSorted = true;
+
+        if (runs.isEmpty()) {
+            runRows.sort(comparator);
+
+            return new InMemoryIterator(runRows);
+        }
+
+        if (!runRows.isEmpty()) {
+            spillRun();
+        }
+
+        List<Path> sortedRuns = new ArrayList<>();
+
+        for (Future<Path> run : runs) {
+            sortedRuns.add(getResult(run));
+        }
+
+        while (sortedRuns.size() > MAX_MERGE_RUNS) {
+            sortedRuns = mergeToLargerRuns(sortedRuns);
+        }
+
+        merger = new RunsMerger(sortedRuns);
+
+        return merger;
+    }
+
+    /*********************************
+     * Get amount of rows that were added.
+     *
+     * @return Rows amount.
+     */
+    public long getRowsAmount() {
+        return rowsAmount;
+    }
+
+    /*********************************
+     * Get amount of runs that were written to run files.
+     *
+     * @return Runs amount. Return 0 in case rows were sorted in memory.
+     */
+    public int getRunsAmount() {
+        return runs.size();
+    }
+
+    /*********************************
+     * Stop sorting threads and delete run files.
+     * <p>
+     * Method wait until running threads are stopped, before run files are deleted.
+     *
+     * @throws IOException in case fail delete run files, or waiting to sorting threads was interrupted.
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        runRows = new ArrayList<>();
+
+        try {
+            // Run that is still written may create its file after run files were deleted
+            awaitThreadsTermination();
+
+            if (merger != null) {
+                merger.close();
+            }
+        } finally {
+            for (Path path : runPaths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void spillRun() throws IOException {
+        // Threads are busy, so the oldest run should be written before a new run is sorted
+        while (runs.size() - completedRunsAmount >= parallelism) {
+            getResult(runs.get(completedRunsAmount++));
+        }
+
+        List<SortRow> rows = runRows;
+        Path path = createRunFile();
+        runs.add(executor.submit(() -> writeRun(rows, path)));
+
+        runRows = new ArrayList<>();
+        runSize = 0;
+    }
+
+    private Path writeRun(List<SortRow> rows, Path path) throws IOException {
+        rows.sort(comparator);
+
+        try (RunFileWriter writer = new RunFileWriter(path)) {
+            for (SortRow row : rows) {
+                writer.writeRow(row.row);
+            }
+        }
+
+        return path;
+    }
+
+    private List<Path> mergeToLargerRuns(List<Path> sortedRuns) throws IOException {
+        List<Future<Path>> mergedRuns = new ArrayList<>();
+
+        // Consecutive runs are merged, so rows with same keys keep their order
+        for (int i = 0; i < sortedRuns.size(); i += MAX_MERGE_RUNS) {
+            List<Path> group = sortedRuns.subList(i, Math.min(i + MAX_MERGE_RUNS, sortedRuns.size()));
+            Path path = createRunFile();
+            mergedRuns.add(executor.submit(() -> mergeRuns(group, path)));
+        }
+
+        List<Path> paths = new ArrayList<>();
+
+        for (Future<Path> run : mergedRuns) {
+            paths.add(getResult(run));
+        }
+
+        return paths;
+    }
+
+    private Path mergeRuns(List<Path> group, Path path) throws IOException {
+        try (RunsMerger runsMerger = new RunsMerger(group);
+                RunFileWriter writer = new RunFileWriter(path)) {
+
+            while (runsMerger.hasNext()) {
+                writer.writeRow(runsMerger.next());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        for (Path groupPath : group) {
+            Files.deleteIfExists(groupPath);
+        }
+
+        return path;
+    }
+
+    private Path createRunFile() throws IOException {
+        Path path = Files.createTempFile(tempDirectory, RUN_FILE_PREFIX, RUN_FILE_SUFFIX);
+        runPaths.add(path);
+
+        return path;
+    }
+
+    private void awaitThreadsTermination() throws IOException {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Closing CSV sorter was interrupted", e);
+        }
+    }
+
+    private Path getResult(Future<Path> run) throws IOException {
+        try {
+            return run.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException("Fail sort CSV rows", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Sorting CSV rows was interrupted", e);
+        }
+    }
+
+    private SortRow createSortRow(List<String> row) throws NumberFormatException {
+        Object[] keys = new Object[sortKeys.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortKeys.get(i).getValue(row);
+        }
+
+        return new SortRow(row, keys);
+    }
+
+    private int compare(SortRow row1, SortRow row2) {
+        for (int i = 0; i < row1.keys.length; i++) {
+            int result = sortKeys.get(i).compare(row1.keys[i], row2.keys[i]);
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return 0;
+    }
+
+    private long getEstimatedSize(SortRow sortRow) {
+        long size = ROW_OVERHEAD_SIZE + KEY_OVERHEAD_SIZE * sortRow.keys.length;
+
+        for (String cell : sortRow.row) {
+            size += CELL_OVERHEAD_SIZE + 2L * cell.length();
+        }
+
+        return size;
+    }
+
+    /*********************************************
+     * Row with its sort keys values.
+     */
+    private static class SortRow {
+        private final List<String> row;
+        private final Object[] keys;
+
+        private SortRow(List<String> row, Object[] keys) {
+            this.row = row;
+            this.keys = keys;
+        }
+    }
+
+    /*********************************************
+     * Iterator of rows that were sorted in memory.
+     */
+    private static class InMemoryIterator implements Iterator<List<String>> {
+        private final Iterator<SortRow> rows;
+
+        private InMemoryIterator(List<SortRow> rows) {
+            this.rows = rows.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public List<String> next() {
+            return rows.next().row;
+        }
+    }
+
+    /*********************************************
+     * K-way merge of sorted run files.
+     */
+    private class RunsMerger implements Iterator<List<String>>, Closeable {
+        private final PriorityQueue<RunHead> heads;
+        private final List<RunFileReader> readers = new ArrayList<>();
+
+        private RunsMerger(List<Path> paths) throws IOException {
+            // Rows with same keys are taken from the first run
+            heads = new PriorityQueue<>(Math.max(paths.size(), 1), (head1, head2) -> {
+                int result = compare(head1.row, head2.row);
+                return result != 0 ? result : Integer.compare(head1.runIndex, head2.runIndex);
+            });
+
+            try {
+                for (int i = 0; i < paths.size(); i++) {
+                    RunFileReader reader = new RunFileReader(paths.get(i));
+                    readers.add(reader);
+                    offerNextRow(new RunHead(reader, i));
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public List<String> next() {
+            RunHead head = heads.poll();
+
+            if (head == null) {
+                throw new NoSuchElementException("There are no more sorted rows");
+            }
+
+            List<String> row = head.row.row;
+
+            try {
+                offerNextRow(head);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Fail read sorted run file", e);
+            }
+
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            heads.clear();
+            IOException exception = null;
+
+            for (RunFileReader reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    exception = e;
+                }
+            }
+
+            readers.clear();
+
+            if (exception != null) {
+                throw exception;
+            }
+        }
+
+        private void offerNextRow(RunHead head) throws IOException {
+            List<String> row = head.reader.nextRow();
+
+            if (row != null) {
+                head.row = createSortRow(row);
+                heads.add(head);
+            }
+        }
+    }
+
+    /*********************************************
+     * Run file reader and its current row.
+     */
+    private static class RunHead {
+        private final RunFileReader reader;
+        private final int runIndex;
+        private SortRow row = null;
+
+        private RunHead(RunFileReader reader, int runIndex) {
+            this.reader = reader;
+            this.runIndex = runIndex;
+        }
+    }
+}
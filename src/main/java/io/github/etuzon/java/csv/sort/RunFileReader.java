@@ -0,0 +1,73 @@
+package io.github.etuzon.java.csv.sort;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*************************************************
+ * Run file reader.
+ * <p>
+ * Read rows that were written by {@link RunFileWriter}.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class RunFileReader implements Closeable {
+    private final DataInputStream input;
+    private byte[] bytes = new byte[256];
+
+    /*********************************
+     * Constructor.
+     *
+     * @param path Run file path.
+     * @throws IOException in case fail open run file.
+     */
+    RunFileReader(Path path) throws IOException {
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), RunFileWriter.BUFFER_SIZE));
+    }
+
+    /*********************************
+     * Read next row.
+     *
+     * @return Row cells. Return null in case end of run was reached.
+     * @throws IOException in case fail read run file.
+     */
+    List<String> nextRow() throws IOException {
+        int cellsAmount = input.readInt();
+
+        if (cellsAmount == RunFileWriter.END_OF_RUN) {
+            return null;
+        }
+
+        List<String> row = new ArrayList<>(cellsAmount);
+
+        for (int i = 0; i < cellsAmount; i++) {
+            int length = input.readInt();
+
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+
+            input.readFully(bytes, 0, length);
+            row.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+
+        return row;
+    }
+
+    /*********************************
+     * Close run file.
+     *
+     * @throws IOException in case fail close run file.
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
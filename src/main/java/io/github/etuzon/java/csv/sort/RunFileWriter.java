@@ -0,0 +1,65 @@
+package io.github.etuzon.java.csv.sort;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/*************************************************
+ * Run file writer.
+ * <p>
+ * Run file keep sorted rows in binary format, so rows are read back without CSV parsing.
+ * Each row is written as cells amount followed by length prefixed UTF-8 cells,
+ * and the file end with {@link #END_OF_RUN} marker.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+class RunFileWriter implements Closeable {
+    static final int END_OF_RUN = -1;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream output;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param path Run file path.
+     * @throws IOException in case fail create run file.
+     */
+    RunFileWriter(Path path) throws IOException {
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+
+    /*********************************
+     * Write row.
+     *
+     * @param row Row cells.
+     * @throws IOException in case fail write run file.
+     */
+    void writeRow(List<String> row) throws IOException {
+        output.writeInt(row.size());
+
+        for (String cell : row) {
+            byte[] bytes = cell.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    /*********************************
+     * Write end of run marker and close run file.
+     *
+     * @throws IOException in case fail write run file.
+     */
+    @Override
+    public void close() throws IOException {
+        try (output) {
+            output.writeInt(END_OF_RUN);
+        }
+    }
+}
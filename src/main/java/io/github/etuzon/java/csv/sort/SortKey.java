@@ -0,0 +1,130 @@
+package io.github.etuzon.java.csv.sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+import io.github.etuzon.java.csv.enums.SortTypeEnum;
+import io.github.etuzon.java.csv.parser.CellValueParser;
+
+/*************************************************
+ * Sort key of CSV rows.
+ * <p>
+ * Key compare the cells of one column, as {@link SortTypeEnum} values or by a custom comparator.
+ * Typed values are parsed one time per row, and not in each comparison.
+ * Cell that not exist in row is compared as empty cell.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class SortKey {
+    private final int columnIndex;
+    private final SortTypeEnum sortType;
+    private final Comparator<String> comparator;
+    private final boolean isDescending;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param columnIndex Column index.
+     * @param sortType Sort type enum.
+     * @param isDescending true in case cells are sorted in descending order, else the value is false.
+     */
+    public SortKey(int columnIndex, SortTypeEnum sortType, boolean isDescending) {
+        this(columnIndex, sortType, null, isDescending);
+    }
+
+    /*********************************
+     * Constructor.
+     *
+     * @param columnIndex Column index.
+     * @param comparator Comparator of the cells.
+     * @param isDescending true in case cells are sorted in descending order, else the value is false.
+     */
+    public SortKey(int columnIndex, Comparator<String> comparator, boolean isDescending) {
+        this(columnIndex, SortTypeEnum.STRING, comparator, isDescending);
+    }
+
+    private SortKey(int columnIndex, SortTypeEnum sortType, Comparator<String> comparator, boolean isDescending) {
+        this.columnIndex = columnIndex;
+        this.sortType = sortType;
+        this.comparator = comparator;
+        this.isDescending = isDescending;
+    }
+
+    /*********************************
+     * Get column index.
+     *
+     * @return Column index.
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /*********************************
+     * Get sort type.
+     *
+     * @return Sort type enum.
+     */
+    public SortTypeEnum getSortType() {
+        return sortType;
+    }
+
+    /*********************************
+     * Is cells sorted in descending order.
+     *
+     * @return true in case cells are sorted in descending order.
+     */
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /*********************************
+     * Get key value of row.
+     *
+     * @param row Row cells.
+     * @return Key value. Return null in case typed cell is empty.
+     * @throws NumberFormatException in case typed cell is not a valid value.
+     */
+    Object getValue(List<String> row) throws NumberFormatException {
+        String cell = columnIndex < row.size() ? row.get(columnIndex) : "";
+
+        if (sortType == SortTypeEnum.STRING) {
+            return cell;
+        }
+
+        if (cell.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return sortType == SortTypeEnum.LONG
+                    ? (Object) CellValueParser.parseLong(cell)
+                    : (Object) CellValueParser.parseDouble(cell);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(
+                    "Cell of sort column index [" + columnIndex + "] is invalid. " + e.getMessage());
+        }
+    }
+
+    /*********************************
+     * Compare key values.
+     *
+     * @param value1 First key value.
+     * @param value2 Second key value.
+     * @return Negative, zero or positive value in case first value is before, same or after second value.
+     */
+    @SuppressWarnings("unchecked")
+    int compare(Object value1, Object value2) {
+        int result;
+
+        if ((value1 == null) || (value2 == null)) {
+            result = value1 == null ? (value2 == null ? 0 : -1) : 1;
+        } else if (comparator != null) {
+            result = comparator.compare((String) value1, (String) value2);
+        } else {
+            result = ((Comparable<Object>) value1).compareTo(value2);
+        }
+
+        return isDescending ? -result : result;
+    }
+}
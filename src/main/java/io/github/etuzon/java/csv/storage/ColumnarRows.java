@@ -0,0 +1,246 @@
+package io.github.etuzon.java.csv.storage;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/*************************************************
+ * Columnar CSV rows storage.
+ * <p>
+ * Cells are kept in one array per column instead of one list per row.
+ * Column arrays are split into chunks, so adding rows never copy the whole column.
+ * <p>
+ * Rows are returned as read only views over the column arrays.
+ * Rows can only be appended. Set and remove of rows are not supported.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class ColumnarRows extends AbstractList<List<String>> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNK_SIZE = 16;
+
+    // [column][chunk][row offset in chunk]
+    private String[][][] columns = new String[0][][];
+    // [chunk][row offset in chunk]
+    private int[][] rowSizes = new int[0][];
+    private int size = 0;
+
+    /*********************************
+     * Get amount of columns. Equal to the maximum row size.
+     *
+     * @return Columns amount.
+     */
+    public int getColumnsAmount() {
+        return columns.length;
+    }
+
+    /*********************************
+     * Get row size.
+     *
+     * @param rowIndex Row index.
+     * @return Cells amount in the row.
+     * @throws IndexOutOfBoundsException in case row index is out of bound.
+     */
+    public int getRowSize(int rowIndex) throws IndexOutOfBoundsException {
+        validateRowIndex(rowIndex);
+
+        return rowSizes[rowIndex >>> CHUNK_SHIFT][rowIndex & CHUNK_MASK];
+    }
+
+    /*********************************
+     * Get cell.
+     *
+     * @param rowIndex Row index.
+     * @param columnIndex Column index.
+     * @return Cell value.
+     * @throws IndexOutOfBoundsException in case row index or column index is out of bound.
+     */
+    public String getCell(int rowIndex, int columnIndex) throws IndexOutOfBoundsException {
+        int rowSize = getRowSize(rowIndex);
+
+        if ((columnIndex < 0) || (columnIndex >= rowSize)) {
+            throw new IndexOutOfBoundsException(
+                    "Column index [" + columnIndex + "] exceed of row size [" + rowSize + "]");
+        }
+
+        return columns[columnIndex][rowIndex >>> CHUNK_SHIFT][rowIndex & CHUNK_MASK];
+    }
+
+    /*********************************
+     * Get column cells.
+     * <p>
+     * Cells are copied from column chunks.
+     *
+     * @param columnIndex Column index.
+     * @return Fixed size list of column cells.
+     * @throws IndexOutOfBoundsException in case column index exceed size of one of the rows.
+     */
+    public List<String> getColumn(int columnIndex) throws IndexOutOfBoundsException {
+        validateColumnInAllRows(columnIndex);
+
+        String[] column = new String[size];
+        String[][] chunks = columns[columnIndex];
+
+        for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+            System.arraycopy(
+                    chunks[offset >>> CHUNK_SHIFT], 0, column, offset, Math.min(CHUNK_SIZE, size - offset));
+        }
+
+        return Arrays.asList(column);
+    }
+
+    /*********************************
+     * Get row.
+     *
+     * @param index Row index.
+     * @return Read only view of the row cells.
+     * @throws IndexOutOfBoundsException in case row index is out of bound.
+     */
+    @Override
+    public List<String> get(int index) throws IndexOutOfBoundsException {
+        validateRowIndex(index);
+
+        return new ColumnarRow(index);
+    }
+
+    /*********************************
+     * Get amount of rows.
+     *
+     * @return Rows amount.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /*********************************
+     * Append row.
+     *
+     * @param row Row cells.
+     * @return true.
+     */
+    @Override
+    public boolean add(List<String> row) {
+        int chunk = size >>> CHUNK_SHIFT;
+        int offset = size & CHUNK_MASK;
+        int rowSize = row.size();
+
+        if (rowSize > columns.length) {
+            addColumns(rowSize);
+        }
+
+        rowSizes = ensureChunk(rowSizes, chunk, offset);
+        rowSizes[chunk][offset] = rowSize;
+
+        for (int i = 0; i < rowSize; i++) {
+            columns[i] = ensureChunk(columns[i], chunk, offset);
+            columns[i][chunk][offset] = row.get(i);
+        }
+
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    private void addColumns(int columnsAmount) {
+        int previousColumnsAmount = columns.length;
+        columns = Arrays.copyOf(columns, columnsAmount);
+
+        for (int i = previousColumnsAmount; i < columnsAmount; i++) {
+            columns[i] = new String[0][];
+        }
+    }
+
+    private void validateRowIndex(int rowIndex) throws IndexOutOfBoundsException {
+        if ((rowIndex < 0) || (rowIndex >= size)) {
+            throw new IndexOutOfBoundsException(
+                    "Row index [" + rowIndex + "] is out of bound. Rows amount [" + size + "]");
+        }
+    }
+
+    private void validateColumnInAllRows(int columnIndex) throws IndexOutOfBoundsException {
+        for (int i = 0; i < size; i++) {
+            int rowSize = rowSizes[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+
+            if ((columnIndex < 0) || (columnIndex >= rowSize)) {
+                throw new IndexOutOfBoundsException(
+                        "Column index [" + columnIndex + "] exceed of row size [" + rowSize
+                        + "] in row index [" + i + "]");
+            }
+        }
+    }
+
+    private static String[][] ensureChunk(String[][] chunks, int chunk, int offset) {
+        if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+        }
+
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new String[getChunkCapacity(offset)];
+        } else if (offset >= chunks[chunk].length) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], getChunkCapacity(offset));
+        }
+
+        return chunks;
+    }
+
+    private static int[][] ensureChunk(int[][] chunks, int chunk, int offset) {
+        if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+        }
+
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new int[getChunkCapacity(offset)];
+        } else if (offset >= chunks[chunk].length) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], getChunkCapacity(offset));
+        }
+
+        return chunks;
+    }
+
+    /*********************************
+     * Chunk capacity grow by doubling until chunk size, so small files stay small.
+     */
+    private static int getChunkCapacity(int offset) {
+        int capacity = INITIAL_CHUNK_SIZE;
+
+        while (capacity <= offset) {
+            capacity <<= 1;
+        }
+
+        return Math.min(capacity, CHUNK_SIZE);
+    }
+
+    /*********************************
+     * Read only view of a row.
+     */
+    private class ColumnarRow extends AbstractList<String> implements RandomAccess {
+        private final int rowIndex;
+        private final int rowSize;
+
+        private ColumnarRow(int rowIndex) {
+            this.rowIndex = rowIndex;
+            this.rowSize = rowSizes[rowIndex >>> CHUNK_SHIFT][rowIndex & CHUNK_MASK];
+        }
+
+        @Override
+        public String get(int index) {
+            if ((index < 0) || (index >= rowSize)) {
+                throw new IndexOutOfBoundsException(
+                        "Column index [" + index + "] exceed of row size [" + rowSize + "]");
+            }
+
+            return columns[index][rowIndex >>> CHUNK_SHIFT][rowIndex & CHUNK_MASK];
+        }
+
+        @Override
+        public int size() {
+            return rowSize;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.etuzon.java.csv.writer;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/*************************************************
+ * Counting output stream.
+ * <p>
+ * Output stream count the bytes that are written to the wrapped output stream.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CountingOutputStream extends FilterOutputStream {
+    private long bytesAmount = 0;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param output Output stream that bytes are written to.
+     */
+    public CountingOutputStream(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        bytesAmount++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        bytesAmount += len;
+    }
+
+    /*********************************
+     * Get amount of bytes that were written.
+     *
+     * @return Bytes amount.
+     */
+    public long getBytesAmount() {
+        return bytesAmount;
+    }
+}
@@ -0,0 +1,283 @@
+package io.github.etuzon.java.csv.writer;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.java.csv.metrics.CsvMetricsListener;
+import io.github.etuzon.java.csv.metrics.CsvRecordsStats;
+
+/*************************************************
+ * CSV row encoder.
+ * <p>
+ * Encoder write rows in CSV file format into a reusable chars buffer,
+ * and write the buffer to the writer when it is full.
+ * Each cell is scanned one time to find if it should be delimited with inverted commas,
+ * and plain cells are copied to the buffer without creating new objects.
+ * <p>
+ * Cell that contain inverted comma, line feed, carriage return or cells splitter
+ * is delimited with inverted commas, and its inverted commas are doubled.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class CsvRowEncoder implements Flushable, Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final char INVERTED_COMMA = '"';
+
+    private final Writer writer;
+    private final char cellsSplitter;
+    private final String lineSeparator;
+    private final char[] buffer;
+
+    private int position = 0;
+
+    private CsvMetricsListener metricsListener = null;
+    private LongSupplier bytesCounter = null;
+    private long recordsAmount = 0;
+    private long cellsAmount = 0;
+    private long multilineRecordsAmount = 0;
+    private long quotedCellsAmount = 0;
+    private int largestCellSize = 0;
+    private boolean isMultilineRecord = false;
+    private long writeNanos = 0;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param writer Writer that encoded rows are written to.
+     * @param cellsSplitter Cells splitter char.
+     */
+    public CsvRowEncoder(Writer writer, char cellsSplitter) {
+        this(writer, cellsSplitter, DEFAULT_BUFFER_SIZE);
+    }
+
+    /*********************************
+     * Constructor.
+     *
+     * @param writer Writer that encoded rows are written to.
+     * @param cellsSplitter Cells splitter char.
+     * @param bufferSize Buffer size in chars.
+     */
+    public CsvRowEncoder(Writer writer, char cellsSplitter, int bufferSize) {
+        this.writer = writer;
+        this.cellsSplitter = cellsSplitter;
+        this.lineSeparator = System.lineSeparator();
+        this.buffer = new char[bufferSize];
+    }
+
+    /*********************************
+     * Set metrics listener.
+     * <p>
+     * Listener is notified of each phase duration while writing,
+     * and of the records statistics when encoder is closed.
+     * Encoder without listener does not measure durations.
+     *
+     * @param metricsListener Metrics listener, or null in case metrics are disabled.
+     */
+    public void setMetricsListener(CsvMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /*********************************
+     * Set counter of bytes that were written by the writer.
+     *
+     * @param bytesCounter Bytes counter, or null in case bytes are not counted.
+     */
+    public void setBytesCounter(LongSupplier bytesCounter) {
+        this.bytesCounter = bytesCounter;
+    }
+
+    /*********************************
+     * Get amount of bytes that were written by the writer.
+     * <p>
+     * Rows that are still in the chars buffer are not counted.
+     *
+     * @return Bytes amount, or 0 in case bytes are not counted.
+     */
+    public long getBytesAmount() {
+        return bytesCounter == null ? 0 : bytesCounter.getAsLong();
+    }
+
+    /*********************************
+     * Write row followed by line separator.
+     *
+     * @param row A row of cells.
+     * @throws IOException in case fail write to the writer.
+     */
+    public void writeRow(List<String> row) throws IOException {
+        if (metricsListener == null) {
+            encodeRow(row);
+            return;
+        }
+
+        long start = System.nanoTime();
+        writeNanos = 0;
+        encodeRow(row);
+        // Writer durations are measured as IO phase
+        metricsListener.onPhase(CsvPhaseEnum.ENCODE, System.nanoTime() - start - writeNanos);
+    }
+
+    /*********************************
+     * Write buffered rows to the writer and flush it.
+     *
+     * @throws IOException in case fail write to the writer.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        writer.flush();
+    }
+
+    /*********************************
+     * Write buffered rows to the writer and close it.
+     *
+     * @throws IOException in case fail write to the writer or close it.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            writer.close();
+        }
+
+        if (metricsListener != null) {
+            metricsListener.onWrite(new CsvRecordsStats(
+                    getBytesAmount(),
+                    recordsAmount,
+                    cellsAmount,
+                    multilineRecordsAmount,
+                    quotedCellsAmount,
+                    largestCellSize));
+            // Statistics are notified only one time
+            metricsListener = null;
+        }
+    }
+
+    private void encodeRow(List<String> row) throws IOException {
+        int rowSize = row.size();
+        isMultilineRecord = false;
+
+        for (int i = 0; i < rowSize; i++) {
+            if (i > 0) {
+                writeChar(cellsSplitter);
+            }
+
+            writeCell(row.get(i));
+        }
+
+        writeChars(lineSeparator, 0, lineSeparator.length());
+
+        recordsAmount++;
+        cellsAmount += rowSize;
+
+        if (isMultilineRecord) {
+            multilineRecordsAmount++;
+        }
+    }
+
+    private void writeCell(String cell) throws IOException {
+        int length = cell.length();
+
+        if (length > largestCellSize) {
+            largestCellSize = length;
+        }
+
+        if (!isInvertedCommasNeeded(cell, length)) {
+            writeChars(cell, 0, length);
+            return;
+        }
+
+        writeChar(INVERTED_COMMA);
+        quotedCellsAmount++;
+
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = cell.charAt(i);
+
+            if (c == INVERTED_COMMA) {
+                // Inverted comma is written at end of this part and at start of the next part
+                writeChars(cell, start, i + 1);
+                start = i;
+            } else if ((c == '\n') || (c == '\r')) {
+                isMultilineRecord = true;
+            }
+        }
+
+        writeChars(cell, start, length);
+        writeChar(INVERTED_COMMA);
+    }
+
+    private boolean isInvertedCommasNeeded(String cell, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = cell.charAt(i);
+
+            if ((c == INVERTED_COMMA) || (c == '\n') || (c == '\r') || (c == cellsSplitter)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void writeChar(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+
+        buffer[position++] = c;
+    }
+
+    private void writeChars(String value, int start, int end) throws IOException {
+        if (end - start > buffer.length - position) {
+            flushBuffer();
+
+            if (end - start > buffer.length) {
+                writeToWriter(value, start, end);
+                return;
+            }
+        }
+
+        value.getChars(start, end, buffer, position);
+        position += end - start;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position == 0) {
+            return;
+        }
+
+        if (metricsListener == null) {
+            writer.write(buffer, 0, position);
+        } else {
+            long start = System.nanoTime();
+            writer.write(buffer, 0, position);
+            recordWriteNanos(System.nanoTime() - start);
+        }
+
+        position = 0;
+    }
+
+    private void writeToWriter(String value, int start, int end) throws IOException {
+        if (metricsListener == null) {
+            writer.write(value, start, end - start);
+            return;
+        }
+
+        long writeStart = System.nanoTime();
+        writer.write(value, start, end - start);
+        recordWriteNanos(System.nanoTime() - writeStart);
+    }
+
+    private void recordWriteNanos(long nanos) {
+        writeNanos += nanos;
+        metricsListener.onPhase(CsvPhaseEnum.IO, nanos);
+    }
+}
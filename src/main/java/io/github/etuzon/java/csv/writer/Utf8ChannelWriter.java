@@ -0,0 +1,277 @@
+package io.github.etuzon.java.csv.writer;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*************************************************
+ * UTF-8 file channel writer.
+ * <p>
+ * Writer encode chars to UTF-8 straight into a reusable bytes buffer,
+ * and write the buffer to the file via {@link FileChannel}, without charset encoder.
+ * ASCII chars are copied as single bytes in a tight loop.
+ * Unpaired surrogate is written as '?', same as {@link java.io.OutputStreamWriter}.
+ * <p>
+ * In memory mapped mode the buffer is copied to memory mapped file regions,
+ * that are mapped segment after segment. Mapped segment grow the file to the segment end.
+ * File can be preallocated, so the file system reserve its size in advance.
+ * File is truncated to the written size when writer is closed, after the last segment is forced
+ * to the storage device. Platforms that not allow to truncate a mapped file may fail to close
+ * a memory mapped file.
+ *
+ * @author Eyal Tuzon
+ *
+ */
+public class Utf8ChannelWriter extends Writer {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 26;
+
+    private static final int UTF8_MAX_CHAR_SIZE = 4;
+    private static final byte REPLACEMENT_BYTE = '?';
+
+    private final FileChannel channel;
+    private final boolean isMemoryMapped;
+    private final long segmentSize;
+    private final byte[] bytes;
+    private final ByteBuffer bytesBuffer;
+
+    private int position = 0;
+    private long filePosition = 0;
+    private char highSurrogate = 0;
+    private MappedByteBuffer segment = null;
+    private boolean isClosed = false;
+
+    /*********************************
+     * Constructor.
+     *
+     * @param channel File channel, that is open for write. Channel is closed when writer is closed.
+     * @param bufferSize Bytes buffer size.
+     * @param isMemoryMapped true in case bytes are written to memory mapped file regions,
+     *        false in case bytes are written via the channel.
+     * @param segmentSize Size in bytes of each memory mapped file region.
+     */
+    public Utf8ChannelWriter(FileChannel channel, int bufferSize, boolean isMemoryMapped, long segmentSize) {
+        this.channel = channel;
+        this.isMemoryMapped = isMemoryMapped;
+        this.segmentSize = segmentSize;
+        this.bytes = new byte[Math.max(bufferSize, UTF8_MAX_CHAR_SIZE)];
+        this.bytesBuffer = ByteBuffer.wrap(bytes);
+    }
+
+    /*********************************
+     * Create file and open writer.
+     * <p>
+     * In case the file already exists than the file will be overwritten.
+     *
+     * @param path File path.
+     * @param bufferSize Bytes buffer size.
+     * @param isMemoryMapped true in case bytes are written to memory mapped file regions.
+     * @param preallocateSize File size in bytes that is allocated when file is created. 0 in case not preallocate.
+     * @return UTF-8 file channel writer.
+     * @throws IOException in case fail create file.
+     */
+    public static Utf8ChannelWriter open(
+            String path, int bufferSize, boolean isMemoryMapped, long preallocateSize) throws IOException {
+
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+
+        try {
+            file.setLength(preallocateSize);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+
+        return new Utf8ChannelWriter(file.getChannel(), bufferSize, isMemoryMapped, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /*********************************
+     * Write chars.
+     *
+     * @param chars Chars buffer.
+     * @param offset Start position in chars buffer.
+     * @param length Amount of chars to write.
+     * @throws IOException in case writer is closed, or fail write to the file.
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        validateNotClosed();
+
+        int i = offset;
+        int end = offset + length;
+
+        if ((highSurrogate != 0) && (i < end)) {
+            ensureCharSpace();
+            i = writeLowSurrogate(chars[i], i);
+        }
+
+        while (i < end) {
+            int asciiEnd = Math.min(end, i + bytes.length - position);
+
+            while ((i < asciiEnd) && (chars[i] < 0x80)) {
+                bytes[position++] = (byte) chars[i++];
+            }
+
+            if (i == end) {
+                break;
+            }
+
+            if (bytes.length - position < UTF8_MAX_CHAR_SIZE) {
+                flushBytes();
+            } else {
+                i = writeNonAscii(chars, i, end);
+            }
+        }
+    }
+
+    /*********************************
+     * Get amount of bytes that were written, include buffered bytes.
+     *
+     * @return Bytes amount.
+     */
+    public long getBytesAmount() {
+        return filePosition + position;
+    }
+
+    /*********************************
+     * Write buffered bytes to the file.
+     *
+     * @throws IOException in case writer is closed, or fail write to the file.
+     */
+    @Override
+    public void flush() throws IOException {
+        validateNotClosed();
+        flushBytes();
+    }
+
+    /*********************************
+     * Write buffered bytes, truncate the file to the written size and close it.
+     *
+     * @throws IOException in case fail write to the file or close it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCharSpace();
+                bytes[position++] = REPLACEMENT_BYTE;
+            }
+
+            flushBytes();
+            forceSegment();
+            segment = null;
+
+            if (channel.size() > filePosition) {
+                channel.truncate(filePosition);
+            }
+        } finally {
+            isClosed = true;
+            channel.close();
+        }
+    }
+
+    private int writeNonAscii(char[] chars, int i, int end) {
+        char c = chars[i];
+
+        if (c < 0x800) {
+            bytes[position++] = (byte) (0xC0 | (c >> 6));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            bytes[position++] = (byte) (0xE0 | (c >> 12));
+            bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            if (i + 1 == end) {
+                // Low surrogate is in the next write
+                highSurrogate = c;
+                return end;
+            }
+
+            highSurrogate = c;
+            return writeLowSurrogate(chars[i + 1], i + 1);
+        } else {
+            bytes[position++] = REPLACEMENT_BYTE;
+        }
+
+        return i + 1;
+    }
+
+    private int writeLowSurrogate(char c, int i) {
+        char high = highSurrogate;
+        highSurrogate = 0;
+
+        if (!Character.isLowSurrogate(c)) {
+            // Char after unpaired high surrogate is written by the caller
+            bytes[position++] = REPLACEMENT_BYTE;
+            return i;
+        }
+
+        int codePoint = Character.toCodePoint(high, c);
+        bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+        bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+
+        return i + 1;
+    }
+
+    private void ensureCharSpace() throws IOException {
+        if (bytes.length - position < UTF8_MAX_CHAR_SIZE) {
+            flushBytes();
+        }
+    }
+
+    private void flushBytes() throws IOException {
+        if (position == 0) {
+            return;
+        }
+
+        if (isMemoryMapped) {
+            copyToSegments();
+        } else {
+            bytesBuffer.clear().limit(position);
+
+            while (bytesBuffer.hasRemaining()) {
+                channel.write(bytesBuffer);
+            }
+        }
+
+        filePosition += position;
+        position = 0;
+    }
+
+    private void copyToSegments() throws IOException {
+        int offset = 0;
+
+        while (offset < position) {
+            if ((segment == null) || (!segment.hasRemaining())) {
+                segment = channel.map(
+                        FileChannel.MapMode.READ_WRITE, filePosition + offset, segmentSize);
+            }
+
+            int length = Math.min(position - offset, segment.remaining());
+            segment.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void forceSegment() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    private void validateNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("Writer already been closed");
+        }
+    }
+}
@@ -68,7 +68,7 @@ public abstract class CsvApiTestBase extends BaseUnitTest {
         }
     }
 
-    private void verifyCsvBody(
+    protected void verifyCsvBody(
             CsvReaderApi csv,
             String[][] expectedBody,
             GetRowEnum getRowEnum) throws AutomationUnitTestException {
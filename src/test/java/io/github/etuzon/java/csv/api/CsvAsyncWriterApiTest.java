@@ -0,0 +1,236 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.FileOutputEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.metrics.CsvMetrics;
+import io.github.etuzon.java.csv.metrics.CsvRecordsStats;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.projects.core.utils.ListUtil;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvAsyncWriterApiTest extends CsvApiTestBase implements TestParameters {
+    public static final String DIR_PATH = "src/test/resources/createAsyncCsv/";
+
+    public static final String CSV_PATH = DIR_PATH + "tempCsv.csv";
+
+    public static final int PRODUCERS_AMOUNT = 4;
+    public static final int ROWS_PER_PRODUCER = 5000;
+    public static final int SMALL_QUEUE_CAPACITY = 2;
+    public static final int SMALL_BUFFER_SIZE = 16;
+
+    @BeforeClass
+    public void beforeClass() {
+        File dirPath = new File(DIR_PATH);
+        dirPath.mkdirs();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        new File(CSV_PATH).delete();
+    }
+
+    @Test
+    public void create_complex_csv_test() throws AutomationUnitTestException {
+        try (CsvAsyncWriterApi csv = new CsvAsyncWriterApi(
+                CSV_PATH, CellsSplitterEnum.COMMA.getChar(), SMALL_QUEUE_CAPACITY, SMALL_BUFFER_SIZE)) {
+            csv.setHeaders(ListUtil.asList(COMPLEX_CSV_HEADERS));
+
+            for (String[] row : COMPLEX_CSV_BODY) {
+                csv.addRow(ListUtil.asList(row));
+            }
+        } catch (IOException | InvalidValueException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        verifyCsv(CSV_PATH, COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+    }
+
+    @Test
+    public void create_complex_csv_with_config_test() throws AutomationUnitTestException {
+        CsvMetrics metrics = new CsvMetrics();
+
+        for (FileOutputEnum fileOutput : FileOutputEnum.values()) {
+            metrics.reset();
+
+            try (CsvAsyncWriterApi csv = new CsvAsyncWriterApi(CSV_PATH, new CsvWriterConfig()
+                    .setFileOutput(fileOutput)
+                    .setBufferSize(SMALL_BUFFER_SIZE)
+                    .setMetricsListener(metrics), SMALL_QUEUE_CAPACITY)) {
+
+                csv.setHeaders(ListUtil.asList(COMPLEX_CSV_HEADERS));
+
+                for (String[] row : COMPLEX_CSV_BODY) {
+                    csv.addRow(ListUtil.asList(row));
+                }
+            } catch (IOException | InvalidValueException | CsvOperationException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            verifyCsv(CSV_PATH, COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+
+            CsvRecordsStats stats = metrics.getWriteStats();
+            long fileSize = new File(CSV_PATH).length();
+
+            SoftAssertUnitTest.assertTrue(
+                    (stats.getBytesAmount() == fileSize) && (stats.getRecordsAmount() == COMPLEX_CSV_BODY.length + 1),
+                    "Write metrics of file output [" + fileOutput + "] are " + stats
+                            + ", and should have bytes amount [" + fileSize
+                            + "] and records amount [" + (COMPLEX_CSV_BODY.length + 1) + "]",
+                    "Verify write metrics of file output [" + fileOutput + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void add_rows_from_multiple_producers_test() throws AutomationUnitTestException {
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS_AMOUNT);
+        Set<List<String>> expectedRows = new HashSet<>();
+
+        try (CsvAsyncWriterApi csv = new CsvAsyncWriterApi(CSV_PATH)) {
+            csv.setHeaders(Arrays.asList("producer", "row"));
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < PRODUCERS_AMOUNT; i++) {
+                String producer = String.valueOf(i);
+
+                for (int j = 0; j < ROWS_PER_PRODUCER; j++) {
+                    expectedRows.add(Arrays.asList(producer, String.valueOf(j)));
+                }
+
+                futures.add(producers.submit(() -> {
+                    for (int j = 0; j < ROWS_PER_PRODUCER; j++) {
+                        csv.addRow(Arrays.asList(producer, String.valueOf(j)));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            csv.close();
+
+            SoftAssertUnitTest.assertTrue(
+                    csv.getCompletion().get() == PRODUCERS_AMOUNT * ROWS_PER_PRODUCER,
+                    "Completion rows amount is [" + csv.getCompletion().get()
+                            + "] and should be [" + PRODUCERS_AMOUNT * ROWS_PER_PRODUCER + "]",
+                    "Verify that completion rows amount is [" + PRODUCERS_AMOUNT * ROWS_PER_PRODUCER + "]");
+
+            List<List<String>> rows = new CsvReaderApi(CSV_PATH).getRows();
+            SoftAssertUnitTest.assertTrue(
+                    (rows.size() == expectedRows.size()) && (new HashSet<>(rows).equals(expectedRows)),
+                    "CSV rows are different from the rows that were added by producers",
+                    "Verify that CSV rows are the rows that were added by producers");
+        } catch (IOException | InvalidValueException | CsvOperationException | ExecutionException e) {
+            throw new AutomationUnitTestException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AutomationUnitTestException(e);
+        } finally {
+            producers.shutdown();
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void encoding_failure_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+        CsvAsyncWriterApi csv = null;
+
+        try {
+            csv = new CsvAsyncWriterApi(CSV_PATH);
+            csv.addRow(Arrays.asList("a", null));
+            csv.close();
+        } catch (IOException e) {
+            isException = true;
+        } catch (InvalidValueException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                isException,
+                "close after encoding failure should throw IOException",
+                "Verify that close after encoding failure throw IOException");
+        SoftAssertUnitTest.assertTrue(
+                (csv != null) && (csv.getCompletion().isCompletedExceptionally()),
+                "Completion should be completed exceptionally after encoding failure",
+                "Verify that completion is completed exceptionally after encoding failure");
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void add_row_after_close_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvAsyncWriterApi csv = new CsvAsyncWriterApi(CSV_PATH);
+            csv.close();
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+        } catch (CsvOperationException e) {
+            isException = true;
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "addRow after close should throw CsvOperationException",
+                "Verify that addRow after close throw CsvOperationException");
+    }
+
+    @Test
+    public void not_positive_sizes_negative_test() throws AutomationUnitTestException {
+        int[][] sizes = { { 0, SMALL_BUFFER_SIZE }, { SMALL_QUEUE_CAPACITY, 0 }, { SMALL_QUEUE_CAPACITY, -1 } };
+
+        for (int[] size : sizes) {
+            boolean isException = false;
+
+            try (CsvAsyncWriterApi csv = new CsvAsyncWriterApi(
+                    CSV_PATH, CellsSplitterEnum.COMMA.getChar(), size[0], size[1])) {
+                csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+            } catch (InvalidValueException e) {
+                isException = true;
+            } catch (IOException | CsvOperationException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            String description = "queue capacity [" + size[0] + "] and buffer size [" + size[1] + "]";
+            SoftAssertUnitTest.assertTrue(
+                    isException && (!new File(CSV_PATH).exists()),
+                    "InvalidValueException should be thrown before CSV file is created with " + description,
+                    "Verify that InvalidValueException is thrown before CSV file is created with " + description);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.RowsOrderEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.projects.core.utils.ListUtil;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvConcurrentWriterApiTest extends CsvApiTestBase implements TestParameters {
+    public static final String DIR_PATH = "src/test/resources/createConcurrentCsv/";
+
+    public static final String CSV_PATH = DIR_PATH + "tempCsv.csv";
+
+    public static final int PRODUCERS_AMOUNT = 4;
+    public static final int ROWS_PER_PRODUCER = 5000;
+
+    @BeforeClass
+    public void beforeClass() {
+        File dirPath = new File(DIR_PATH);
+        dirPath.mkdirs();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        new File(CSV_PATH).delete();
+    }
+
+    @Test
+    public void create_complex_csv_test() throws AutomationUnitTestException {
+        try {
+            CsvConcurrentWriterApi csv = new CsvConcurrentWriterApi(CSV_PATH, RowsOrderEnum.ORDERED);
+            csv.setHeaders(ListUtil.asList(COMPLEX_CSV_HEADERS));
+
+            for (String[] row : COMPLEX_CSV_BODY) {
+                csv.addRow(ListUtil.asList(row));
+            }
+
+            csv.save();
+        } catch (IOException | InvalidValueException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        verifyCsv(CSV_PATH, COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+    }
+
+    @Test
+    public void add_rows_from_multiple_producers_ordered_test() throws AutomationUnitTestException {
+        AtomicInteger counter = new AtomicInteger();
+        CsvConcurrentWriterApi csv = new CsvConcurrentWriterApi(CSV_PATH, RowsOrderEnum.ORDERED);
+
+        // Counter and addRow are synchronized only for the test, so rows are added in counter order
+        addRowsFromProducers(csv, () -> {
+            synchronized (counter) {
+                csv.addRow(Arrays.asList(String.valueOf(counter.getAndIncrement()), "value"));
+            }
+        });
+
+        try {
+            List<List<String>> rows = new CsvReaderApi(CSV_PATH).getRows();
+            boolean isOrdered = rows.size() == PRODUCERS_AMOUNT * ROWS_PER_PRODUCER;
+
+            for (int i = 0; (isOrdered) && (i < rows.size()); i++) {
+                isOrdered = rows.get(i).get(0).equals(String.valueOf(i));
+            }
+
+            SoftAssertUnitTest.assertTrueNow(
+                    isOrdered,
+                    "CSV rows are not in the order they were added by producers",
+                    "Verify that CSV rows are in the order they were added by producers");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void add_rows_from_multiple_producers_unordered_test() throws AutomationUnitTestException {
+        AtomicInteger counter = new AtomicInteger();
+        Set<List<String>> expectedRows = new HashSet<>();
+        CsvConcurrentWriterApi csv = new CsvConcurrentWriterApi(CSV_PATH, RowsOrderEnum.UNORDERED);
+
+        for (int i = 0; i < PRODUCERS_AMOUNT * ROWS_PER_PRODUCER; i++) {
+            expectedRows.add(Arrays.asList(String.valueOf(i), "value"));
+        }
+
+        addRowsFromProducers(
+                csv, () -> csv.addRow(Arrays.asList(String.valueOf(counter.getAndIncrement()), "value")));
+
+        try {
+            List<List<String>> rows = new CsvReaderApi(CSV_PATH).getRows();
+            SoftAssertUnitTest.assertTrueNow(
+                    (rows.size() == expectedRows.size()) && (new HashSet<>(rows).equals(expectedRows)),
+                    "CSV rows are different from the rows that were added by producers",
+                    "Verify that CSV rows are the rows that were added by producers");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void add_row_with_different_size_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvConcurrentWriterApi csv = new CsvConcurrentWriterApi(CSV_PATH, RowsOrderEnum.UNORDERED);
+            csv.setHeaders(ListUtil.asList(DEFAULT_CSV_HEADERS));
+            csv.addRow(ListUtil.asList(COMPLEX_CSV_BODY[0]));
+        } catch (InvalidValueException e) {
+            isException = true;
+        } catch (CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "addRow with row size that is different from headers amount should throw InvalidValueException",
+                "Verify that addRow with row size that is different from headers amount throw InvalidValueException");
+    }
+
+    @Test
+    public void add_row_after_save_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvConcurrentWriterApi csv = new CsvConcurrentWriterApi(CSV_PATH, RowsOrderEnum.ORDERED);
+            csv.save();
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+        } catch (CsvOperationException e) {
+            isException = true;
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "addRow after save should throw CsvOperationException",
+                "Verify that addRow after save throw CsvOperationException");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private void addRowsFromProducers(
+            CsvConcurrentWriterApi csv, RowProducer producer) throws AutomationUnitTestException {
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS_AMOUNT);
+
+        try {
+            csv.setHeaders(Arrays.asList("id", "value"));
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < PRODUCERS_AMOUNT; i++) {
+                futures.add(producers.submit(() -> {
+                    for (int j = 0; j < ROWS_PER_PRODUCER; j++) {
+                        producer.addRow();
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            SoftAssertUnitTest.assertTrueNow(
+                    csv.getRowsAmount() == PRODUCERS_AMOUNT * ROWS_PER_PRODUCER,
+                    "Rows amount is [" + csv.getRowsAmount()
+                            + "] and should be [" + PRODUCERS_AMOUNT * ROWS_PER_PRODUCER + "]",
+                    "Verify that rows amount is [" + PRODUCERS_AMOUNT * ROWS_PER_PRODUCER + "]");
+
+            csv.save();
+        } catch (IOException | InvalidValueException | CsvOperationException | ExecutionException e) {
+            throw new AutomationUnitTestException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AutomationUnitTestException(e);
+        } finally {
+            producers.shutdown();
+        }
+    }
+
+    /*********************************************
+     * Add one row to the CSV writer.
+     */
+    private interface RowProducer {
+        void addRow() throws InvalidValueException, CsvOperationException;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.index.CsvRowOffsetIndex;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvRandomAccessReaderApiTest extends CsvApiTestBase {
+    public static final String DIR_PATH = "src/test/resources/createCsv/";
+    public static final String CSV_PATH = DIR_PATH + "randomAccessCsv.csv";
+
+    public static final List<String> HEADERS = Arrays.asList("id", "name", "comment");
+    public static final int ROWS_AMOUNT = 500;
+    public static final int INDEX_STEP = 16;
+
+    private List<List<String>> rows = new ArrayList<>();
+
+    @BeforeClass
+    public void beforeClass() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+        rows = createRows();
+
+        try {
+            Files.deleteIfExists(Paths.get(CsvRowOffsetIndex.getSidecarPath(CSV_PATH)));
+
+            CsvWriterApi csvWriter = new CsvWriterApi(CSV_PATH);
+            csvWriter.setHeaders(HEADERS);
+            csvWriter.addRows(rows);
+            csvWriter.save();
+        } catch (IOException | CsvOperationException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void get_rows_by_index_test() throws AutomationUnitTestException {
+        try (CsvRandomAccessReaderApi csv = new CsvRandomAccessReaderApi(
+                CSV_PATH, new CsvReaderConfig(), INDEX_STEP)) {
+
+            SoftAssertUnitTest.assertTrue(
+                    csv.getHeaderList().equals(HEADERS),
+                    "Headers " + csv.getHeaderList() + " should be " + HEADERS,
+                    "Verify headers " + HEADERS);
+            SoftAssertUnitTest.assertTrue(
+                    csv.getRowsAmount() == ROWS_AMOUNT,
+                    "Rows amount is [" + csv.getRowsAmount() + "] and should be [" + ROWS_AMOUNT + "]",
+                    "Verify that rows amount is [" + ROWS_AMOUNT + "]");
+
+            // Rows are read in reverse order, so each row is read by seeking
+            for (int i = ROWS_AMOUNT - 1; i >= 0; i--) {
+                List<String> row = csv.getRow(i);
+
+                SoftAssertUnitTest.assertTrue(
+                        rows.get(i).equals(row),
+                        "Row [" + i + "] is " + row + " and should be " + rows.get(i),
+                        "Verify row [" + i + "]");
+            }
+
+            List<List<String>> rangeRows = csv.getRows(INDEX_STEP - 3, INDEX_STEP * 2);
+
+            SoftAssertUnitTest.assertTrue(
+                    rangeRows.equals(rows.subList(INDEX_STEP - 3, INDEX_STEP * 3 - 3)),
+                    "Rows range that cross indexed records is different from the written rows",
+                    "Verify rows range that cross indexed records");
+            SoftAssertUnitTest.assertTrue(
+                    csv.getRows(ROWS_AMOUNT - 2, 10).size() == 2,
+                    "Rows range at the end of CSV file should contain only the remaining rows",
+                    "Verify that rows range at the end of CSV file contain only the remaining rows");
+            SoftAssertUnitTest.assertTrue(
+                    csv.getCell(7, "comment").equals(rows.get(7).get(2)),
+                    "Cell [" + csv.getCell(7, "comment") + "] should be [" + rows.get(7).get(2) + "]",
+                    "Verify cell by row index and header name");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                new File(CsvRowOffsetIndex.getSidecarPath(CSV_PATH)).isFile(),
+                "Sidecar index file should be saved",
+                "Verify that sidecar index file is saved");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void get_projected_rows_by_index_test() throws AutomationUnitTestException {
+        try (CsvRandomAccessReaderApi csv = new CsvRandomAccessReaderApi(
+                CSV_PATH, new CsvReaderConfig().setProjectionHeaders("comment", "id"))) {
+
+            SoftAssertUnitTest.assertTrue(
+                    csv.getHeaderList().equals(Arrays.asList("comment", "id")),
+                    "Projected headers " + csv.getHeaderList() + " should be [comment, id]",
+                    "Verify projected headers [comment, id]");
+
+            List<String> row = csv.getRow(100);
+            List<String> expectedRow = Arrays.asList(rows.get(100).get(2), rows.get(100).get(0));
+
+            SoftAssertUnitTest.assertTrue(
+                    expectedRow.equals(row),
+                    "Projected row is " + row + " and should be " + expectedRow,
+                    "Verify projected row");
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void get_row_out_of_bound_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvRandomAccessReaderApi csv = new CsvRandomAccessReaderApi(CSV_PATH)) {
+            csv.getRow(ROWS_AMOUNT);
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when row index is out of bound",
+                "Verify that exception appear when row index is out of bound");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(CsvRowOffsetIndex.getSidecarPath(CSV_PATH)).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private List<List<String>> createRows() {
+        List<List<String>> rows = new ArrayList<>();
+
+        for (int i = 0; i < ROWS_AMOUNT; i++) {
+            String comment = i % 3 == 0
+                    ? "multiline\ncomment, with \"quotes\" " + i
+                    : "comment " + i;
+            rows.add(Arrays.asList(String.valueOf(i), "name ñ€ " + i, comment));
+        }
+
+        return rows;
+    }
+}
@@ -1,11 +1,20 @@
 package io.github.etuzon.java.csv.api;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.java.csv.enums.FileInputEnum;
+import io.github.etuzon.java.csv.enums.RowsStorageEnum;
+import io.github.etuzon.java.csv.exceptions.CsvSizeLimitException;
+import io.github.etuzon.java.csv.metrics.CsvMetrics;
+import io.github.etuzon.java.csv.metrics.CsvRecordsStats;
 import io.github.etuzon.projects.core.expections.InvalidValueException;
 import io.github.etuzon.projects.core.utils.ListUtil;
 import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
@@ -22,6 +31,15 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 	public static final String TAB_SEPARATOR_CSV_FILE_PATH = DIR_PATH + "tabSeparator.csv";
     public static final String DEFAULT_CSV_FILE_WITHOUT_HEADERS_PATH =
 			DIR_PATH + "defaultFileWithoutHeaders.csv";
+	public static final String TYPED_CSV_FILE_PATH = DIR_PATH + "typedFile.csv";
+	public static final String DICTIONARY_CSV_FILE_PATH = DIR_PATH + "dictionaryFile.csv";
+
+	public static final int[] TYPED_CSV_INT_COLUMN = { 1, -2, 0 };
+	public static final long[] TYPED_CSV_LONG_COLUMN = { 10000000000L, -3, Long.MAX_VALUE };
+	public static final double[] TYPED_CSV_DOUBLE_COLUMN = { 1.5, 2000, -0.25 };
+	public static final boolean[] TYPED_CSV_BOOLEAN_COLUMN = { true, false, false };
+	public static final int EMPTY_CELL_VALUE = -1;
+	public static final int[] TYPED_CSV_OPTIONAL_COLUMN = { 5, EMPTY_CELL_VALUE, 7 };
 
 	public static final String HEADER_NOT_EXIST = "Header Not Exist";
 	public static final String CELL_NOT_EXIST = "Cell Not Exist";
@@ -71,6 +89,150 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 		verifyCsv(COMPLEX_CSV_FILE_PATH, COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
 	}
 
+	@Test
+	public void verify_cells_values_from_complex_csv_file_via_memory_mapped_file_test()
+			throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					COMPLEX_CSV_FILE_PATH, new CsvReaderConfig().setFileInput(FileInputEnum.MEMORY_MAPPED));
+			verifyCsvHeaders(csv, COMPLEX_CSV_HEADERS);
+			verifyCsvBody(csv, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_cells_values_from_complex_csv_file_via_parallel_parsing_test()
+			throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					COMPLEX_CSV_FILE_PATH, new CsvReaderConfig().setParallelism(4));
+			verifyCsvHeaders(csv, COMPLEX_CSV_HEADERS);
+			verifyCsvBody(csv, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_metrics_of_complex_csv_file_test() throws AutomationUnitTestException {
+		verifyComplexCsvMetrics(new CsvReaderConfig());
+	}
+
+	@Test
+	public void verify_metrics_of_complex_csv_file_via_parallel_parsing_test() throws AutomationUnitTestException {
+		try {
+			verifyComplexCsvMetrics(new CsvReaderConfig().setParallelism(4));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		}
+	}
+
+	@Test
+	public void verify_cells_values_from_complex_csv_file_via_columnar_storage_test()
+			throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					COMPLEX_CSV_FILE_PATH, new CsvReaderConfig().setRowsStorage(RowsStorageEnum.COLUMNAR));
+			verifyCsvHeaders(csv, COMPLEX_CSV_HEADERS);
+			verifyCsvBody(csv, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_cells_values_from_complex_csv_file_via_lazy_storage_test()
+			throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					COMPLEX_CSV_FILE_PATH, new CsvReaderConfig().setRowsStorage(RowsStorageEnum.LAZY));
+			verifyCsvHeaders(csv, COMPLEX_CSV_HEADERS);
+			verifyCsvBody(csv, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+
+			CsvReaderApi parallelCsv = new CsvReaderApi(
+					COMPLEX_CSV_FILE_PATH,
+					new CsvReaderConfig().setRowsStorage(RowsStorageEnum.LAZY).setParallelism(4));
+			verifyCsvBody(parallelCsv, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_typed_columns_via_lazy_storage_test() throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					TYPED_CSV_FILE_PATH, new CsvReaderConfig().setRowsStorage(RowsStorageEnum.LAZY));
+
+			verifyTypedColumn(csv, "long", Arrays.toString(csv.getLongColumn("long")),
+					Arrays.toString(TYPED_CSV_LONG_COLUMN));
+			verifyTypedColumn(csv, "optional", Arrays.toString(csv.getIntColumn("optional", EMPTY_CELL_VALUE)),
+					Arrays.toString(TYPED_CSV_OPTIONAL_COLUMN));
+			verifyTypedColumn(csv, "text", csv.getCellChars(1, csv.getColumnIndex("text")).toString(), "b");
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_getColumn_and_getCell_via_columnar_storage_test() throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					DEFAULT_CSV_FILE_PATH, new CsvReaderConfig().setRowsStorage(RowsStorageEnum.COLUMNAR));
+
+			for (int i = 0; i < DEFAULT_CSV_HEADERS.length; i++) {
+				verifyCsvColumn(csv, DEFAULT_CSV_HEADERS[i], DEFAULT_CSV_BODY, i);
+
+				for (int j = 0; j < DEFAULT_CSV_BODY.length; j++) {
+					String currentCell = csv.getCell(j, i);
+					SoftAssertUnitTest.assertTrue(
+							DEFAULT_CSV_BODY[j][i].equals(currentCell),
+							"Columnar CSV [" + csv.getPath() + "] getCell value of row index [" + j
+									+ "] and column index [" + i + "] is [" + currentCell
+									+ "] and should be [" + DEFAULT_CSV_BODY[j][i] + "]",
+							"Verify that columnar CSV [" + csv.getPath() + "] getCell value of row index ["
+									+ j + "] and column index [" + i + "] is [" + DEFAULT_CSV_BODY[j][i] + "]");
+				}
+			}
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void csv_file_not_found_via_memory_mapped_file_negative_test() throws AutomationUnitTestException {
+		final String path = "/dir/fileNotFound.csv";
+
+		boolean isException = false;
+
+		try {
+			new CsvReaderApi(path, new CsvReaderConfig().setFileInput(FileInputEnum.MEMORY_MAPPED));
+		} catch (IOException e) {
+			isException = true;
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"Exception should appear when trying to map file that not exist in path [" + path + "]",
+				"Verify that exception appear when trying to map file that not exist in path [" + path + "]");
+	}
+
 	@Test
 	public void verify_cells_values_from_tab_separator_csv_file_test() throws AutomationUnitTestException {
 		verifyCsv(TAB_SEPARATOR_CSV_FILE_PATH, DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, CellsSplitterEnum.TAB,
@@ -159,6 +321,67 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 		SoftAssertUnitTest.assertAll();
 	}
 
+	@Test
+	public void verify_getRowIndex_with_column_index_on_default_csv_test() throws AutomationUnitTestException {
+		CsvReaderApi csv = readCsvFile(DEFAULT_CSV_FILE_PATH);
+
+		for (String headerName : DEFAULT_CSV_HEADERS) {
+			csv.createColumnIndex(headerName);
+			SoftAssertUnitTest.assertTrue(
+					csv.isColumnIndexed(headerName),
+					"CSV [" + csv.getPath() + "] column [" + headerName + "] should be indexed",
+					"Verify that CSV [" + csv.getPath() + "] column [" + headerName + "] is indexed");
+		}
+
+		for (int i = 0; i < DEFAULT_CSV_BODY.length; i++) {
+			for (int j = 0; j < DEFAULT_CSV_BODY[i].length; j++) {
+				String headerName = DEFAULT_CSV_HEADERS[j];
+				String cell = DEFAULT_CSV_BODY[i][j];
+				int currentRowIndex = csv.getRowIndex(headerName, cell);
+				List<Integer> currentRowIndexes = csv.getRowIndexes(headerName, cell);
+				SoftAssertUnitTest.assertTrue(
+						currentRowIndex == i,
+						"Indexed row index in CSV [" + csv.getPath() + "] for header [" + headerName
+								+ "] and cell value [" + cell + "] is [" + currentRowIndex
+								+ "] and should be [" + i + "]",
+						"Verify that indexed row index in CSV [" + csv.getPath() + "] for header ["
+								+ headerName + "] and cell value [" + cell + "] is [" + i + "]");
+				SoftAssertUnitTest.assertTrue(
+						currentRowIndexes.equals(defaultCsv.getRowIndexes(headerName, cell)),
+						"Indexed row indexes in CSV [" + csv.getPath() + "] for header [" + headerName
+								+ "] and cell value [" + cell + "] are " + currentRowIndexes
+								+ " and should be " + defaultCsv.getRowIndexes(headerName, cell),
+						"Verify that indexed row indexes in CSV [" + csv.getPath() + "] for header ["
+								+ headerName + "] and cell value [" + cell + "] are same as without index");
+			}
+		}
+
+		SoftAssertUnitTest.assertTrue(
+				csv.getRowIndex(DEFAULT_CSV_HEADERS[0], CELL_NOT_EXIST) == -1,
+				"Indexed row index in CSV [" + csv.getPath() + "] for cell that not exist should be [-1]",
+				"Verify that indexed row index in CSV [" + csv.getPath() + "] for cell that not exist is [-1]");
+
+		SoftAssertUnitTest.assertAll();
+	}
+
+	@Test
+	public void createColumnIndex_with_header_not_exist_negative_test() {
+		boolean isException = false;
+
+		try {
+			defaultCsv.createColumnIndex(HEADER_NOT_EXIST);
+		} catch (IndexOutOfBoundsException e) {
+			isException = true;
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"createColumnIndex on CSV [" + defaultCsv.getPath() + "] with header ["
+						+ HEADER_NOT_EXIST + "] should throw IndexOutOfBoundsException",
+				"Verify that createColumnIndex on CSV [" + defaultCsv.getPath() + "] with header ["
+						+ HEADER_NOT_EXIST + "] throw IndexOutOfBoundsException");
+	}
+
 	@Test
 	public void verify_getRowsAmount_on_default_csv_test() throws AutomationUnitTestException {
 		SoftAssertUnitTest.assertTrueNow(
@@ -199,6 +422,256 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 		}
 	}
 
+	@Test
+	public void verify_getCell_on_default_csv_test() throws AutomationUnitTestException {
+		for (int i = 0; i < DEFAULT_CSV_BODY.length; i++) {
+			for (int j = 0; j < DEFAULT_CSV_BODY[i].length; j++) {
+				String currentCell = defaultCsv.getCell(i, j);
+				SoftAssertUnitTest.assertTrue(
+						DEFAULT_CSV_BODY[i][j].equals(currentCell),
+						"CSV [" + defaultCsv.getPath() + "] getCell value of row index [" + i
+								+ "] and column index [" + j + "] is [" + currentCell
+								+ "] and should be [" + DEFAULT_CSV_BODY[i][j] + "]",
+						"Verify that CSV [" + defaultCsv.getPath() + "] getCell value of row index ["
+								+ i + "] and column index [" + j + "] is [" + DEFAULT_CSV_BODY[i][j] + "]");
+			}
+		}
+
+		SoftAssertUnitTest.assertAll();
+	}
+
+	@Test
+	public void getCell_with_out_of_bound_column_index_negative_test() {
+		boolean isException = false;
+
+		try {
+			defaultCsv.getCell(0, DEFAULT_CSV_HEADERS.length);
+		} catch (IndexOutOfBoundsException e) {
+			isException = true;
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"getCell on CSV [" + defaultCsv.getPath()
+						+ "] with column index out of bound should throw IndexOutOfBoundsException",
+				"Verify that getCell on CSV [" + defaultCsv.getPath()
+						+ "] with column index out of bound throw IndexOutOfBoundsException");
+	}
+
+	@Test
+	public void verify_typed_columns_test() throws AutomationUnitTestException {
+		CsvReaderApi csv = readCsvFile(TYPED_CSV_FILE_PATH);
+
+		verifyTypedColumn(csv, "int", Arrays.toString(csv.getIntColumn("int")),
+				Arrays.toString(TYPED_CSV_INT_COLUMN));
+		verifyTypedColumn(csv, "long", Arrays.toString(csv.getLongColumn("long")),
+				Arrays.toString(TYPED_CSV_LONG_COLUMN));
+		verifyTypedColumn(csv, "double", Arrays.toString(csv.getDoubleColumn("double")),
+				Arrays.toString(TYPED_CSV_DOUBLE_COLUMN));
+		verifyTypedColumn(csv, "boolean", Arrays.toString(csv.getBooleanColumn("boolean")),
+				Arrays.toString(TYPED_CSV_BOOLEAN_COLUMN));
+		verifyTypedColumn(csv, "optional", Arrays.toString(csv.getIntColumn("optional", EMPTY_CELL_VALUE)),
+				Arrays.toString(TYPED_CSV_OPTIONAL_COLUMN));
+
+		SoftAssertUnitTest.assertAll();
+	}
+
+	@Test
+	public void typed_column_with_empty_cell_negative_test() throws AutomationUnitTestException {
+		CsvReaderApi csv = readCsvFile(TYPED_CSV_FILE_PATH);
+		boolean isException = false;
+
+		try {
+			csv.getIntColumn("optional");
+		} catch (NumberFormatException e) {
+			isException = true;
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"getIntColumn on CSV [" + csv.getPath() + "] column with empty cell should throw NumberFormatException",
+				"Verify that getIntColumn on CSV [" + csv.getPath()
+						+ "] column with empty cell throw NumberFormatException");
+	}
+
+	@Test
+	public void typed_column_with_invalid_cell_negative_test() throws AutomationUnitTestException {
+		CsvReaderApi csv = readCsvFile(TYPED_CSV_FILE_PATH);
+		String message = null;
+
+		try {
+			csv.getDoubleColumn("text");
+		} catch (NumberFormatException e) {
+			message = e.getMessage();
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				(message != null) && (message.contains("row index [0]")) && (message.contains("[text]")),
+				"getDoubleColumn on CSV [" + csv.getPath() + "] column with invalid cell should throw "
+						+ "NumberFormatException with cell location. Message is [" + message + "]",
+				"Verify that getDoubleColumn on CSV [" + csv.getPath()
+						+ "] column with invalid cell throw NumberFormatException with cell location");
+	}
+
+	@Test
+	public void verify_dictionary_columns_test() throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					DICTIONARY_CSV_FILE_PATH, new CsvReaderConfig().setDictionaryColumns("country"));
+			verifySharedCells(csv, "country", true);
+			verifySharedCells(csv, "status", false);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_dictionary_auto_detect_test() throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					DICTIONARY_CSV_FILE_PATH, new CsvReaderConfig().setDictionaryAutoDetect(true));
+			verifySharedCells(csv, "country", true);
+			verifySharedCells(csv, "status", true);
+		} catch (IOException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_dictionary_columns_via_parallel_parsing_test() throws AutomationUnitTestException {
+		try {
+			CsvReaderApi csv = new CsvReaderApi(
+					DICTIONARY_CSV_FILE_PATH,
+					new CsvReaderConfig().setParallelism(2).setDictionaryColumns("country"));
+			verifySharedCells(csv, "country", true);
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_column_predicate_by_header_test() throws AutomationUnitTestException {
+		try {
+			verifyPredicate(new CsvReaderConfig().addColumnPredicate("status", "open"::contentEquals));
+			verifyPredicate(new CsvReaderConfig()
+					.addColumnPredicate("status", "open"::contentEquals)
+					.setParallelism(4));
+			verifyPredicate(new CsvReaderConfig()
+					.addColumnPredicate("status", "open"::contentEquals)
+					.setRowsStorage(RowsStorageEnum.LAZY));
+			verifyPredicate(new CsvReaderConfig()
+					.addColumnPredicate("status", "open"::contentEquals)
+					.setProjectionHeaders("id"));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_column_predicate_by_column_index_test() throws AutomationUnitTestException {
+		try {
+			verifyPredicate(new CsvReaderConfig().addColumnPredicate(2, "open"::contentEquals));
+			verifyPredicate(new CsvReaderConfig()
+					.addColumnPredicate(2, "open"::contentEquals)
+					.setParallelism(4));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_row_predicate_test() throws AutomationUnitTestException {
+		try {
+			verifyPredicate(new CsvReaderConfig().setRowPredicate(row -> row.get(2).equals("open")));
+			verifyPredicate(new CsvReaderConfig()
+					.setRowPredicate(row -> row.get(2).equals("open"))
+					.setParallelism(4));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void column_predicate_with_header_not_exist_negative_test() throws AutomationUnitTestException {
+		boolean isException = false;
+
+		try {
+			new CsvReaderApi(
+					DICTIONARY_CSV_FILE_PATH,
+					new CsvReaderConfig().addColumnPredicate(HEADER_NOT_EXIST, "open"::contentEquals));
+		} catch (IndexOutOfBoundsException e) {
+			isException = true;
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"Column predicate of header that not exist should throw IndexOutOfBoundsException",
+				"Verify that column predicate of header that not exist throw IndexOutOfBoundsException");
+	}
+
+	@Test
+	public void verify_projection_by_headers_test() throws AutomationUnitTestException {
+		try {
+			verifyProjection(new CsvReaderConfig()
+					.setProjectionHeaders(COMPLEX_CSV_HEADERS[3], COMPLEX_CSV_HEADERS[1]));
+			verifyProjection(new CsvReaderConfig()
+					.setProjectionHeaders(COMPLEX_CSV_HEADERS[3], COMPLEX_CSV_HEADERS[1])
+					.setParallelism(4));
+			verifyProjection(new CsvReaderConfig()
+					.setProjectionHeaders(COMPLEX_CSV_HEADERS[3], COMPLEX_CSV_HEADERS[1])
+					.setRowsStorage(RowsStorageEnum.LAZY));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void verify_projection_by_column_indexes_test() throws AutomationUnitTestException {
+		try {
+			verifyProjection(new CsvReaderConfig().setProjectionColumns(3, 1));
+			verifyProjection(new CsvReaderConfig().setProjectionColumns(3, 1).setParallelism(4));
+		} catch (InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		} finally {
+			SoftAssertUnitTest.assertAll();
+		}
+	}
+
+	@Test
+	public void projection_with_header_not_exist_negative_test() throws AutomationUnitTestException {
+		boolean isException = false;
+
+		try {
+			new CsvReaderApi(
+					DEFAULT_CSV_FILE_PATH, new CsvReaderConfig().setProjectionHeaders(HEADER_NOT_EXIST));
+		} catch (IndexOutOfBoundsException e) {
+			isException = true;
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"Projection of header [" + HEADER_NOT_EXIST + "] should throw IndexOutOfBoundsException",
+				"Verify that projection of header [" + HEADER_NOT_EXIST + "] throw IndexOutOfBoundsException");
+	}
+
 	@Test
 	public void csv_file_not_found_negative_test() {
 		final String path = "/dir/fileNotFound.csv";
@@ -367,6 +840,27 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 						+ CELL_NOT_EXIST + "] is [-1]");
 	}
 
+	@Test
+	public void cell_exceed_max_cell_size_negative_test() throws AutomationUnitTestException {
+		final int MAX_CELL_SIZE = 5;
+		boolean isException = false;
+
+		try {
+			new CsvReaderApi(COMPLEX_CSV_FILE_PATH, new CsvReaderConfig().setMaxCellSize(MAX_CELL_SIZE));
+		} catch (CsvSizeLimitException e) {
+			isException = true;
+		} catch (IOException | InvalidValueException e) {
+			throw new AutomationUnitTestException(e);
+		}
+
+		SoftAssertUnitTest.assertTrueNow(
+				isException,
+				"Reading CSV [" + COMPLEX_CSV_FILE_PATH + "] with maximum cell size ["
+						+ MAX_CELL_SIZE + "] should throw CsvSizeLimitException",
+				"Verify that reading CSV [" + COMPLEX_CSV_FILE_PATH + "] with maximum cell size ["
+						+ MAX_CELL_SIZE + "] throw CsvSizeLimitException");
+	}
+
 	@Test
 	public void verify_default_csv_without_headers_test() throws AutomationUnitTestException {
         verifyCsvThatNotContainHeaders(
@@ -437,4 +931,108 @@ public class CsvReaderApiTest extends CsvApiTestBase implements TestParameters {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	private void verifyTypedColumn(CsvReaderApi csv, String headerName, String column, String expectedColumn) {
+		SoftAssertUnitTest.assertTrue(
+				column.equals(expectedColumn),
+				"CSV [" + csv.getPath() + "] typed column [" + headerName + "] is " + column
+						+ " and should be " + expectedColumn,
+				"Verify that CSV [" + csv.getPath() + "] typed column [" + headerName + "] is " + expectedColumn);
+	}
+
+	private void verifySharedCells(CsvReaderApi csv, String headerName, boolean isShared) {
+		// Rows 0 and 2 have the same cell values
+		String first = csv.getCell(0, csv.getColumnIndex(headerName));
+		String second = csv.getCell(2, csv.getColumnIndex(headerName));
+
+		SoftAssertUnitTest.assertTrue(
+				first.equals(second) && ((first == second) == isShared),
+				"CSV [" + csv.getPath() + "] repeated cells of column [" + headerName
+						+ "] share String instance should be [" + isShared + "]",
+				"Verify that CSV [" + csv.getPath() + "] repeated cells of column [" + headerName
+						+ "] share String instance is [" + isShared + "]");
+	}
+
+	private void verifyProjection(CsvReaderConfig config) throws AutomationUnitTestException {
+		String[] expectedHeaders = { COMPLEX_CSV_HEADERS[3], COMPLEX_CSV_HEADERS[1] };
+		String[][] expectedBody = new String[COMPLEX_CSV_BODY.length][];
+
+		for (int i = 0; i < COMPLEX_CSV_BODY.length; i++) {
+			expectedBody[i] = new String[] { COMPLEX_CSV_BODY[i][3], COMPLEX_CSV_BODY[i][1] };
+		}
+
+		try {
+			CsvReaderApi csv = new CsvReaderApi(COMPLEX_CSV_FILE_PATH, config);
+			verifyCsvHeaders(csv, expectedHeaders);
+			verifyCsvBody(csv, expectedBody, GetRowEnum.GET_ROWS);
+		} catch (IOException e) {
+			throw new AutomationUnitTestException(e);
+		}
+	}
+
+	private void verifyPredicate(CsvReaderConfig config) throws AutomationUnitTestException {
+		List<String> expectedIds = Arrays.asList("1", "3", "4");
+
+		try {
+			CsvReaderApi csv = new CsvReaderApi(DICTIONARY_CSV_FILE_PATH, config);
+			List<String> ids = csv.getColumn("id");
+			SoftAssertUnitTest.assertTrue(
+					ids.equals(expectedIds),
+					"Ids of rows that match predicate are " + ids + " and should be " + expectedIds,
+					"Verify that ids of rows that match predicate are " + expectedIds);
+		} catch (IOException e) {
+			throw new AutomationUnitTestException(e);
+		}
+	}
+
+	private void verifyComplexCsvMetrics(CsvReaderConfig config) throws AutomationUnitTestException {
+		CsvMetrics metrics = new CsvMetrics();
+
+		try {
+			new CsvReaderApi(COMPLEX_CSV_FILE_PATH, config.setMetricsListener(metrics));
+		} catch (IOException e) {
+			throw new AutomationUnitTestException(e);
+		}
+
+		CsvRecordsStats stats = metrics.getReadStats();
+		long fileSize = new File(COMPLEX_CSV_FILE_PATH).length();
+		int recordsAmount = COMPLEX_CSV_BODY.length + 1;
+
+		SoftAssertUnitTest.assertTrue(
+				stats.getBytesAmount() == fileSize,
+				"Read bytes amount is [" + stats.getBytesAmount() + "] and should be [" + fileSize + "]",
+				"Verify that read bytes amount is [" + fileSize + "]");
+		SoftAssertUnitTest.assertTrue(
+				stats.getRecordsAmount() == recordsAmount,
+				"Read records amount is [" + stats.getRecordsAmount() + "] and should be [" + recordsAmount + "]",
+				"Verify that read records amount is [" + recordsAmount + "]");
+		SoftAssertUnitTest.assertTrue(
+				stats.getCellsAmount() == recordsAmount * COMPLEX_CSV_HEADERS.length,
+				"Read cells amount is [" + stats.getCellsAmount() + "] and should be ["
+						+ recordsAmount * COMPLEX_CSV_HEADERS.length + "]",
+				"Verify that read cells amount is [" + recordsAmount * COMPLEX_CSV_HEADERS.length + "]");
+		SoftAssertUnitTest.assertTrue(
+				stats.getMultilineRecordsAmount() == recordsAmount,
+				"Read multiline records amount is [" + stats.getMultilineRecordsAmount()
+						+ "] and should be [" + recordsAmount + "]",
+				"Verify that read multiline records amount is [" + recordsAmount + "]");
+		SoftAssertUnitTest.assertTrue(
+				stats.getQuotedCellsAmount() == 9,
+				"Read quoted cells amount is [" + stats.getQuotedCellsAmount() + "] and should be [9]",
+				"Verify that read quoted cells amount is [9]");
+		SoftAssertUnitTest.assertTrue(
+				metrics.getHistogram(CsvPhaseEnum.MATERIALIZE).getCount() == recordsAmount,
+				"MATERIALIZE phase count is [" + metrics.getHistogram(CsvPhaseEnum.MATERIALIZE).getCount()
+						+ "] and should be [" + recordsAmount + "]",
+				"Verify that MATERIALIZE phase count is [" + recordsAmount + "]");
+
+		for (CsvPhaseEnum phase : new CsvPhaseEnum[] { CsvPhaseEnum.IO, CsvPhaseEnum.DECODE, CsvPhaseEnum.TOKENIZE }) {
+			SoftAssertUnitTest.assertTrue(
+					metrics.getHistogram(phase).getCount() > 0,
+					phase + " phase was not measured",
+					"Verify that " + phase + " phase was measured");
+		}
+
+		SoftAssertUnitTest.assertAll();
+	}
+}
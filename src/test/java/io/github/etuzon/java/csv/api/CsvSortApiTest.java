@@ -0,0 +1,153 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.SortTypeEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvSortApiTest extends CsvApiTestBase {
+    public static final String DIR_PATH = "src/test/resources/createCsv/";
+    public static final String CSV_PATH = DIR_PATH + "unsortedCsv.csv";
+    public static final String SORTED_CSV_PATH = DIR_PATH + "sortedCsv.csv";
+
+    public static final List<String> HEADERS = Arrays.asList("id", "city", "price", "comment");
+    public static final String[] CITIES = { "Tel Aviv", "Haifa", "Eilat", "Jerusalem" };
+    public static final int ROWS_AMOUNT = 2000;
+
+    private List<List<String>> rows = new ArrayList<>();
+
+    @BeforeClass
+    public void beforeClass() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+
+        for (int i = 0; i < ROWS_AMOUNT; i++) {
+            String comment = i % 5 == 0 ? "multiline,\n\"comment\" " + i : "comment " + i;
+            rows.add(Arrays.asList(
+                    String.valueOf(i), CITIES[(i * 7) % CITIES.length], String.valueOf((i * 13) % 50) + ".5", comment));
+        }
+
+        try {
+            CsvWriterApi csvWriter = new CsvWriterApi(CSV_PATH);
+            csvWriter.setHeaders(HEADERS);
+            csvWriter.addRows(rows);
+            csvWriter.save();
+        } catch (IOException | CsvOperationException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void sort_csv_by_multiple_keys_test() throws AutomationUnitTestException {
+        CsvSortApi csvSort;
+
+        try {
+            csvSort = new CsvSortApi(CSV_PATH, SORTED_CSV_PATH, new CsvSortConfig()
+                    .addSortKey("city")
+                    .addSortKey("price", SortTypeEnum.DOUBLE, true)
+                    .setMaxMemorySize(64 * 1024)
+                    .setParallelism(2)
+                    .setTempDirectory(DIR_PATH));
+            csvSort.sort();
+        } catch (IOException | CsvOperationException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        List<List<String>> expectedRows = new ArrayList<>(rows);
+        expectedRows.sort(Comparator
+                .comparing((List<String> row) -> row.get(1))
+                .thenComparing(row -> Double.valueOf(row.get(2)), Comparator.reverseOrder()));
+
+        CsvReaderApi csv = readCsvFile(SORTED_CSV_PATH);
+
+        SoftAssertUnitTest.assertTrue(
+                csv.getHeaderList().equals(HEADERS),
+                "Sorted CSV headers " + csv.getHeaderList() + " should be " + HEADERS,
+                "Verify sorted CSV headers " + HEADERS);
+        SoftAssertUnitTest.assertTrue(
+                csv.getRows().equals(expectedRows),
+                "Sorted CSV rows are different from expected stable sorted rows",
+                "Verify that CSV rows are sorted by city and by price in descending order");
+        SoftAssertUnitTest.assertTrue(
+                (csvSort.getRowsAmount() == ROWS_AMOUNT) && (csvSort.getRunsAmount() > 1),
+                "Sorted rows amount [" + csvSort.getRowsAmount() + "] should be [" + ROWS_AMOUNT
+                        + "], and runs amount [" + csvSort.getRunsAmount() + "] should be bigger than 1",
+                "Verify sorted rows amount and that runs were written to run files");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void sort_csv_without_sort_keys_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            new CsvSortApi(CSV_PATH, SORTED_CSV_PATH, new CsvSortConfig()).sort();
+        } catch (InvalidValueException e) {
+            isException = true;
+        } catch (IOException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when sort keys were not added",
+                "Verify that exception appear when sort keys were not added");
+    }
+
+    @Test
+    public void sort_csv_by_header_that_not_exist_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            new CsvSortApi(CSV_PATH, SORTED_CSV_PATH, new CsvSortConfig().addSortKey("not exist")).sort();
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        } catch (IOException | CsvOperationException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when sort header not exist",
+                "Verify that exception appear when sort header not exist");
+    }
+
+    @Test
+    public void sort_csv_twice_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvSortApi csvSort = new CsvSortApi(
+                    CSV_PATH, SORTED_CSV_PATH, new CsvSortConfig().addSortKey("id", SortTypeEnum.LONG, true));
+            csvSort.sort();
+            csvSort.sort();
+        } catch (CsvOperationException e) {
+            isException = true;
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when CSV file is sorted twice",
+                "Verify that exception appear when CSV file is sorted twice");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(SORTED_CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+}
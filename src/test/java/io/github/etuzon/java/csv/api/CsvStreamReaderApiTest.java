@@ -0,0 +1,245 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.projects.core.utils.ListUtil;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvStreamReaderApiTest extends CsvApiTestBase implements TestParameters {
+    @Test
+    public void verify_default_csv_iterator_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.DEFAULT_CSV_FILE_PATH)) {
+            verifyHeaders(csv, DEFAULT_CSV_HEADERS);
+            verifyRows(csv, readAllRows(csv), DEFAULT_CSV_BODY);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_complex_csv_stream_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.COMPLEX_CSV_FILE_PATH);
+                Stream<List<String>> stream = csv.stream()) {
+            verifyHeaders(csv, COMPLEX_CSV_HEADERS);
+            verifyRows(csv, stream.collect(Collectors.toList()), COMPLEX_CSV_BODY);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_tab_separator_csv_iterator_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(
+                CsvReaderApiTest.TAB_SEPARATOR_CSV_FILE_PATH, CellsSplitterEnum.TAB)) {
+            verifyHeaders(csv, DEFAULT_CSV_HEADERS);
+            verifyRows(csv, readAllRows(csv), DEFAULT_CSV_BODY);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_csv_without_headers_iterator_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(
+                CsvReaderApiTest.DEFAULT_CSV_FILE_WITHOUT_HEADERS_PATH, false)) {
+            verifyHeaders(csv, new String[] {});
+            verifyRows(csv, readAllRows(csv), DEFAULT_CSV_BODY);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_empty_csv_iterator_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.EMPTY_FILE_PATH)) {
+            verifyHeaders(csv, new String[] {});
+            SoftAssertUnitTest.assertTrueNow(
+                    !csv.hasNext(),
+                    "Empty CSV file [" + csv.getPath() + "] should not contain rows",
+                    "Verify that empty CSV file [" + csv.getPath() + "] not contain rows");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_typed_columns_read_test() throws AutomationUnitTestException {
+        verifyTypedColumn("int", csv -> Arrays.toString(csv.readIntColumn("int")),
+                Arrays.toString(CsvReaderApiTest.TYPED_CSV_INT_COLUMN));
+        verifyTypedColumn("long", csv -> Arrays.toString(csv.readLongColumn("long")),
+                Arrays.toString(CsvReaderApiTest.TYPED_CSV_LONG_COLUMN));
+        verifyTypedColumn("double", csv -> Arrays.toString(csv.readDoubleColumn("double")),
+                Arrays.toString(CsvReaderApiTest.TYPED_CSV_DOUBLE_COLUMN));
+        verifyTypedColumn("boolean", csv -> Arrays.toString(csv.readBooleanColumn("boolean")),
+                Arrays.toString(CsvReaderApiTest.TYPED_CSV_BOOLEAN_COLUMN));
+        verifyTypedColumn(
+                "optional",
+                csv -> Arrays.toString(csv.readIntColumn("optional", CsvReaderApiTest.EMPTY_CELL_VALUE)),
+                Arrays.toString(CsvReaderApiTest.TYPED_CSV_OPTIONAL_COLUMN));
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void verify_typed_column_read_after_hasNext_test() throws AutomationUnitTestException {
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.TYPED_CSV_FILE_PATH)) {
+            csv.hasNext();
+            String column = Arrays.toString(csv.readIntColumn("int"));
+            String expectedColumn = Arrays.toString(CsvReaderApiTest.TYPED_CSV_INT_COLUMN);
+
+            SoftAssertUnitTest.assertTrueNow(
+                    column.equals(expectedColumn) && !csv.hasNext(),
+                    "CSV [" + csv.getPath() + "] int column read after hasNext is " + column
+                    + " and should be " + expectedColumn,
+                    "Verify that CSV [" + csv.getPath() + "] int column read after hasNext is "
+                    + expectedColumn);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void typed_column_read_with_empty_cell_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.TYPED_CSV_FILE_PATH)) {
+            csv.readLongColumn("optional");
+        } catch (NumberFormatException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "readLongColumn of column with empty cell should throw NumberFormatException",
+                "Verify that readLongColumn of column with empty cell throw NumberFormatException");
+    }
+
+    @Test
+    public void verify_projection_iterator_test() throws AutomationUnitTestException {
+        String[][] expectedBody = new String[DEFAULT_CSV_BODY.length][];
+
+        for (int i = 0; i < DEFAULT_CSV_BODY.length; i++) {
+            expectedBody[i] = new String[] { DEFAULT_CSV_BODY[i][2], DEFAULT_CSV_BODY[i][0] };
+        }
+
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(
+                CsvReaderApiTest.DEFAULT_CSV_FILE_PATH,
+                new CsvReaderConfig().setProjectionHeaders(DEFAULT_CSV_HEADERS[2], DEFAULT_CSV_HEADERS[0]))) {
+            verifyHeaders(csv, new String[] { DEFAULT_CSV_HEADERS[2], DEFAULT_CSV_HEADERS[0] });
+            verifyRows(csv, readAllRows(csv), expectedBody);
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void verify_predicate_iterator_test() throws AutomationUnitTestException {
+        String[][] expectedBody = { { "1", "IL", "open" }, { "3", "IL", "open" } };
+
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(
+                CsvReaderApiTest.DICTIONARY_CSV_FILE_PATH,
+                new CsvReaderConfig()
+                        .addColumnPredicate("status", "open"::contentEquals)
+                        .setRowPredicate(row -> row.get(1).equals("IL")))) {
+            verifyRows(csv, readAllRows(csv), expectedBody);
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void next_after_last_row_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(
+                CsvReaderApiTest.CSV_FILE_CONTAINS_ONLY_HEADERS_PATH)) {
+            csv.next();
+        } catch (NoSuchElementException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "next() on CSV without rows should throw NoSuchElementException",
+                "Verify that next() on CSV without rows throw NoSuchElementException");
+    }
+
+    private List<List<String>> readAllRows(CsvStreamReaderApi csv) {
+        List<List<String>> rows = new ArrayList<>();
+
+        while (csv.hasNext()) {
+            rows.add(csv.next());
+        }
+
+        return rows;
+    }
+
+    private void verifyTypedColumn(
+            String headerName,
+            TypedColumnReader columnReader,
+            String expectedColumn) throws AutomationUnitTestException {
+
+        try (CsvStreamReaderApi csv = new CsvStreamReaderApi(CsvReaderApiTest.TYPED_CSV_FILE_PATH)) {
+            String column = columnReader.read(csv);
+            SoftAssertUnitTest.assertTrue(
+                    column.equals(expectedColumn),
+                    "CSV [" + csv.getPath() + "] typed column [" + headerName + "] is " + column
+                    + " and should be " + expectedColumn,
+                    "Verify that CSV [" + csv.getPath() + "] typed column [" + headerName + "] is "
+                    + expectedColumn);
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    private void verifyHeaders(CsvStreamReaderApi csv, String[] expectedHeaders) {
+        SoftAssertUnitTest.assertTrueNow(
+                csv.getHeaderList().equals(ListUtil.asList(expectedHeaders)),
+                "Headers of CSV [" + csv.getPath() + "] are ["
+                + ListUtil.getMultilineStringFromList(csv.getHeaderList()) + "] and should be ["
+                + ListUtil.getMultilineStringFromList(ListUtil.asList(expectedHeaders)) + "]",
+                "Verify headers of CSV [" + csv.getPath() + "]");
+    }
+
+    private void verifyRows(
+            CsvStreamReaderApi csv,
+            List<List<String>> rows,
+            String[][] expectedBody) {
+
+        if (SoftAssertUnitTest.assertTrue(
+                rows.size() == expectedBody.length,
+                "CSV [" + csv.getPath() + "] rows amount is [" + rows.size()
+                + "] and should be [" + expectedBody.length + "]")) {
+
+            for (int i = 0; i < expectedBody.length; i++) {
+                SoftAssertUnitTest.assertTrue(
+                        rows.get(i).equals(ListUtil.asList(expectedBody[i])),
+                        "Row in index [" + i + "] of CSV [" + csv.getPath() + "] is ["
+                        + rows.get(i) + "] and should be ["
+                        + ListUtil.asList(expectedBody[i]) + "]",
+                        "Verify row in index [" + i + "] of CSV [" + csv.getPath() + "]");
+            }
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private interface TypedColumnReader {
+        String read(CsvStreamReaderApi csv) throws IOException;
+    }
+}
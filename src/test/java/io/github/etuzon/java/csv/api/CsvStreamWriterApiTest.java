@@ -0,0 +1,150 @@
+package io.github.etuzon.java.csv.api;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.projects.core.utils.ListUtil;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvStreamWriterApiTest extends CsvApiTestBase implements TestParameters {
+    public static final String DIR_PATH = "src/test/resources/createStreamCsv/";
+
+    public static final String CSV_PATH = DIR_PATH + "tempCsv.csv";
+
+    @BeforeClass
+    public void beforeClass() {
+        File dirPath = new File(DIR_PATH);
+        dirPath.mkdirs();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        new File(CSV_PATH).delete();
+    }
+
+    @Test
+    public void create_default_csv_test() throws AutomationUnitTestException {
+        writeCsv(DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, CellsSplitterEnum.COMMA);
+        verifyCsv(CSV_PATH, DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, GetRowEnum.GET_ROWS);
+    }
+
+    @Test
+    public void create_complex_csv_test() throws AutomationUnitTestException {
+        writeCsv(COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, CellsSplitterEnum.COMMA);
+        verifyCsv(CSV_PATH, COMPLEX_CSV_HEADERS, COMPLEX_CSV_BODY, GetRowEnum.GET_ROWS);
+    }
+
+    @Test
+    public void create_default_csv_with_tab_as_separator_char_test() throws AutomationUnitTestException {
+        writeCsv(DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, CellsSplitterEnum.TAB);
+        verifyCsv(CSV_PATH, DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, CellsSplitterEnum.TAB, GetRowEnum.GET_ROWS);
+    }
+
+    @Test
+    public void flush_write_rows_to_file_test() throws AutomationUnitTestException {
+        try (CsvStreamWriterApi csv = new CsvStreamWriterApi(CSV_PATH)) {
+            csv.setHeaders(ListUtil.asList(DEFAULT_CSV_HEADERS));
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[1]));
+            csv.flush();
+
+            verifyCsv(CSV_PATH, DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, GetRowEnum.GET_ROWS);
+        } catch (IOException | InvalidValueException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void add_row_with_different_size_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvStreamWriterApi csv = new CsvStreamWriterApi(CSV_PATH)) {
+            csv.setHeaders(ListUtil.asList(DEFAULT_CSV_HEADERS));
+            csv.addRow(ListUtil.asList(COMPLEX_CSV_BODY[0]));
+        } catch (InvalidValueException e) {
+            isException = true;
+        } catch (IOException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "addRow with row size that is different from headers amount should throw InvalidValueException",
+                "Verify that addRow with row size that is different from headers amount throw InvalidValueException");
+    }
+
+    @Test
+    public void set_headers_after_add_row_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvStreamWriterApi csv = new CsvStreamWriterApi(CSV_PATH)) {
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+            csv.setHeaders(ListUtil.asList(DEFAULT_CSV_HEADERS));
+        } catch (CsvOperationException e) {
+            isException = true;
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "setHeaders after addRow should throw CsvOperationException",
+                "Verify that setHeaders after addRow throw CsvOperationException");
+    }
+
+    @Test
+    public void add_row_after_close_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvStreamWriterApi csv = new CsvStreamWriterApi(CSV_PATH);
+            csv.close();
+            csv.addRow(ListUtil.asList(DEFAULT_CSV_BODY[0]));
+        } catch (CsvOperationException e) {
+            isException = true;
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "addRow after close should throw CsvOperationException",
+                "Verify that addRow after close throw CsvOperationException");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private void writeCsv(
+            String[] headers,
+            String[][] body,
+            CellsSplitterEnum cellsSplitter) throws AutomationUnitTestException {
+
+        try (CsvStreamWriterApi csv = new CsvStreamWriterApi(CSV_PATH, cellsSplitter)) {
+            csv.setHeaders(ListUtil.asList(headers));
+
+            for (String[] row : body) {
+                csv.addRow(ListUtil.asList(row));
+            }
+
+            SoftAssertUnitTest.assertTrueNow(
+                    csv.getRowsAmount() == body.length,
+                    "Rows amount is [" + csv.getRowsAmount() + "] and should be [" + body.length + "]",
+                    "Verify that rows amount is [" + body.length + "]");
+        } catch (IOException | InvalidValueException | CsvOperationException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+}
@@ -12,7 +12,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import io.github.etuzon.java.csv.enums.CellsSplitterEnum;
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.java.csv.enums.FileOutputEnum;
 import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.java.csv.metrics.CsvMetrics;
+import io.github.etuzon.java.csv.metrics.CsvRecordsStats;
 import io.github.etuzon.projects.core.expections.InvalidValueException;
 import io.github.etuzon.projects.core.utils.ListUtil;
 import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
@@ -23,6 +27,9 @@ public class CsvWriterApiTest extends CsvApiTestBase implements TestParameters {
 
     public static final String CSV_PATH = DIR_PATH + "tempCsv.csv";
 
+    public static final int SMALL_BUFFER_SIZE = 16;
+    public static final long PREALLOCATE_SIZE = 1024 * 1024;
+
     CsvWriterApi csvApi = null;
 
     @BeforeClass
@@ -174,6 +181,57 @@ public class CsvWriterApiTest extends CsvApiTestBase implements TestParameters {
         verifyCsv(CSV_PATH, DEFAULT_CSV_HEADERS, DEFAULT_CSV_BODY, CellsSplitterEnum.TAB, GetRowEnum.GET_ROWS);
     }
 
+    @Test
+    public void create_complex_csv_via_file_channel_test() throws AutomationUnitTestException {
+        createComplexCsvWithFileOutput(FileOutputEnum.CHANNEL);
+        verifyComplexCsv();
+    }
+
+    @Test
+    public void create_complex_csv_via_memory_mapped_file_test() throws AutomationUnitTestException {
+        createComplexCsvWithFileOutput(FileOutputEnum.MEMORY_MAPPED);
+        verifyComplexCsv();
+    }
+
+    @Test
+    public void create_complex_csv_with_metrics_test() throws AutomationUnitTestException {
+        CsvMetrics metrics = new CsvMetrics();
+        csvApi = new CsvWriterApi(CSV_PATH, new CsvWriterConfig().setMetricsListener(metrics));
+        setHeaders(COMPLEX_CSV_HEADERS);
+        addRowsViaCsvApiAddRows(COMPLEX_CSV_BODY);
+        saveCsv();
+
+        CsvRecordsStats stats = metrics.getWriteStats();
+        long fileSize = new File(CSV_PATH).length();
+
+        SoftAssertUnitTest.assertTrue(
+                stats.getBytesAmount() == fileSize,
+                "Written bytes amount is [" + stats.getBytesAmount() + "] and should be [" + fileSize + "]",
+                "Verify that written bytes amount is [" + fileSize + "]");
+        SoftAssertUnitTest.assertTrue(
+                stats.getRecordsAmount() == COMPLEX_CSV_BODY.length + 1,
+                "Written records amount is [" + stats.getRecordsAmount()
+                        + "] and should be [" + (COMPLEX_CSV_BODY.length + 1) + "]",
+                "Verify that written records amount is [" + (COMPLEX_CSV_BODY.length + 1) + "]");
+        SoftAssertUnitTest.assertTrue(
+                stats.getCellsAmount() == (COMPLEX_CSV_BODY.length + 1) * COMPLEX_CSV_HEADERS.length,
+                "Written cells amount is [" + stats.getCellsAmount() + "] and should be ["
+                        + (COMPLEX_CSV_BODY.length + 1) * COMPLEX_CSV_HEADERS.length + "]",
+                "Verify that written cells amount is ["
+                        + (COMPLEX_CSV_BODY.length + 1) * COMPLEX_CSV_HEADERS.length + "]");
+        SoftAssertUnitTest.assertTrue(
+                stats.getMultilineRecordsAmount() == COMPLEX_CSV_BODY.length + 1,
+                "Written multiline records amount is [" + stats.getMultilineRecordsAmount()
+                        + "] and should be [" + (COMPLEX_CSV_BODY.length + 1) + "]",
+                "Verify that written multiline records amount is [" + (COMPLEX_CSV_BODY.length + 1) + "]");
+        SoftAssertUnitTest.assertTrue(
+                metrics.getHistogram(CsvPhaseEnum.ENCODE).getCount() == COMPLEX_CSV_BODY.length + 1,
+                "ENCODE phase count is [" + metrics.getHistogram(CsvPhaseEnum.ENCODE).getCount()
+                        + "] and should be [" + (COMPLEX_CSV_BODY.length + 1) + "]",
+                "Verify that ENCODE phase count is [" + (COMPLEX_CSV_BODY.length + 1) + "]");
+        SoftAssertUnitTest.assertAll();
+    }
+
     @AfterClass
     public void afterClass() {
         deleteFileIfExists(CSV_PATH);
@@ -255,6 +313,23 @@ public class CsvWriterApiTest extends CsvApiTestBase implements TestParameters {
         saveCsv();
     }
 
+    private void createComplexCsvWithFileOutput(FileOutputEnum fileOutput) throws AutomationUnitTestException {
+        try {
+            csvApi = new CsvWriterApi(
+                    CSV_PATH,
+                    new CsvWriterConfig()
+                            .setFileOutput(fileOutput)
+                            .setChannelBufferSize(SMALL_BUFFER_SIZE)
+                            .setPreallocateSize(PREALLOCATE_SIZE));
+        } catch (InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        setHeaders(COMPLEX_CSV_HEADERS);
+        addRowsViaCsvApiAddRows(COMPLEX_CSV_BODY);
+        saveCsv();
+    }
+
     private void saveCsv() throws AutomationUnitTestException {
         try {
             csvApi.save();
@@ -0,0 +1,170 @@
+package io.github.etuzon.java.csv.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.parser.LazyRow;
+import io.github.etuzon.java.csv.storage.ColumnarRows;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvColumnIndexTest {
+    public static final int COLUMN_INDEX = 1;
+    public static final int HIGH_CARDINALITY_ROWS_AMOUNT = 10000;
+
+    @Test
+    public void unique_values_lookup_test() throws AutomationUnitTestException {
+        List<List<String>> rows = createRows(
+                new String[][] { { "1", "a" }, { "2", "b" }, { "3", "c" } });
+        CsvColumnIndex index = new CsvColumnIndex(rows, COLUMN_INDEX);
+
+        verifyFirstRowIndex(index, "a", 0);
+        verifyFirstRowIndex(index, "b", 1);
+        verifyFirstRowIndex(index, "c", 2);
+        verifyDistinctValuesAmount(index, 3);
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void duplicate_values_lookup_test() throws AutomationUnitTestException {
+        List<List<String>> rows = createRows(
+                new String[][] { { "1", "a" }, { "2", "b" }, { "3", "a" }, { "4", "" }, { "5", "a" } });
+        CsvColumnIndex index = new CsvColumnIndex(rows, COLUMN_INDEX);
+
+        verifyFirstRowIndex(index, "a", 0);
+        verifyRowIndexes(index, "a", Arrays.asList(0, 2, 4));
+        verifyRowIndexes(index, "b", Arrays.asList(1));
+        verifyRowIndexes(index, "", Arrays.asList(3));
+        verifyDistinctValuesAmount(index, 3);
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void value_not_exist_lookup_test() throws AutomationUnitTestException {
+        List<List<String>> rows = createRows(new String[][] { { "1", "a" } });
+        CsvColumnIndex index = new CsvColumnIndex(rows, COLUMN_INDEX);
+
+        verifyFirstRowIndex(index, "Not Exist", -1);
+        verifyRowIndexes(index, "Not Exist", new ArrayList<>());
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void empty_rows_lookup_test() throws AutomationUnitTestException {
+        CsvColumnIndex index = new CsvColumnIndex(new ArrayList<>(), COLUMN_INDEX);
+
+        verifyFirstRowIndex(index, "a", -1);
+        verifyDistinctValuesAmount(index, 0);
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void high_cardinality_lookup_test() throws AutomationUnitTestException {
+        List<List<String>> rows = new ArrayList<>();
+
+        for (int i = 0; i < HIGH_CARDINALITY_ROWS_AMOUNT; i++) {
+            rows.add(Arrays.asList(String.valueOf(i), "value" + (i % (HIGH_CARDINALITY_ROWS_AMOUNT / 2))));
+        }
+
+        CsvColumnIndex index = new CsvColumnIndex(rows, COLUMN_INDEX);
+
+        verifyDistinctValuesAmount(index, HIGH_CARDINALITY_ROWS_AMOUNT / 2);
+
+        for (int i = 0; i < HIGH_CARDINALITY_ROWS_AMOUNT / 2; i++) {
+            verifyRowIndexes(
+                    index, "value" + i, Arrays.asList(i, i + (HIGH_CARDINALITY_ROWS_AMOUNT / 2)));
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void column_index_exceed_row_size_negative_test() throws AutomationUnitTestException {
+        List<List<String>> rows = createRows(new String[][] { { "1", "a" }, { "2" } });
+        boolean isException = false;
+
+        try {
+            new CsvColumnIndex(rows, COLUMN_INDEX);
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Index of column that exceed row size should throw IndexOutOfBoundsException",
+                "Verify that index of column that exceed row size throw IndexOutOfBoundsException");
+    }
+
+    @Test
+    public void lazy_and_columnar_rows_lookup_test() throws AutomationUnitTestException {
+        // "Aa" and "BB" have same hash code
+        String[][] cells = { { "1", "Aa" }, { "2", "BB" }, { "3", "été" }, { "4", "Aa" }, { "5", "" } };
+        List<List<String>> lazyRows = new ArrayList<>();
+        List<List<String>> columnarRows = new ColumnarRows();
+
+        for (String[] row : cells) {
+            lazyRows.add(new LazyRow(
+                    (row[0] + row[1]).toCharArray(),
+                    new int[] { row[0].length(), row[0].length() + row[1].length() }));
+            columnarRows.add(Arrays.asList(row));
+        }
+
+        for (List<List<String>> rows : Arrays.asList(lazyRows, columnarRows)) {
+            CsvColumnIndex index = new CsvColumnIndex(rows, COLUMN_INDEX);
+
+            verifyRowIndexes(index, "Aa", Arrays.asList(0, 3));
+            verifyRowIndexes(index, "BB", Arrays.asList(1));
+            verifyRowIndexes(index, "été", Arrays.asList(2));
+            verifyRowIndexes(index, "", Arrays.asList(4));
+            verifyFirstRowIndex(index, "AaBB", -1);
+            verifyDistinctValuesAmount(index, 4);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private List<List<String>> createRows(String[][] cells) {
+        List<List<String>> rows = new ArrayList<>();
+
+        for (String[] row : cells) {
+            rows.add(Arrays.asList(row));
+        }
+
+        return rows;
+    }
+
+    private void verifyFirstRowIndex(CsvColumnIndex index, String value, int expectedRowIndex) {
+        int rowIndex = index.getFirstRowIndex(value);
+
+        SoftAssertUnitTest.assertTrue(
+                rowIndex == expectedRowIndex,
+                "First row index of value [" + value + "] is [" + rowIndex
+                        + "] and should be [" + expectedRowIndex + "]",
+                "Verify that first row index of value [" + value + "] is [" + expectedRowIndex + "]");
+    }
+
+    private void verifyRowIndexes(CsvColumnIndex index, String value, List<Integer> expectedRowIndexes) {
+        List<Integer> rowIndexes = index.getRowIndexes(value);
+
+        SoftAssertUnitTest.assertTrue(
+                rowIndexes.equals(expectedRowIndexes),
+                "Row indexes of value [" + value + "] are " + rowIndexes
+                        + " and should be " + expectedRowIndexes,
+                "Verify that row indexes of value [" + value + "] are " + expectedRowIndexes);
+    }
+
+    private void verifyDistinctValuesAmount(CsvColumnIndex index, int expectedAmount) {
+        SoftAssertUnitTest.assertTrue(
+                index.getDistinctValuesAmount() == expectedAmount,
+                "Distinct values amount is [" + index.getDistinctValuesAmount()
+                        + "] and should be [" + expectedAmount + "]",
+                "Verify that distinct values amount is [" + expectedAmount + "]");
+    }
+}
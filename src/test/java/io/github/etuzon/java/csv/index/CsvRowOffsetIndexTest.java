@@ -0,0 +1,227 @@
+package io.github.etuzon.java.csv.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.parser.CsvParser;
+import io.github.etuzon.java.csv.parser.MappedFileReader;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvRowOffsetIndexTest {
+    public static final String DIR_PATH = "src/test/resources/createCsv/";
+    public static final String CSV_PATH = DIR_PATH + "offsetIndexCsv.csv";
+
+    public static final String CSV_CONTENT = "id,name,comment\n"
+            + "1,ñ€,\"line 1\nline 2\"\r\n"
+            + "\n"
+            + "2,\"a \"\"quoted\"\" \r\n name\",x\r"
+            + "3,b,\"\"\n"
+            + "4,c\"d,\"\"\"\n\"\"\"\n"
+            + "5,𝄞,last";
+
+    public static final int[] STEPS = { 1, 2, 3, 100 };
+
+    @BeforeClass
+    public void beforeClass() {
+        new File(DIR_PATH).mkdirs();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() throws IOException {
+        Files.deleteIfExists(Paths.get(CsvRowOffsetIndex.getSidecarPath(CSV_PATH)));
+        Files.write(Paths.get(CSV_PATH), CSV_CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void parse_records_from_indexed_offsets_test() throws AutomationUnitTestException {
+        List<List<String>> expectedRows = parseAll();
+
+        for (int step : STEPS) {
+            CsvRowOffsetIndex index = build(step);
+
+            SoftAssertUnitTest.assertTrue(
+                    index.getRecordsAmount() == expectedRows.size(),
+                    "Records amount is [" + index.getRecordsAmount() + "] with step [" + step
+                            + "] and should be [" + expectedRows.size() + "]",
+                    "Verify that records amount is [" + expectedRows.size() + "] with step [" + step + "]");
+
+            for (int i = 0; i < expectedRows.size(); i++) {
+                List<String> row = parseRecord(index, i);
+
+                SoftAssertUnitTest.assertTrue(
+                        expectedRows.get(i).equals(row),
+                        "Record [" + i + "] with step [" + step + "] is " + row
+                                + " and should be " + expectedRows.get(i),
+                        "Verify record [" + i + "] with step [" + step + "]");
+            }
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void save_and_load_sidecar_file_test() throws AutomationUnitTestException {
+        CsvRowOffsetIndex index = build(2);
+        CsvRowOffsetIndex loadedIndex;
+
+        try {
+            index.save();
+            loadedIndex = CsvRowOffsetIndex.load(CSV_PATH, ',');
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                loadedIndex != null,
+                "Index should be loaded from sidecar file",
+                "Verify that index is loaded from sidecar file");
+
+        boolean isSameOffsets = true;
+
+        for (int i = 0; i < index.getRecordsAmount(); i++) {
+            isSameOffsets &= index.getIndexedOffset(i) == loadedIndex.getIndexedOffset(i);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                (loadedIndex.getStep() == 2)
+                        && (loadedIndex.getRecordsAmount() == index.getRecordsAmount())
+                        && (isSameOffsets),
+                "Loaded index is different from saved index",
+                "Verify that loaded index is same as saved index");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void load_sidecar_file_of_changed_csv_file_negative_test() throws AutomationUnitTestException {
+        CsvRowOffsetIndex loadedIndex;
+        CsvRowOffsetIndex otherSplitterIndex;
+
+        try {
+            build(1).save();
+            Files.write(Paths.get(CSV_PATH), (CSV_CONTENT + "\n6,e,f").getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(
+                    Paths.get(CSV_PATH), FileTime.fromMillis(System.currentTimeMillis() + 2000));
+            loadedIndex = CsvRowOffsetIndex.load(CSV_PATH, ',');
+
+            build(1).save();
+            otherSplitterIndex = CsvRowOffsetIndex.load(CSV_PATH, ';');
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                loadedIndex == null,
+                "Sidecar file should not be loaded after CSV file was changed",
+                "Verify that sidecar file is not loaded after CSV file was changed");
+        SoftAssertUnitTest.assertTrue(
+                otherSplitterIndex == null,
+                "Sidecar file should not be loaded with another cells splitter",
+                "Verify that sidecar file is not loaded with another cells splitter");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void open_index_with_another_step_test() throws AutomationUnitTestException {
+        CsvRowOffsetIndex index;
+
+        try {
+            CsvRowOffsetIndex.open(CSV_PATH, ',', 1);
+            index = CsvRowOffsetIndex.open(CSV_PATH, ',', 3);
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                index.getStep() == 3,
+                "Index step is [" + index.getStep() + "] and should be [3]",
+                "Verify that index is built again with another step");
+    }
+
+    @Test
+    public void build_index_with_invalid_step_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try {
+            CsvRowOffsetIndex.build(CSV_PATH, ',', 0);
+        } catch (InvalidValueException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when step is not positive",
+                "Verify that exception appear when step is not positive");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(CsvRowOffsetIndex.getSidecarPath(CSV_PATH)).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private CsvRowOffsetIndex build(int step) throws AutomationUnitTestException {
+        try {
+            return CsvRowOffsetIndex.build(CSV_PATH, ',', step);
+        } catch (IOException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    private List<List<String>> parseAll() throws AutomationUnitTestException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvParser parser = new CsvParser(new StringReader(CSV_CONTENT), ',')) {
+            List<String> row = parser.nextRow();
+
+            while (row != null) {
+                rows.add(row);
+                row = parser.nextRow();
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        return rows;
+    }
+
+    private List<String> parseRecord(CsvRowOffsetIndex index, int recordIndex) throws AutomationUnitTestException {
+        try (RandomAccessFile file = new RandomAccessFile(CSV_PATH, "r");
+                FileChannel channel = file.getChannel();
+                CsvParser parser = new CsvParser(
+                        new MappedFileReader(
+                                channel,
+                                index.getIndexedOffset(recordIndex),
+                                index.getNextIndexedOffset(recordIndex),
+                                MappedFileReader.DEFAULT_SEGMENT_SIZE,
+                                false),
+                        ',')) {
+
+            for (long i = index.getIndexedRecordIndex(recordIndex); i < recordIndex; i++) {
+                parser.nextRecord();
+            }
+
+            return parser.nextRow();
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+}
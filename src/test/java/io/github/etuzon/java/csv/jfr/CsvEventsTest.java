@@ -0,0 +1,149 @@
+package io.github.etuzon.java.csv.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.api.CsvReaderApi;
+import io.github.etuzon.java.csv.api.CsvStreamWriterApi;
+import io.github.etuzon.java.csv.api.CsvWriterApi;
+import io.github.etuzon.java.csv.exceptions.CsvOperationException;
+import io.github.etuzon.projects.core.expections.InvalidValueException;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class CsvEventsTest {
+    public static final String COMPLEX_CSV_FILE_PATH = "src/test/resources/csvFiles/complexFile.csv";
+    public static final String DIR_PATH = "src/test/resources/createCsv/";
+    public static final String CSV_PATH = DIR_PATH + "jfrCsv.csv";
+
+    public static final long COMPLEX_CSV_FILE_SIZE = 214;
+    public static final long COMPLEX_CSV_ROWS_AMOUNT = 3;
+
+    @Test
+    public void record_parse_and_save_events_test() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+        List<RecordedEvent> events = record(() -> {
+            new CsvReaderApi(COMPLEX_CSV_FILE_PATH);
+
+            CsvWriterApi csvApi = new CsvWriterApi(CSV_PATH);
+            csvApi.setHeaders(Arrays.asList("id", "name"));
+            csvApi.addRow(Arrays.asList("1", "a"));
+            csvApi.addRow(Arrays.asList("2", "b,\"c\""));
+            csvApi.save();
+        });
+
+        RecordedEvent parseEvent = findEvent(events, CsvParseEvent.NAME);
+        RecordedEvent saveEvent = findEvent(events, CsvSaveEvent.NAME);
+
+        SoftAssertUnitTest.assertTrueNow(
+                (parseEvent != null) && (saveEvent != null),
+                "Parse and save events should be recorded",
+                "Verify that parse and save events are recorded");
+
+        SoftAssertUnitTest.assertTrue(
+                COMPLEX_CSV_FILE_PATH.equals(parseEvent.getString("filePath"))
+                        && (parseEvent.getLong("bytesAmount") == COMPLEX_CSV_FILE_SIZE)
+                        && (parseEvent.getLong("rowsAmount") == COMPLEX_CSV_ROWS_AMOUNT)
+                        && (parseEvent.getInt("parallelism") == 1),
+                "Parse event [" + parseEvent + "] is different from the parsed CSV file",
+                "Verify that parse event describe the parsed CSV file");
+        SoftAssertUnitTest.assertTrue(
+                CSV_PATH.equals(saveEvent.getString("filePath"))
+                        && (saveEvent.getLong("bytesAmount") == new File(CSV_PATH).length())
+                        && (saveEvent.getLong("rowsAmount") == 2)
+                        && (!saveEvent.getBoolean("isFlush")),
+                "Save event [" + saveEvent + "] is different from the saved CSV file",
+                "Verify that save event describe the saved CSV file");
+        SoftAssertUnitTest.assertTrue(
+                findEvent(events, CsvBufferRefillEvent.NAME) != null,
+                "Buffer refill event should be recorded",
+                "Verify that buffer refill event is recorded");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void record_stream_writer_close_event_test() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+        List<RecordedEvent> events = record(() -> {
+            try (CsvStreamWriterApi csvApi = new CsvStreamWriterApi(CSV_PATH)) {
+                csvApi.setHeaders(Arrays.asList("id", "name"));
+                csvApi.addRow(Arrays.asList("1", "a"));
+            }
+        });
+
+        RecordedEvent saveEvent = findEvent(events, CsvSaveEvent.NAME);
+
+        SoftAssertUnitTest.assertTrueNow(
+                (saveEvent != null)
+                        && CSV_PATH.equals(saveEvent.getString("filePath"))
+                        && (saveEvent.getLong("bytesAmount") == new File(CSV_PATH).length())
+                        && (saveEvent.getLong("rowsAmount") == 1)
+                        && (!saveEvent.getBoolean("isFlush")),
+                "Save event [" + saveEvent + "] should be recorded when stream writer is closed",
+                "Verify that save event is recorded when stream writer is closed");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private List<RecordedEvent> record(RecordedAction action) throws AutomationUnitTestException {
+        Path recordingPath = null;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(CsvParseEvent.NAME);
+            recording.enable(CsvSaveEvent.NAME);
+            recording.enable(CsvBufferRefillEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recordingPath = Files.createTempFile("csvEvents", ".jfr");
+            recording.dump(recordingPath);
+
+            return new ArrayList<>(RecordingFile.readAllEvents(recordingPath));
+        } catch (IOException | CsvOperationException | InvalidValueException e) {
+            throw new AutomationUnitTestException(e);
+        } finally {
+            deleteFile(recordingPath);
+        }
+    }
+
+    private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+
+        return null;
+    }
+
+    private void deleteFile(Path path) {
+        try {
+            if (path != null) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    /*********************************
+     * Action that is executed while recording.
+     */
+    private interface RecordedAction {
+        void run() throws IOException, CsvOperationException, InvalidValueException;
+    }
+}
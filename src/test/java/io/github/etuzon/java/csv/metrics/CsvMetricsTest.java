@@ -0,0 +1,139 @@
+package io.github.etuzon.java.csv.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.CsvPhaseEnum;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvMetricsTest {
+    public static final int THREADS_AMOUNT = 4;
+    public static final int UPDATES_PER_THREAD = 10000;
+
+    @Test
+    public void aggregate_stats_from_multiple_threads_test() throws AutomationUnitTestException {
+        CsvMetrics metrics = new CsvMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_AMOUNT);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < THREADS_AMOUNT; i++) {
+                int maxCellSize = i;
+
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < UPDATES_PER_THREAD; j++) {
+                        metrics.onRead(new CsvRecordsStats(10, 1, 2, 1, 1, maxCellSize));
+                        metrics.onPhase(CsvPhaseEnum.TOKENIZE, j);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new AutomationUnitTestException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AutomationUnitTestException(e);
+        } finally {
+            executor.shutdown();
+        }
+
+        long updatesAmount = (long) THREADS_AMOUNT * UPDATES_PER_THREAD;
+        CsvRecordsStats stats = metrics.getReadStats();
+
+        SoftAssertUnitTest.assertTrue(
+                (stats.getBytesAmount() == updatesAmount * 10)
+                        && (stats.getRecordsAmount() == updatesAmount)
+                        && (stats.getCellsAmount() == updatesAmount * 2)
+                        && (stats.getMultilineRecordsAmount() == updatesAmount)
+                        && (stats.getQuotedCellsAmount() == updatesAmount),
+                "Read stats [" + stats + "] are different from the stats that were notified",
+                "Verify that read stats are the sum of the stats that were notified");
+        SoftAssertUnitTest.assertTrue(
+                stats.getMaxCellSize() == THREADS_AMOUNT - 1,
+                "Max cell size is [" + stats.getMaxCellSize() + "] and should be [" + (THREADS_AMOUNT - 1) + "]",
+                "Verify that max cell size is [" + (THREADS_AMOUNT - 1) + "]");
+        SoftAssertUnitTest.assertTrue(
+                metrics.getHistogram(CsvPhaseEnum.TOKENIZE).getCount() == updatesAmount,
+                "TOKENIZE phase count is [" + metrics.getHistogram(CsvPhaseEnum.TOKENIZE).getCount()
+                        + "] and should be [" + updatesAmount + "]",
+                "Verify that TOKENIZE phase count is [" + updatesAmount + "]");
+        SoftAssertUnitTest.assertTrue(
+                metrics.getWriteStats().getRecordsAmount() == 0,
+                "Write stats should not be updated by read stats",
+                "Verify that write stats are not updated by read stats");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void histogram_buckets_test() throws AutomationUnitTestException {
+        PhaseHistogram histogram = new PhaseHistogram();
+        long[] durations = { 0, 1, 2, 3, 4, 1000, 1023, 1024 };
+        int[] expectedBuckets = { 0, 1, 2, 2, 3, 10, 10, 11 };
+
+        for (int i = 0; i < durations.length; i++) {
+            int bucket = PhaseHistogram.getBucket(durations[i]);
+
+            SoftAssertUnitTest.assertTrue(
+                    bucket == expectedBuckets[i],
+                    "Bucket of duration [" + durations[i] + "] is [" + bucket
+                            + "] and should be [" + expectedBuckets[i] + "]",
+                    "Verify that bucket of duration [" + durations[i] + "] is [" + expectedBuckets[i] + "]");
+            histogram.record(durations[i]);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                histogram.getBucketCount(10) == 2,
+                "Bucket [10] count is [" + histogram.getBucketCount(10) + "] and should be [2]",
+                "Verify that bucket [10] count is [2]");
+        SoftAssertUnitTest.assertTrue(
+                (histogram.getCount() == durations.length) && (histogram.getTotalNanos() == 3057)
+                        && (histogram.getMaxNanos() == 1024),
+                "Histogram [" + histogram + "] count, total or max is wrong",
+                "Verify histogram count, total and max");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void histogram_percentile_test() throws AutomationUnitTestException {
+        PhaseHistogram histogram = new PhaseHistogram();
+
+        SoftAssertUnitTest.assertTrue(
+                histogram.getPercentileNanos(50) == 0,
+                "Percentile of empty histogram should be 0",
+                "Verify that percentile of empty histogram is 0");
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+
+        histogram.record(1_000_000);
+
+        SoftAssertUnitTest.assertTrue(
+                histogram.getPercentileNanos(50) == 128,
+                "Percentile 50 is [" + histogram.getPercentileNanos(50) + "] and should be [128]",
+                "Verify that percentile 50 is [128]");
+        SoftAssertUnitTest.assertTrue(
+                histogram.getPercentileNanos(100) == 1L << 20,
+                "Percentile 100 is [" + histogram.getPercentileNanos(100) + "] and should be [" + (1L << 20) + "]",
+                "Verify that percentile 100 is [" + (1L << 20) + "]");
+
+        histogram.reset();
+
+        SoftAssertUnitTest.assertTrue(
+                histogram.getCount() == 0,
+                "Histogram count after reset is [" + histogram.getCount() + "] and should be [0]",
+                "Verify that histogram count after reset is [0]");
+        SoftAssertUnitTest.assertAll();
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.etuzon.java.csv.parser;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CellValueParserTest {
+    public static final String[] VALID_LONG_VALUES = {
+            "0", "7", "-7", "+7", "0012", "9223372036854775807", "-9223372036854775808" };
+    public static final String[] INVALID_LONG_VALUES = {
+            "", "-", "+", "1a", " 1", "1.0", "9223372036854775808", "-9223372036854775809" };
+    public static final String[] VALID_INT_VALUES = { "0", "-15", "2147483647", "-2147483648" };
+    public static final String[] INVALID_INT_VALUES = { "2147483648", "-2147483649", "abc" };
+    public static final String[] VALID_DOUBLE_VALUES = {
+            "0", "-0", "1.5", "-0.25", ".5", "1.", "2e3", "2E-3", "+1.25e+2", "0.000123",
+            "123456789012345", "1234567890123456789", "0.1234567890123456789", "1e300", "1e-300",
+            "4.9e-324", "NaN", "-Infinity", "007.50" };
+    public static final String[] INVALID_DOUBLE_VALUES = { "", ".", "-", "1e", "1.2.3", "abc", "1,5" };
+
+    @Test
+    public void parse_valid_long_values_test() throws AutomationUnitTestException {
+        for (String value : VALID_LONG_VALUES) {
+            long result = CellValueParser.parseLong(value);
+            long expected = Long.parseLong(value);
+            SoftAssertUnitTest.assertTrue(
+                    result == expected,
+                    "Long value of [" + value + "] is [" + result + "] and should be [" + expected + "]",
+                    "Verify that long value of [" + value + "] is [" + expected + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_invalid_long_values_negative_test() throws AutomationUnitTestException {
+        for (String value : INVALID_LONG_VALUES) {
+            boolean isException = false;
+
+            try {
+                CellValueParser.parseLong(value);
+            } catch (NumberFormatException e) {
+                isException = true;
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    isException,
+                    "Parse long of [" + value + "] should throw NumberFormatException",
+                    "Verify that parse long of [" + value + "] throw NumberFormatException");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_valid_int_values_test() throws AutomationUnitTestException {
+        for (String value : VALID_INT_VALUES) {
+            int result = CellValueParser.parseInt(value);
+            int expected = Integer.parseInt(value);
+            SoftAssertUnitTest.assertTrue(
+                    result == expected,
+                    "Int value of [" + value + "] is [" + result + "] and should be [" + expected + "]",
+                    "Verify that int value of [" + value + "] is [" + expected + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_invalid_int_values_negative_test() throws AutomationUnitTestException {
+        for (String value : INVALID_INT_VALUES) {
+            boolean isException = false;
+
+            try {
+                CellValueParser.parseInt(value);
+            } catch (NumberFormatException e) {
+                isException = true;
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    isException,
+                    "Parse int of [" + value + "] should throw NumberFormatException",
+                    "Verify that parse int of [" + value + "] throw NumberFormatException");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_valid_double_values_test() throws AutomationUnitTestException {
+        for (String value : VALID_DOUBLE_VALUES) {
+            double result = CellValueParser.parseDouble(value);
+            double expected = Double.parseDouble(value);
+            SoftAssertUnitTest.assertTrue(
+                    Double.compare(result, expected) == 0,
+                    "Double value of [" + value + "] is [" + result + "] and should be [" + expected + "]",
+                    "Verify that double value of [" + value + "] is [" + expected + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_invalid_double_values_negative_test() throws AutomationUnitTestException {
+        for (String value : INVALID_DOUBLE_VALUES) {
+            boolean isException = false;
+
+            try {
+                CellValueParser.parseDouble(value);
+            } catch (NumberFormatException e) {
+                isException = true;
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    isException,
+                    "Parse double of [" + value + "] should throw NumberFormatException",
+                    "Verify that parse double of [" + value + "] throw NumberFormatException");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_boolean_values_test() throws AutomationUnitTestException {
+        SoftAssertUnitTest.assertTrue(
+                CellValueParser.parseBoolean("true") && CellValueParser.parseBoolean("TRUE"),
+                "Boolean value of [true] and [TRUE] should be [true]",
+                "Verify that boolean value of [true] and [TRUE] is [true]");
+        SoftAssertUnitTest.assertTrue(
+                !CellValueParser.parseBoolean("false") && !CellValueParser.parseBoolean("False"),
+                "Boolean value of [false] and [False] should be [false]",
+                "Verify that boolean value of [false] and [False] is [false]");
+
+        boolean isException = false;
+
+        try {
+            CellValueParser.parseBoolean("yes");
+        } catch (NumberFormatException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                isException,
+                "Parse boolean of [yes] should throw NumberFormatException",
+                "Verify that parse boolean of [yes] throw NumberFormatException");
+
+        SoftAssertUnitTest.assertAll();
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.exceptions.CsvSizeLimitException;
+import io.github.etuzon.projects.core.utils.ListUtil;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvParserTest {
+    public static final int SMALL_BUFFER_SIZE = 3;
+
+    @Test
+    public void parse_crlf_line_endings_test() throws AutomationUnitTestException {
+        verifyParse("a,b\r\nc,d\r\n", new String[][] { { "a", "b" }, { "c", "d" } });
+    }
+
+    @Test
+    public void parse_empty_cells_test() throws AutomationUnitTestException {
+        verifyParse(",a,\n\n", new String[][] { { "", "a", "" }, { "" } });
+    }
+
+    @Test
+    public void parse_last_row_without_line_feed_test() throws AutomationUnitTestException {
+        verifyParse("a,b\nc,d", new String[][] { { "a", "b" }, { "c", "d" } });
+    }
+
+    @Test
+    public void parse_quoted_cells_test() throws AutomationUnitTestException {
+        verifyParse(
+                "\"a,b\",\"\"\"c\"\"\",\"\"\n",
+                new String[][] { { "a,b", "\"c\"", "" } });
+    }
+
+    @Test
+    public void parse_multiline_quoted_cell_test() throws AutomationUnitTestException {
+        verifyParse(
+                "\"a\r\nb\nc\",d\ne,f\n",
+                new String[][] { { "a\nb\nc", "d" }, { "e", "f" } });
+    }
+
+    @Test
+    public void parse_inverted_comma_inside_unquoted_cell_test() throws AutomationUnitTestException {
+        verifyParse("a\"b,c\n", new String[][] { { "a\"b", "c" } });
+    }
+
+    @Test
+    public void parse_with_tab_splitter_test() throws AutomationUnitTestException {
+        verifyParse("a,b\t\"c\td\"\n", new String[][] { { "a,b", "c\td" } }, '\t');
+    }
+
+    @Test
+    public void parse_empty_input_test() throws AutomationUnitTestException {
+        verifyParse("", new String[][] {});
+    }
+
+    @Test
+    public void parse_large_multiline_cell_test() throws AutomationUnitTestException {
+        final int LINES_AMOUNT = 500000;
+        StringBuilder cell = new StringBuilder();
+
+        for (int i = 0; i < LINES_AMOUNT; i++) {
+            cell.append("line ").append(i).append('\n');
+        }
+
+        verifyParse(
+                "a,\"" + cell + "\",b\n",
+                new String[][] { { "a", cell.toString(), "b" } });
+    }
+
+    @Test
+    public void cell_exceed_max_cell_size_negative_test() throws AutomationUnitTestException {
+        verifySizeLimitException("a,\"unterminated\ncell\n", 5, CsvParser.UNLIMITED_SIZE);
+    }
+
+    @Test
+    public void record_exceed_max_record_size_negative_test() throws AutomationUnitTestException {
+        verifySizeLimitException("abc,def,ghi\n", CsvParser.UNLIMITED_SIZE, 8);
+    }
+
+    @Test
+    public void parse_record_in_max_sizes_test() throws AutomationUnitTestException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvParser parser = new CsvParser(new StringReader("abc,def\n"), ',')) {
+            parser.setMaxCellSize(3);
+            parser.setMaxRecordSize(6);
+            rows.add(parser.nextRow());
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        verifyRows("abc,def\n", rows, new String[][] { { "abc", "def" } });
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void get_cell_chars_test() throws AutomationUnitTestException {
+        try (CsvParser parser = new CsvParser(new StringReader("ab,\"c\"\"d\",\n"), ',')) {
+            parser.nextRecord();
+
+            String[] expectedCells = { "ab", "c\"d", "" };
+
+            for (int i = 0; i < expectedCells.length; i++) {
+                CharSequence cell = parser.getCellChars(i);
+                SoftAssertUnitTest.assertTrue(
+                        cell.toString().equals(expectedCells[i]) && (cell.length() == expectedCells[i].length()),
+                        "Cell chars in index [" + i + "] are [" + cell + "] and should be ["
+                        + expectedCells[i] + "]",
+                        "Verify that cell chars in index [" + i + "] are [" + expectedCells[i] + "]");
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_with_projection_test() throws AutomationUnitTestException {
+        String csv = "a,\"b,\nb\",c,d\ne\n\"f\",g,h,i\n";
+        String[][] expectedRows = { { "d", "a", "" }, { "", "e", "" }, { "i", "f", "" } };
+
+        for (int bufferSize : new int[] { CsvParser.DEFAULT_BUFFER_SIZE, SMALL_BUFFER_SIZE }) {
+            List<List<String>> rows = new ArrayList<>();
+            List<List<String>> lazyRows = new ArrayList<>();
+
+            try (CsvParser parser = new CsvParser(new StringReader(csv), ',', bufferSize);
+                    CsvParser lazyParser = new CsvParser(new StringReader(csv), ',', bufferSize)) {
+                parser.setProjection(new int[] { 3, 0, 9 });
+                lazyParser.setProjection(new int[] { 3, 0, 9 });
+
+                for (List<String> row = parser.nextRow(); row != null; row = parser.nextRow()) {
+                    rows.add(row);
+                }
+
+                for (List<String> row = lazyParser.nextLazyRow(); row != null; row = lazyParser.nextLazyRow()) {
+                    lazyRows.add(row);
+                }
+            } catch (IOException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            verifyRows(csv, rows, expectedRows);
+            verifyRows(csv, lazyRows, expectedRows);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parse_with_column_predicate_test() throws AutomationUnitTestException {
+        String csv = "a,\"x,\ny\",keep\nb,c,drop\n\"d\",\"e\"\nf,g,\"keep\"\n";
+        String[][] expectedRows = { { "a", "x,\ny", "keep" }, { "f", "g", "keep" } };
+
+        for (int bufferSize : new int[] { CsvParser.DEFAULT_BUFFER_SIZE, SMALL_BUFFER_SIZE }) {
+            List<List<String>> rows = new ArrayList<>();
+
+            try (CsvParser parser = new CsvParser(new StringReader(csv), ',', bufferSize)) {
+                parser.addColumnPredicate(2, "keep"::contentEquals);
+                parser.addColumnPredicate(0, cell -> cell.length() == 1);
+
+                for (List<String> row = parser.nextRow(); row != null; row = parser.nextRow()) {
+                    rows.add(row);
+                }
+            } catch (IOException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            verifyRows(csv, rows, expectedRows);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private void verifySizeLimitException(
+            String csv, int maxCellSize, int maxRecordSize) throws AutomationUnitTestException {
+
+        boolean isException = false;
+
+        try (CsvParser parser = new CsvParser(new StringReader(csv), ',')) {
+            parser.setMaxCellSize(maxCellSize);
+            parser.setMaxRecordSize(maxRecordSize);
+
+            while (parser.nextRecord()) {
+                parser.getRow();
+            }
+        } catch (CsvSizeLimitException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Parse CSV [" + csv + "] with maximum cell size [" + maxCellSize
+                + "] and maximum record size [" + maxRecordSize
+                + "] should throw CsvSizeLimitException",
+                "Verify that parse CSV [" + csv + "] throw CsvSizeLimitException");
+    }
+
+    private void verifyParse(String csv, String[][] expectedRows) throws AutomationUnitTestException {
+        verifyParse(csv, expectedRows, ',');
+    }
+
+    private void verifyParse(
+            String csv,
+            String[][] expectedRows,
+            char cellsSplitter) throws AutomationUnitTestException {
+
+        verifyRows(csv, parse(csv, cellsSplitter, CsvParser.DEFAULT_BUFFER_SIZE), expectedRows);
+        verifyRows(csv, parse(csv, cellsSplitter, SMALL_BUFFER_SIZE), expectedRows);
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private List<List<String>> parse(
+            String csv, char cellsSplitter, int bufferSize) throws AutomationUnitTestException {
+
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvParser parser = new CsvParser(new StringReader(csv), cellsSplitter, bufferSize)) {
+            List<String> row = parser.nextRow();
+
+            while (row != null) {
+                rows.add(row);
+                row = parser.nextRow();
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        return rows;
+    }
+
+    private void verifyRows(String csv, List<List<String>> rows, String[][] expectedRows) {
+        if (SoftAssertUnitTest.assertTrue(
+                rows.size() == expectedRows.length,
+                "Rows amount of CSV [" + csv + "] is [" + rows.size()
+                + "] and should be [" + expectedRows.length + "]")) {
+
+            for (int i = 0; i < expectedRows.length; i++) {
+                SoftAssertUnitTest.assertTrue(
+                        rows.get(i).equals(ListUtil.asList(expectedRows[i])),
+                        "Row in index [" + i + "] of CSV [" + csv + "] is [" + rows.get(i)
+                        + "] and should be [" + ListUtil.asList(expectedRows[i]) + "]",
+                        "Verify row in index [" + i + "] of CSV [" + csv + "]");
+            }
+        }
+    }
+}
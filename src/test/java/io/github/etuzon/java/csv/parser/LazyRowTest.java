@@ -0,0 +1,58 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class LazyRowTest {
+    @Test
+    public void lazy_row_cells_test() throws AutomationUnitTestException {
+        try (CsvParser parser = new CsvParser(new StringReader("a,,\"b,\"\"c\"\"\"\nd\n"), ',')) {
+            LazyRow row = parser.nextLazyRow();
+            LazyRow secondRow = parser.nextLazyRow();
+
+            SoftAssertUnitTest.assertTrue(
+                    row.equals(Arrays.asList("a", "", "b,\"c\"")),
+                    "Lazy row is " + row + " and should be [a, , b,\"c\"]",
+                    "Verify that lazy row is [a, , b,\"c\"]");
+            SoftAssertUnitTest.assertTrue(
+                    row.getCellChars(2).toString().equals("b,\"c\"") && (row.getCellChars(1).length() == 0),
+                    "Lazy row cell chars are not equal to the row cells",
+                    "Verify that lazy row cell chars are equal to the row cells");
+            SoftAssertUnitTest.assertTrue(
+                    secondRow.equals(Arrays.asList("d")),
+                    "Second lazy row is " + secondRow + " and should be [d]",
+                    "Verify that second lazy row is [d]");
+            SoftAssertUnitTest.assertTrue(
+                    parser.nextLazyRow() == null,
+                    "Lazy row after last row should be null",
+                    "Verify that lazy row after last row is null");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void lazy_row_cell_index_out_of_bound_negative_test() throws AutomationUnitTestException {
+        LazyRow row = new LazyRow("ab".toCharArray(), new int[] { 1, 2 });
+        boolean isException = false;
+
+        try {
+            row.getCellChars(2);
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Lazy row cell index out of bound should throw IndexOutOfBoundsException",
+                "Verify that lazy row cell index out of bound throw IndexOutOfBoundsException");
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class MappedFileReaderTest {
+    public static final String DIR_PATH = "src/test/resources/mappedFile/";
+    public static final String FILE_PATH = DIR_PATH + "multiByteChars.txt";
+    public static final String FILE_CONTENT = "a,\u00f1\u20ac\n\uD834\uDD1E,\"b\u00e9\"\n";
+
+    @BeforeClass
+    public void beforeClass() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+
+        try {
+            Files.write(new File(FILE_PATH).toPath(), FILE_CONTENT.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void read_file_in_single_segment_test() throws AutomationUnitTestException {
+        verifyRead(MappedFileReader.DEFAULT_SEGMENT_SIZE);
+    }
+
+    @Test
+    public void read_file_with_chars_split_between_segments_test() throws AutomationUnitTestException {
+        for (int segmentSize = 1; segmentSize <= 5; segmentSize++) {
+            verifyRead(segmentSize);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void file_not_found_negative_test() {
+        boolean isException = false;
+
+        try (MappedFileReader reader = new MappedFileReader(DIR_PATH + "notExist.txt")) {
+            reader.read();
+        } catch (IOException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when trying to map file that not exist",
+                "Verify that exception appear when trying to map file that not exist");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(FILE_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private void verifyRead(long segmentSize) throws AutomationUnitTestException {
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[2];
+
+        try (RandomAccessFile file = new RandomAccessFile(FILE_PATH, "r");
+                MappedFileReader reader = new MappedFileReader(
+                        file.getChannel(), 0, file.length(), segmentSize, false)) {
+
+            int length = reader.read(buffer, 0, buffer.length);
+
+            while (length != -1) {
+                content.append(buffer, 0, length);
+                length = reader.read(buffer, 0, buffer.length);
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                FILE_CONTENT.equals(content.toString()),
+                "Content that was read with segment size [" + segmentSize + "] is ["
+                + content + "] and should be [" + FILE_CONTENT + "]",
+                "Verify content that was read with segment size [" + segmentSize + "]");
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class ParallelCsvParserTest {
+    public static final String DIR_PATH = "src/test/resources/parallelCsv/";
+    public static final String CSV_PATH = DIR_PATH + "multilineCells.csv";
+    public static final int ROWS_AMOUNT = 200;
+    public static final int PARALLELISM = 4;
+
+    @BeforeClass
+    public void beforeClass() throws AutomationUnitTestException {
+        new File(DIR_PATH).mkdirs();
+        StringBuilder csv = new StringBuilder("id,text,value\r\n");
+
+        for (int i = 0; i < ROWS_AMOUNT; i++) {
+            csv.append(i).append(",\"line ").append(i).append("\n\"\"quoted\"\",\n\nend\",")
+                    .append("v\u00e9").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+
+        try {
+            Files.write(new File(CSV_PATH).toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    @Test
+    public void parallel_parse_equal_to_sequential_parse_test() throws AutomationUnitTestException {
+        List<List<String>> expectedRows = parseSequential();
+
+        for (int chunkSize = 1; chunkSize <= 64; chunkSize++) {
+            List<List<String>> rows = parseParallel(chunkSize);
+
+            SoftAssertUnitTest.assertTrue(
+                    expectedRows.equals(rows),
+                    "Parallel parse with chunk size [" + chunkSize
+                    + "] is different from sequential parse",
+                    "Verify that parallel parse with chunk size [" + chunkSize
+                    + "] is equal to sequential parse");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void parallel_parse_single_chunk_test() throws AutomationUnitTestException {
+        SoftAssertUnitTest.assertTrueNow(
+                parseSequential().equals(parseParallel(ParallelCsvParser.MIN_CHUNK_SIZE)),
+                "Parallel parse of small file is different from sequential parse",
+                "Verify that parallel parse of small file is equal to sequential parse");
+    }
+
+    @Test
+    public void file_not_found_negative_test() {
+        boolean isException = false;
+
+        try {
+            new ParallelCsvParser(DIR_PATH + "notExist.csv", ',', PARALLELISM).parse();
+        } catch (IOException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when trying to parse file that not exist",
+                "Verify that exception appear when trying to parse file that not exist");
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(CSV_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private List<List<String>> parseParallel(long chunkSize) throws AutomationUnitTestException {
+        ParallelCsvParser parser = new ParallelCsvParser(CSV_PATH, ',', PARALLELISM);
+        parser.setMinChunkSize(chunkSize);
+
+        try {
+            return parser.parse();
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+    }
+
+    private List<List<String>> parseSequential() throws AutomationUnitTestException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvParser parser = CsvParser.open(CSV_PATH, ',')) {
+            List<String> row = parser.nextRow();
+
+            while (row != null) {
+                rows.add(row);
+                row = parser.nextRow();
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        return rows;
+    }
+}
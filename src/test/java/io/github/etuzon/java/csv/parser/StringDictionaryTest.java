@@ -0,0 +1,81 @@
+package io.github.etuzon.java.csv.parser;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class StringDictionaryTest {
+    public static final int MAX_SIZE = 4;
+    public static final int HIGH_CARDINALITY_VALUES_AMOUNT = 100;
+
+    @Test
+    public void repeated_values_share_instance_test() throws AutomationUnitTestException {
+        StringDictionary dictionary = new StringDictionary(MAX_SIZE);
+        char[] chars = "xxUSyyILzzUS".toCharArray();
+
+        String first = dictionary.get(chars, 2, 2);
+        String second = dictionary.get(chars, 10, 2);
+        String other = dictionary.get(chars, 6, 2);
+
+        SoftAssertUnitTest.assertTrue(
+                first.equals("US") && (first == second),
+                "Repeated value [" + first + "] should share one String instance",
+                "Verify that repeated value [US] share one String instance");
+        SoftAssertUnitTest.assertTrue(
+                other.equals("IL"),
+                "Dictionary value is [" + other + "] and should be [IL]",
+                "Verify that dictionary value is [IL]");
+        SoftAssertUnitTest.assertTrue(
+                dictionary.size() == 2,
+                "Dictionary size is [" + dictionary.size() + "] and should be [2]",
+                "Verify that dictionary size is [2]");
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void dictionary_size_is_bounded_test() throws AutomationUnitTestException {
+        StringDictionary dictionary = new StringDictionary(MAX_SIZE);
+
+        for (int i = 0; i < MAX_SIZE * 2; i++) {
+            char[] chars = ("value" + i).toCharArray();
+            String value = dictionary.get(chars, 0, chars.length);
+            SoftAssertUnitTest.assertTrue(
+                    value.equals("value" + i),
+                    "Dictionary value is [" + value + "] and should be [value" + i + "]",
+                    "Verify that dictionary value is [value" + i + "]");
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                dictionary.size() <= MAX_SIZE,
+                "Dictionary size is [" + dictionary.size() + "] and should not exceed [" + MAX_SIZE + "]",
+                "Verify that dictionary size not exceed [" + MAX_SIZE + "]");
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void high_cardinality_values_disable_dictionary_test() throws AutomationUnitTestException {
+        StringDictionary dictionary = new StringDictionary(MAX_SIZE);
+
+        for (int i = 0; i < HIGH_CARDINALITY_VALUES_AMOUNT; i++) {
+            char[] chars = ("value" + i).toCharArray();
+            dictionary.get(chars, 0, chars.length);
+        }
+
+        char[] chars = "value1".toCharArray();
+        String value = dictionary.get(chars, 0, chars.length);
+
+        SoftAssertUnitTest.assertTrue(
+                !dictionary.isEnabled(),
+                "Dictionary of high cardinality values should be disabled",
+                "Verify that dictionary of high cardinality values is disabled");
+        SoftAssertUnitTest.assertTrue(
+                value.equals("value1"),
+                "Disabled dictionary value is [" + value + "] and should be [value1]",
+                "Verify that disabled dictionary value is [value1]");
+
+        SoftAssertUnitTest.assertAll();
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class StructuralScannerTest {
+    public static final char[] CELLS_SPLITTERS = { ',', '\t', ' ', ';' };
+    public static final char[] CHARS = { 'a', 'z', '0', ',', '\t', ' ', ';', '"', '\n', '\r', 'ñ', '€', '\uD834' };
+
+    public static final int BUFFERS_AMOUNT = 200;
+    public static final int MAX_BUFFER_SIZE = 300;
+
+    @Test
+    public void vector_scanner_is_available_test() throws AutomationUnitTestException {
+        SoftAssertUnitTest.assertTrueNow(
+                StructuralScanner.createVector(',') != null,
+                "Vector scanner should be available when module jdk.incubator.vector is added",
+                "Verify that vector scanner is available when module jdk.incubator.vector is added");
+    }
+
+    @Test
+    public void scalar_scanner_find_structural_chars_test() throws AutomationUnitTestException {
+        verifyScanner(new StructuralScanner(','), "a\"b,c\r\nd".toCharArray(), new int[] { 1, 3, 5, 6, 8 });
+    }
+
+    @Test
+    public void vector_scanner_same_as_scalar_scanner_test() throws AutomationUnitTestException {
+        Random random = new Random(17);
+
+        for (char cellsSplitter : CELLS_SPLITTERS) {
+            StructuralScanner scalar = new StructuralScanner(cellsSplitter);
+            StructuralScanner vector = StructuralScanner.createVector(cellsSplitter);
+
+            if (vector == null) {
+                continue;
+            }
+
+            int mismatchesAmount = 0;
+
+            for (int i = 0; i < BUFFERS_AMOUNT; i++) {
+                char[] chars = createChars(random, random.nextInt(MAX_BUFFER_SIZE));
+                int from = chars.length == 0 ? 0 : random.nextInt(chars.length);
+                int to = from + random.nextInt(chars.length - from + 1);
+
+                for (int position = from; position <= to; position++) {
+                    if (vector.indexOfStructural(chars, position, to)
+                            != scalar.indexOfStructural(chars, position, to)) {
+                        mismatchesAmount++;
+                    }
+                }
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    mismatchesAmount == 0,
+                    "Vector scanner index is different from scalar scanner index in [" + mismatchesAmount
+                            + "] scans with cells splitter [" + cellsSplitter + "]",
+                    "Verify that vector scanner index is same as scalar scanner index with cells splitter ["
+                            + cellsSplitter + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private void verifyScanner(
+            StructuralScanner scanner, char[] chars, int[] expectedIndexes) throws AutomationUnitTestException {
+
+        for (int from = 0; from < expectedIndexes.length; from++) {
+            int position = from == 0 ? 0 : expectedIndexes[from - 1] + 1;
+            int index = scanner.indexOfStructural(chars, position, chars.length);
+
+            SoftAssertUnitTest.assertTrue(
+                    index == expectedIndexes[from],
+                    "Structural char index from position [" + position + "] is [" + index
+                            + "] and should be [" + expectedIndexes[from] + "]",
+                    "Verify that structural char index from position [" + position + "] is ["
+                            + expectedIndexes[from] + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private char[] createChars(Random random, int size) {
+        char[] chars = new char[size];
+        // Structural chars are rare, so runs of ordinary chars are longer than a vector
+        int structuralRate = 1 + random.nextInt(64);
+
+        for (int i = 0; i < size; i++) {
+            chars[i] = random.nextInt(structuralRate) == 0
+                    ? CHARS[random.nextInt(CHARS.length)]
+                    : (char) ('a' + random.nextInt(26));
+        }
+
+        return chars;
+    }
+}
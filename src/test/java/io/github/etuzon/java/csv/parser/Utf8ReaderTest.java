@@ -0,0 +1,88 @@
+package io.github.etuzon.java.csv.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class Utf8ReaderTest {
+    public static final String VALID_CONTENT = "id,name\n1,ñ€\n2,𝄞\"bé\"\n3,ascii\r\n";
+
+    public static final byte[] MALFORMED_BYTES = {
+            'a', (byte) 0x80, 'b', (byte) 0xC0, (byte) 0xAF, 'c',
+            (byte) 0xE0, (byte) 0x80, (byte) 0x80, 'd', (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'e',
+            (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, 'f', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'g',
+            (byte) 0xF5, 'h', (byte) 0xE2, (byte) 0x82
+    };
+
+    @Test
+    public void read_valid_utf8_test() throws AutomationUnitTestException {
+        verifyRead(VALID_CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_malformed_utf8_test() throws AutomationUnitTestException {
+        verifyRead(MALFORMED_BYTES);
+    }
+
+    @Test
+    public void read_after_close_negative_test() {
+        boolean isException = false;
+        Utf8Reader reader = new Utf8Reader(new ByteArrayInputStream(new byte[] {'a'}));
+
+        try {
+            reader.close();
+            reader.read();
+        } catch (IOException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when trying to read from closed reader",
+                "Verify that exception appear when trying to read from closed reader");
+    }
+
+    private void verifyRead(byte[] bytes) throws AutomationUnitTestException {
+        String expected = new String(bytes, StandardCharsets.UTF_8);
+
+        // Small buffers split chars between bytes buffer fills and between read calls
+        for (int bytesBufferSize = 1; bytesBufferSize <= 6; bytesBufferSize++) {
+            for (int charsBufferSize = 1; charsBufferSize <= 3; charsBufferSize++) {
+                String content = read(bytes, bytesBufferSize, charsBufferSize);
+
+                SoftAssertUnitTest.assertTrue(
+                        content.equals(expected),
+                        "Content [" + content + "] with bytes buffer size [" + bytesBufferSize
+                                + "] and chars buffer size [" + charsBufferSize
+                                + "] is different from expected content [" + expected + "]",
+                        "Verify content with bytes buffer size [" + bytesBufferSize
+                                + "] and chars buffer size [" + charsBufferSize + "]");
+            }
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private String read(byte[] bytes, int bytesBufferSize, int charsBufferSize) throws AutomationUnitTestException {
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[charsBufferSize];
+
+        try (Utf8Reader reader = new Utf8Reader(new ByteArrayInputStream(bytes), bytesBufferSize)) {
+            int length = reader.read(buffer, 0, buffer.length);
+
+            while (length != -1) {
+                content.append(buffer, 0, length);
+                length = reader.read(buffer, 0, buffer.length);
+            }
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        return content.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.etuzon.java.csv.sort;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.enums.SortTypeEnum;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvExternalSorterTest {
+    public static final String DIR_PATH = "src/test/resources/createCsv/";
+    public static final String TEMP_DIR_PATH = DIR_PATH + "sortRuns/";
+
+    public static final int ROWS_AMOUNT = 3000;
+    public static final long SMALL_MEMORY_SIZE = 16 * 1024;
+    public static final int PARALLELISM = 3;
+
+    // Sort by group ascending, then by value descending, then by name with custom comparator
+    public static final List<SortKey> SORT_KEYS = Arrays.asList(
+            new SortKey(1, SortTypeEnum.STRING, false),
+            new SortKey(2, SortTypeEnum.LONG, true),
+            new SortKey(3, String.CASE_INSENSITIVE_ORDER, false));
+
+    @BeforeClass
+    public void beforeClass() {
+        new File(TEMP_DIR_PATH).mkdirs();
+    }
+
+    @Test
+    public void sort_runs_in_files_test() throws AutomationUnitTestException {
+        List<List<String>> rows = createRows();
+        int runsAmount;
+
+        try (CsvExternalSorter sorter = new CsvExternalSorter(
+                SORT_KEYS, SMALL_MEMORY_SIZE, PARALLELISM, TEMP_DIR_PATH)) {
+
+            verifySortedRows(sorter, rows);
+            runsAmount = sorter.getRunsAmount();
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                runsAmount > CsvExternalSorter.MAX_MERGE_RUNS,
+                "Runs amount [" + runsAmount + "] should exceed merged runs amount ["
+                        + CsvExternalSorter.MAX_MERGE_RUNS + "]",
+                "Verify that runs are merged into larger runs before the last merge");
+        SoftAssertUnitTest.assertTrue(
+                new File(TEMP_DIR_PATH).list().length == 0,
+                "Run files should be deleted when sorter is closed",
+                "Verify that run files are deleted when sorter is closed");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void sort_rows_in_memory_test() throws AutomationUnitTestException {
+        try (CsvExternalSorter sorter = new CsvExternalSorter(
+                SORT_KEYS, CsvExternalSorter.DEFAULT_MAX_MEMORY_SIZE, PARALLELISM, TEMP_DIR_PATH)) {
+
+            verifySortedRows(sorter, createRows());
+
+            SoftAssertUnitTest.assertTrue(
+                    sorter.getRunsAmount() == 0,
+                    "Rows that fit into memory should not be written to run files",
+                    "Verify that rows that fit into memory are not written to run files");
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void add_row_with_invalid_typed_key_negative_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvExternalSorter sorter = new CsvExternalSorter(SORT_KEYS, SMALL_MEMORY_SIZE, 1, TEMP_DIR_PATH)) {
+            sorter.addRow(Arrays.asList("0", "a", "not a number", "name"));
+        } catch (NumberFormatException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Exception should appear when LONG sort key cell is not a number",
+                "Verify that exception appear when LONG sort key cell is not a number");
+    }
+
+    @Test
+    public void delete_run_files_after_failure_test() throws AutomationUnitTestException {
+        boolean isException = false;
+
+        try (CsvExternalSorter sorter = new CsvExternalSorter(
+                SORT_KEYS, SMALL_MEMORY_SIZE, PARALLELISM, TEMP_DIR_PATH)) {
+
+            for (List<String> row : createRows()) {
+                sorter.addRow(row);
+            }
+
+            sorter.addRow(Arrays.asList("0", "a", "not a number", "name"));
+        } catch (NumberFormatException e) {
+            isException = true;
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        SoftAssertUnitTest.assertTrue(
+                isException,
+                "Exception should appear when LONG sort key cell is not a number",
+                "Verify that exception appear when LONG sort key cell is not a number");
+        SoftAssertUnitTest.assertTrue(
+                new File(TEMP_DIR_PATH).list().length == 0,
+                "Run files should be deleted when sorter is closed after failure",
+                "Verify that run files are deleted when sorter is closed after failure");
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @AfterClass
+    public void afterClass() {
+        new File(TEMP_DIR_PATH).delete();
+        new File(DIR_PATH).delete();
+    }
+
+    private void verifySortedRows(CsvExternalSorter sorter, List<List<String>> rows) throws IOException {
+        for (List<String> row : rows) {
+            sorter.addRow(row);
+        }
+
+        List<List<String>> sortedRows = new ArrayList<>();
+        Iterator<List<String>> iterator = sorter.sort();
+
+        while (iterator.hasNext()) {
+            sortedRows.add(iterator.next());
+        }
+
+        // Expected rows are sorted by a stable in memory sort, so rows with same keys keep their sequence order
+        List<List<String>> expectedRows = new ArrayList<>(rows);
+        expectedRows.sort(Comparator
+                .comparing((List<String> row) -> row.get(1))
+                .thenComparing(row -> row.get(2).isEmpty() ? null : Long.valueOf(row.get(2)),
+                        Comparator.nullsFirst(Comparator.<Long>naturalOrder()).reversed())
+                .thenComparing(row -> row.get(3), String.CASE_INSENSITIVE_ORDER));
+
+        SoftAssertUnitTest.assertTrue(
+                sortedRows.equals(expectedRows),
+                "Sorted rows are different from expected stable sorted rows",
+                "Verify that rows are sorted and sort is stable");
+        SoftAssertUnitTest.assertTrue(
+                sorter.getRowsAmount() == rows.size(),
+                "Rows amount is [" + sorter.getRowsAmount() + "] and should be [" + rows.size() + "]",
+                "Verify that rows amount is [" + rows.size() + "]");
+    }
+
+    private List<List<String>> createRows() {
+        Random random = new Random(31);
+        List<List<String>> rows = new ArrayList<>();
+
+        for (int i = 0; i < ROWS_AMOUNT; i++) {
+            String value = random.nextInt(10) == 0 ? "" : String.valueOf(random.nextInt(20) - 10);
+            String name = random.nextBoolean() ? "Name\n" + random.nextInt(5) : "name\n" + random.nextInt(5);
+            rows.add(Arrays.asList(String.valueOf(i), "group ñ" + random.nextInt(4), value, name));
+        }
+
+        return rows;
+    }
+}
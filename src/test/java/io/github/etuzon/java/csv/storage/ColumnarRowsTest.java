@@ -0,0 +1,127 @@
+package io.github.etuzon.java.csv.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class ColumnarRowsTest {
+    public static final int MANY_ROWS_AMOUNT = 40000;
+    public static final int COLUMNS_AMOUNT = 3;
+
+    @Test
+    public void add_and_get_rows_test() throws AutomationUnitTestException {
+        List<List<String>> expectedRows = new ArrayList<>();
+        ColumnarRows rows = new ColumnarRows();
+
+        for (int i = 0; i < MANY_ROWS_AMOUNT; i++) {
+            List<String> row = Arrays.asList("a" + i, "b" + i, "c" + i);
+            expectedRows.add(row);
+            rows.add(row);
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                rows.size() == MANY_ROWS_AMOUNT,
+                "Columnar rows amount is [" + rows.size() + "] and should be [" + MANY_ROWS_AMOUNT + "]",
+                "Verify that columnar rows amount is [" + MANY_ROWS_AMOUNT + "]");
+        SoftAssertUnitTest.assertTrue(
+                rows.equals(expectedRows),
+                "Columnar rows are not equal to the added rows",
+                "Verify that columnar rows are equal to the added rows");
+        SoftAssertUnitTest.assertTrue(
+                rows.getColumnsAmount() == COLUMNS_AMOUNT,
+                "Columnar columns amount is [" + rows.getColumnsAmount()
+                        + "] and should be [" + COLUMNS_AMOUNT + "]",
+                "Verify that columnar columns amount is [" + COLUMNS_AMOUNT + "]");
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void get_column_test() throws AutomationUnitTestException {
+        List<String> expectedColumn = new ArrayList<>();
+        ColumnarRows rows = new ColumnarRows();
+
+        for (int i = 0; i < MANY_ROWS_AMOUNT; i++) {
+            expectedColumn.add("b" + i);
+            rows.add(Arrays.asList("a" + i, "b" + i));
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                rows.getColumn(1).equals(expectedColumn),
+                "Columnar column is not equal to the added cells",
+                "Verify that columnar column is equal to the added cells");
+    }
+
+    @Test
+    public void rows_with_different_sizes_test() throws AutomationUnitTestException {
+        ColumnarRows rows = new ColumnarRows();
+        rows.add(Arrays.asList("a"));
+        rows.add(Arrays.asList("b", "c", "d"));
+        rows.add(new ArrayList<>());
+
+        SoftAssertUnitTest.assertTrue(
+                rows.get(0).equals(Arrays.asList("a")),
+                "First columnar row is " + rows.get(0) + " and should be [a]",
+                "Verify that first columnar row is [a]");
+        SoftAssertUnitTest.assertTrue(
+                rows.get(1).equals(Arrays.asList("b", "c", "d")),
+                "Second columnar row is " + rows.get(1) + " and should be [b, c, d]",
+                "Verify that second columnar row is [b, c, d]");
+        SoftAssertUnitTest.assertTrue(
+                rows.get(2).isEmpty(),
+                "Third columnar row is " + rows.get(2) + " and should be empty",
+                "Verify that third columnar row is empty");
+        SoftAssertUnitTest.assertTrue(
+                rows.getCell(1, 2).equals("d"),
+                "Columnar cell in row index [1] and column index [2] is ["
+                        + rows.getCell(1, 2) + "] and should be [d]",
+                "Verify that columnar cell in row index [1] and column index [2] is [d]");
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void get_column_that_exceed_row_size_negative_test() throws AutomationUnitTestException {
+        ColumnarRows rows = new ColumnarRows();
+        rows.add(Arrays.asList("a", "b"));
+        rows.add(Arrays.asList("c"));
+
+        boolean isException = false;
+
+        try {
+            rows.getColumn(1);
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Get column that exceed row size should throw IndexOutOfBoundsException",
+                "Verify that get column that exceed row size throw IndexOutOfBoundsException");
+    }
+
+    @Test
+    public void get_cell_that_exceed_row_size_negative_test() throws AutomationUnitTestException {
+        ColumnarRows rows = new ColumnarRows();
+        rows.add(Arrays.asList("a", "b"));
+        rows.add(Arrays.asList("c"));
+
+        boolean isException = false;
+
+        try {
+            rows.get(1).get(1);
+        } catch (IndexOutOfBoundsException e) {
+            isException = true;
+        }
+
+        SoftAssertUnitTest.assertTrueNow(
+                isException,
+                "Get cell that exceed row size should throw IndexOutOfBoundsException",
+                "Verify that get cell that exceed row size throw IndexOutOfBoundsException");
+    }
+}
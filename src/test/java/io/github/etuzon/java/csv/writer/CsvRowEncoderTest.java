@@ -0,0 +1,96 @@
+package io.github.etuzon.java.csv.writer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.github.etuzon.java.csv.parser.CsvParser;
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class CsvRowEncoderTest {
+    public static final int SMALL_BUFFER_SIZE = 4;
+    public static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @Test
+    public void encode_plain_row_test() throws AutomationUnitTestException {
+        verifyEncodedRow(Arrays.asList("a", "", "bcd"), ',', "a,,bcd" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void encode_complex_cells_test() throws AutomationUnitTestException {
+        verifyEncodedRow(
+                Arrays.asList("a\"b", "c,d", "e\nf", "g\rh", "\"\""),
+                ',',
+                "\"a\"\"b\",\"c,d\",\"e\nf\",\"g\rh\",\"\"\"\"\"\"" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void encode_with_tab_splitter_test() throws AutomationUnitTestException {
+        verifyEncodedRow(Arrays.asList("a,b", "c\td"), '\t', "a,b\t\"c\td\"" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void encode_and_parse_rows_test() throws AutomationUnitTestException {
+        List<List<String>> expectedRows = Arrays.asList(
+                Arrays.asList("cell longer than buffer", "x\"y\"z", ""),
+                Arrays.asList("multi\nline", "plain", "a,b"));
+
+        for (int bufferSize : new int[] { CsvRowEncoder.DEFAULT_BUFFER_SIZE, SMALL_BUFFER_SIZE }) {
+            StringWriter writer = new StringWriter();
+            List<List<String>> rows = new ArrayList<>();
+
+            try (CsvRowEncoder encoder = new CsvRowEncoder(writer, ',', bufferSize)) {
+                for (List<String> row : expectedRows) {
+                    encoder.writeRow(row);
+                }
+            } catch (IOException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            try (CsvParser parser = new CsvParser(new StringReader(writer.toString()), ',')) {
+                for (List<String> row = parser.nextRow(); row != null; row = parser.nextRow()) {
+                    rows.add(row);
+                }
+            } catch (IOException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    rows.equals(expectedRows),
+                    "Parsed rows " + rows + " are different from encoded rows " + expectedRows
+                            + " with buffer size [" + bufferSize + "]",
+                    "Verify that parsed rows are equal to encoded rows with buffer size [" + bufferSize + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private void verifyEncodedRow(
+            List<String> row, char cellsSplitter, String expected) throws AutomationUnitTestException {
+
+        for (int bufferSize : new int[] { CsvRowEncoder.DEFAULT_BUFFER_SIZE, SMALL_BUFFER_SIZE }) {
+            StringWriter writer = new StringWriter();
+
+            try (CsvRowEncoder encoder = new CsvRowEncoder(writer, cellsSplitter, bufferSize)) {
+                encoder.writeRow(row);
+            } catch (IOException e) {
+                throw new AutomationUnitTestException(e);
+            }
+
+            SoftAssertUnitTest.assertTrue(
+                    writer.toString().equals(expected),
+                    "Encoded row of " + row + " is [" + writer + "] and should be [" + expected
+                            + "] with buffer size [" + bufferSize + "]",
+                    "Verify that encoded row of " + row + " is [" + expected
+                            + "] with buffer size [" + bufferSize + "]");
+        }
+
+        SoftAssertUnitTest.assertAll();
+    }
+}
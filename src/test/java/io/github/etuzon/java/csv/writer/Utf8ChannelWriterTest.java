@@ -0,0 +1,69 @@
+package io.github.etuzon.java.csv.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import io.github.etuzon.unit.tests.asserts.SoftAssertUnitTest;
+import io.github.etuzon.unit.tests.exceptions.AutomationUnitTestException;
+
+public class Utf8ChannelWriterTest {
+    public static final String FILE_PATH = "src/test/resources/utf8ChannelWriter.txt";
+    public static final int SMALL_BUFFER_SIZE = 5;
+    public static final long PREALLOCATE_SIZE = 4096;
+    public static final String[] TEXT_PARTS = {
+            "plain ascii,", "été שלום", " €中", "\ud83d",
+            "\ude00 smile", "\ud800x", "\udc00", "end\ud83d" };
+
+    @AfterMethod
+    public void afterMethod() {
+        new File(FILE_PATH).delete();
+    }
+
+    @Test
+    public void write_via_file_channel_test() throws AutomationUnitTestException {
+        verifyWrite(Utf8ChannelWriter.DEFAULT_BUFFER_SIZE, false, 0);
+        verifyWrite(SMALL_BUFFER_SIZE, false, 0);
+        verifyWrite(SMALL_BUFFER_SIZE, false, PREALLOCATE_SIZE);
+        SoftAssertUnitTest.assertAll();
+    }
+
+    @Test
+    public void write_via_memory_mapped_file_test() throws AutomationUnitTestException {
+        verifyWrite(Utf8ChannelWriter.DEFAULT_BUFFER_SIZE, true, 0);
+        verifyWrite(SMALL_BUFFER_SIZE, true, PREALLOCATE_SIZE);
+        SoftAssertUnitTest.assertAll();
+    }
+
+    private void verifyWrite(
+            int bufferSize, boolean isMemoryMapped, long preallocateSize) throws AutomationUnitTestException {
+
+        byte[] expected = String.join("", TEXT_PARTS).getBytes(StandardCharsets.UTF_8);
+        byte[] result;
+
+        try {
+            try (Utf8ChannelWriter writer = Utf8ChannelWriter.open(
+                    FILE_PATH, bufferSize, isMemoryMapped, preallocateSize)) {
+                for (String part : TEXT_PARTS) {
+                    writer.write(part);
+                }
+            }
+
+            result = Files.readAllBytes(new File(FILE_PATH).toPath());
+        } catch (IOException e) {
+            throw new AutomationUnitTestException(e);
+        }
+
+        String description = "buffer size [" + bufferSize + "], memory mapped [" + isMemoryMapped
+                + "] and preallocate size [" + preallocateSize + "]";
+        SoftAssertUnitTest.assertTrue(
+                Arrays.equals(result, expected),
+                "Written bytes are different from UTF-8 bytes of the text with " + description,
+                "Verify that written bytes are UTF-8 bytes of the text with " + description);
+    }
+}